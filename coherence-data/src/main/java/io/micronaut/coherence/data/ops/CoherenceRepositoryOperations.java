@@ -17,11 +17,12 @@ package io.micronaut.coherence.data.ops;
 
 import com.tangosol.net.NamedMap;
 import io.micronaut.data.operations.async.AsyncCapableRepository;
+import io.micronaut.data.operations.reactive.ReactorReactiveCapableRepository;
 
 /**
  * Exposes {@code repository} operations specific to Coherence.
  */
-public interface CoherenceRepositoryOperations extends AsyncCapableRepository {
+public interface CoherenceRepositoryOperations extends AsyncCapableRepository, ReactorReactiveCapableRepository {
 
     /**
      * Obtain the {@link NamedMap} associated with this {@code repository}.
@@ -45,4 +46,12 @@ public interface CoherenceRepositoryOperations extends AsyncCapableRepository {
      * @return the id associated with the specified entity
      */
     <ID, T> ID getId(T entity);
+
+    /**
+     * Obtain the {@link CoherenceReactiveRepositoryOperations} associated with this {@code repository}.
+     *
+     * @return the {@link CoherenceReactiveRepositoryOperations} associated this this {@code repository}
+     */
+    @Override
+    CoherenceReactiveRepositoryOperations reactive();
 }
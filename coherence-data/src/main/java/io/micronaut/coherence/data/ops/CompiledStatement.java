@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.coherence.config.ResolvableParameterList;
+import com.tangosol.coherence.dslquery.CohQLException;
+import com.tangosol.coherence.dslquery.ExecutionContext;
+import com.tangosol.coherence.dslquery.Statement;
+import com.tangosol.coherence.dslquery.StatementBuilder;
+import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
+import com.tangosol.coherence.dsltools.termtrees.Term;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A CohQL statement that has been parsed once and is bound to new parameter values
+ * each time it is executed.
+ * <p>Parsing a CohQL statement is considerably more expensive than binding its parameters,
+ * so repositories compile each generated query the first time it is executed and reuse
+ * the parsed statement for subsequent executions. The statement does not capture the
+ * query parameter bindings, as different repository methods may generate the same query
+ * text with their parameters at different positions, so the bind variables are resolved
+ * from each {@link io.micronaut.data.model.runtime.PreparedQuery} as it is executed.</p>
+ */
+final class CompiledStatement {
+
+    /**
+     * The CohQL query text, with the entity target replaced by the map name.
+     */
+    private final String query;
+
+    /**
+     * The parsed query.
+     */
+    private final NodeTerm term;
+
+    /**
+     * The builder that creates executable statements from the parsed query.
+     */
+    private final StatementBuilder<?> builder;
+
+    /**
+     * The query compiled for native execution, or {@code null} if the query must be executed as CohQL.
+     */
+    private final NativeQuery nativeQuery;
+
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Constructs a new {@link CompiledStatement}.
+     *
+     * @param query the CohQL query text
+     * @param term the parsed query
+     * @param builder the builder that creates executable statements from the parsed query
+     * @param nativeQuery the query compiled for native execution, or {@code null}
+     */
+    private CompiledStatement(String query, NodeTerm term, StatementBuilder<?> builder, NativeQuery nativeQuery) {
+        this.query = query;
+        this.term = term;
+        this.builder = builder;
+        this.nativeQuery = nativeQuery;
+    }
+
+    // ----- public methods -------------------------------------------------
+
+    /**
+     * Parses the specified CohQL query.
+     *
+     * @param context the {@link ExecutionContext}
+     * @param query the CohQL query text
+     * @param mapName the name of the {@link com.tangosol.net.NamedMap} the query targets
+     * @param nativeExecution {@code true} to compile the query for native execution, if possible
+     *
+     * @return the compiled statement
+     *
+     * @throws CohQLException if the query is not a valid CohQL statement
+     */
+    static CompiledStatement compile(ExecutionContext context, String query, String mapName,
+                                     boolean nativeExecution) {
+        Term term = context.instantiateParser(new StringReader(query)).parse();
+        if (!(term instanceof NodeTerm nodeTerm)) {
+            throw new CohQLException("Unable to parse query: " + query);
+        }
+        StatementBuilder<?> builder = context.getCoherenceQueryLanguage().getStatementBuilder(nodeTerm.getFunctor());
+        if (builder == null) {
+            throw new CohQLException("Unknown translation tree: " + nodeTerm.getFunctor());
+        }
+        NativeQuery nativeQuery = nativeExecution ? NativeQuery.compile(query, mapName, nodeTerm) : null;
+        return new CompiledStatement(query, nodeTerm, builder, nativeQuery);
+    }
+
+    /**
+     * Return the CohQL query text.
+     *
+     * @return the CohQL query text
+     */
+    String getQuery() {
+        return query;
+    }
+
+    /**
+     * Return the query compiled for native execution.
+     *
+     * @return the query compiled for native execution, or {@code null} if the query
+     *         must be executed as a CohQL statement
+     */
+    NativeQuery getNativeQuery() {
+        return nativeQuery;
+    }
+
+    /**
+     * Creates an executable statement bound to the specified bind variables.
+     *
+     * @param context the {@link ExecutionContext}
+     * @param bindings the values of the bind variables keyed by name
+     *
+     * @return a CohQL statement ready for execution
+     */
+    Statement bind(ExecutionContext context, Map<String, Object> bindings) {
+        return builder.realize(context, term, Collections.emptyList(), new ResolvableParameterList(bindings));
+    }
+}
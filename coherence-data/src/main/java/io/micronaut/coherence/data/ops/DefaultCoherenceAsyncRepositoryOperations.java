@@ -17,8 +17,9 @@ package io.micronaut.coherence.data.ops;
 
 import com.tangosol.coherence.dslquery.ExecutionContext;
 import com.tangosol.coherence.dslquery.Statement;
-import com.tangosol.coherence.dslquery.StatementResult;
 import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filters;
 import com.tangosol.util.Processors;
 import io.micronaut.coherence.data.annotation.AsyncPersistEventSource;
 import io.micronaut.coherence.data.annotation.AsyncRemoveEventSource;
@@ -28,6 +29,7 @@ import io.micronaut.context.annotation.Prototype;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.data.exceptions.EmptyResultException;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
 import io.micronaut.data.model.runtime.InsertBatchOperation;
@@ -37,10 +39,13 @@ import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.UpdateOperation;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 /**
@@ -57,11 +62,6 @@ class DefaultCoherenceAsyncRepositoryOperations
      */
     private static final Executor SAME_THREAD_EXECUTOR = Runnable::run;
 
-    /**
-     * Paging queries not supported message.
-     */
-    private static final String PAGING_QUERIES_ARE_NOT_SUPPORTED = "paging queries are not supported";
-
     /**
      * The associated {@link DefaultCoherenceRepositoryOperations}.
      */
@@ -160,13 +160,13 @@ class DefaultCoherenceAsyncRepositoryOperations
     @NonNull
     @Override
     public <T> CompletionStage<Iterable<T>> findAll(final PagedQuery<T> pagedQuery) {
-        throw new UnsupportedOperationException(PAGING_QUERIES_ARE_NOT_SUPPORTED);
+        return findPageContent(pagedQuery).thenApply(content -> content);
     }
 
     @NonNull
     @Override
     public <T> CompletionStage<Long> count(final PagedQuery<T> pagedQuery) {
-        throw new UnsupportedOperationException(PAGING_QUERIES_ARE_NOT_SUPPORTED);
+        return getAsyncNamedMap().aggregate(Filters.always(), Aggregators.count()).thenApply(Integer::longValue);
     }
 
     @NonNull
@@ -244,7 +244,10 @@ class DefaultCoherenceAsyncRepositoryOperations
     @NonNull
     @Override
     public <R> CompletionStage<Page<R>> findPage(@NonNull final PagedQuery<R> pagedQuery) {
-        throw new UnsupportedOperationException(PAGING_QUERIES_ARE_NOT_SUPPORTED);
+        // count in parallel with fetching the page
+        CompletionStage<Long> total = count(pagedQuery);
+        return findPageContent(pagedQuery)
+                .thenCombine(total, (content, count) -> Page.of(content, pagedQuery.getPageable(), count));
     }
 
     // ----- helper methods ---------------------------------------------
@@ -256,9 +259,28 @@ class DefaultCoherenceAsyncRepositoryOperations
         return asyncNamedMap;
     }
 
+    private <T> CompletionStage<List<T>> findPageContent(PagedQuery<T> pagedQuery) {
+        Pageable pageable = pagedQuery.getPageable();
+        Comparator comparator = Paging.comparator(pageable.getSort(),
+                repositoryOperations.identityName(pagedQuery.getRootEntity()));
+        CompletableFuture entries = ensureAsyncMap()
+                .entrySet(Paging.limit(Filters.always(), pageable, comparator), comparator);
+        return entries.thenApply(set -> Paging.values((Set<Map.Entry>) set));
+    }
+
     private CompletionStage<?> executeAsync(PreparedQuery preparedQuery) {
         ExecutionContext ctx = repositoryOperations.ensureExecutionContext();
+        CompiledStatement compiled = repositoryOperations.compileStatement(ctx, preparedQuery);
+        NativeQuery nativeQuery = compiled.getNativeQuery();
+        if (nativeQuery != null) {
+            Map<String, Object> bindings = repositoryOperations.createBindingMap(preparedQuery);
+            repositoryOperations.logNativeQuery(nativeQuery, compiled.getQuery(), bindings);
+            Pageable pageable = preparedQuery.getPageable();
+            return nativeQuery.executeAsync(getAsyncNamedMap(), ctx, bindings, pageable,
+                    repositoryOperations.comparator(pageable, preparedQuery.getRootEntity()));
+        }
         Statement statement = repositoryOperations.createStatement(ctx, preparedQuery);
-        return statement.executeAsync(ctx).thenApply(StatementResult::getResult);
+        return statement.executeAsync(ctx)
+                .thenApply(result -> repositoryOperations.page(result.getResult(), preparedQuery));
     }
 }
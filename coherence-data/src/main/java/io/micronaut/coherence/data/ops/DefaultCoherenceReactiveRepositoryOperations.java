@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.coherence.dslquery.ExecutionContext;
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.Service;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.context.annotation.Prototype;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.runtime.DeleteBatchOperation;
+import io.micronaut.data.model.runtime.DeleteOperation;
+import io.micronaut.data.model.runtime.InsertBatchOperation;
+import io.micronaut.data.model.runtime.InsertOperation;
+import io.micronaut.data.model.runtime.PagedQuery;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.model.runtime.UpdateOperation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Concrete {@link CoherenceReactiveRepositoryOperations} implementation using
+ * a {@code Coherence} {@link AsyncNamedMap}.
+ * <p>Entity and single property queries against a partitioned map emit results as the
+ * {@link AsyncNamedMap} streaming callbacks deliver them, a batch of partitions at a time
+ * as the subscriber requests more. All other operations are performed by the associated
+ * {@link CoherenceAsyncRepositoryOperations}, so that entity events are raised in the same
+ * way as for asynchronous repositories.</p>
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+@Prototype
+class DefaultCoherenceReactiveRepositoryOperations
+        implements CoherenceReactiveRepositoryOperations {
+
+    /**
+     * The associated {@link DefaultCoherenceRepositoryOperations}.
+     */
+    private final DefaultCoherenceRepositoryOperations repositoryOperations;
+
+    // ----- constructors -----------------------------------------------
+
+    /**
+     * Constructs a new {@link DefaultCoherenceReactiveRepositoryOperations}.
+     *
+     * @param repositoryOperations the {@link DefaultCoherenceRepositoryOperations}
+     */
+    DefaultCoherenceReactiveRepositoryOperations(@Parameter final DefaultCoherenceRepositoryOperations repositoryOperations) {
+        this.repositoryOperations = repositoryOperations;
+    }
+
+    // ----- CoherenceReactiveRepositoryOperations ----------------------
+
+    @Override
+    public <ID, T> AsyncNamedMap<ID, T> getAsyncNamedMap() {
+        return async().getAsyncNamedMap();
+    }
+
+    @Override
+    public <ID, T> ID getId(final T entity) {
+        return repositoryOperations.getId(entity);
+    }
+
+    // ----- ReactiveRepositoryOperations -------------------------------
+
+    @NonNull
+    @Override
+    public <T> Mono<T> findOne(@NonNull final Class<T> type, @NonNull final Object id) {
+        return findOptional(type, id);
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<Boolean> exists(@NonNull final PreparedQuery<T, Boolean> preparedQuery) {
+        return Mono.fromCompletionStage(() -> async().exists(preparedQuery));
+    }
+
+    @NonNull
+    @Override
+    public <T, R> Mono<R> findOne(@NonNull final PreparedQuery<T, R> preparedQuery) {
+        return findOptional(preparedQuery);
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<T> findOptional(@NonNull final Class<T> type, @NonNull final Object id) {
+        return Mono.fromCompletionStage(() -> async().findOptional(type, id));
+    }
+
+    @NonNull
+    @Override
+    public <T, R> Mono<R> findOptional(@NonNull final PreparedQuery<T, R> preparedQuery) {
+        return Mono.fromCompletionStage(() -> async().findOptional(preparedQuery));
+    }
+
+    @NonNull
+    @Override
+    public <T> Flux<T> findAll(@NonNull final PagedQuery<T> pagedQuery) {
+        return Mono.fromCompletionStage(() -> async().findAll(pagedQuery)).flatMapIterable(iterable -> iterable);
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<Long> count(@NonNull final PagedQuery<T> pagedQuery) {
+        return Mono.fromCompletionStage(() -> async().count(pagedQuery));
+    }
+
+    @NonNull
+    @Override
+    public <R> Mono<Page<R>> findPage(@NonNull final PagedQuery<R> pagedQuery) {
+        return Mono.fromCompletionStage(() -> async().findPage(pagedQuery));
+    }
+
+    @NonNull
+    @Override
+    public <T, R> Flux<R> findAll(@NonNull final PreparedQuery<T, R> preparedQuery) {
+        return Flux.defer(() -> {
+            ExecutionContext ctx = repositoryOperations.ensureExecutionContext();
+            CompiledStatement compiled = repositoryOperations.compileStatement(ctx, preparedQuery);
+            NativeQuery nativeQuery = compiled.getNativeQuery();
+            Service service = repositoryOperations.ensureNamedMap().getService();
+            if (nativeQuery != null && nativeQuery.isStreamable()
+                    && !Paging.isPagedOrSorted(preparedQuery.getPageable())
+                    && service instanceof DistributedCacheService distributedService) {
+                Map<String, Object> bindings = repositoryOperations.createBindingMap(preparedQuery);
+                repositoryOperations.logNativeQuery(nativeQuery, compiled.getQuery(), bindings);
+                return (Flux<R>) PartitionedFlux.of(getAsyncNamedMap(), nativeQuery.filter(ctx, bindings),
+                        nativeQuery.getExtractor(), distributedService.getPartitionCount(),
+                        DefaultCoherenceRepositoryOperations.STREAM_PARTITIONS);
+            }
+            return Mono.fromCompletionStage(async().findAll(preparedQuery)).flatMapIterable(iterable -> iterable);
+        });
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<T> persist(@NonNull final InsertOperation<T> operation) {
+        return Mono.fromCompletionStage(() -> async().persist(operation));
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<T> update(@NonNull final UpdateOperation<T> operation) {
+        return Mono.fromCompletionStage(() -> async().update(operation));
+    }
+
+    @NonNull
+    @Override
+    public <T> Flux<T> persistAll(@NonNull final InsertBatchOperation<T> operation) {
+        return Mono.fromCompletionStage(() -> async().persistAll(operation)).flatMapIterable(iterable -> iterable);
+    }
+
+    @NonNull
+    @Override
+    public Mono<Number> executeUpdate(@NonNull final PreparedQuery<?, Number> preparedQuery) {
+        return Mono.fromCompletionStage(() -> async().executeUpdate(preparedQuery));
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<Number> delete(@NonNull final DeleteOperation<T> operation) {
+        return Mono.fromCompletionStage(() -> async().delete(operation));
+    }
+
+    @NonNull
+    @Override
+    public <T> Mono<Number> deleteAll(@NonNull final DeleteBatchOperation<T> operation) {
+        return Mono.fromCompletionStage(() -> async().deleteAll(operation));
+    }
+
+    @Override
+    public ConversionService getConversionService() {
+        return repositoryOperations.getConversionService();
+    }
+
+    // ----- helper methods ---------------------------------------------
+
+    private CoherenceAsyncRepositoryOperations async() {
+        return (CoherenceAsyncRepositoryOperations) repositoryOperations.async();
+    }
+}
@@ -19,8 +19,11 @@ import com.oracle.coherence.common.base.Logger;
 import com.tangosol.coherence.dslquery.ExecutionContext;
 import com.tangosol.coherence.dslquery.Statement;
 import com.tangosol.net.Coherence;
+import com.tangosol.net.DistributedCacheService;
 import com.tangosol.net.NamedMap;
 import com.tangosol.net.Session;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filters;
 import com.tangosol.util.Processors;
 import com.tangosol.util.QueryHelper;
 import io.micronaut.coherence.data.annotation.PersistEventSource;
@@ -36,6 +39,7 @@ import io.micronaut.core.beans.BeanProperty;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.runtime.DeleteBatchOperation;
 import io.micronaut.data.model.runtime.DeleteOperation;
 import io.micronaut.data.model.runtime.InsertBatchOperation;
@@ -47,21 +51,22 @@ import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 import io.micronaut.data.model.runtime.UpdateOperation;
 import io.micronaut.data.operations.async.AsyncRepositoryOperations;
+import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -84,9 +89,30 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
     private static final boolean LOG_QUERIES = Boolean.getBoolean(LOG_QUERIES_PROPERTY);
 
     /**
-     * Paging queries not supported message.
+     * System property {@value}; set to {@code false} to execute all queries as CohQL statements
+     * rather than directly with filters, aggregators and entry processors.
      */
-    private static final String PAGING_QUERIES_ARE_NOT_SUPPORTED = "paging queries are not supported";
+    private static final String NATIVE_QUERIES_PROPERTY = "coherence.data.query.native";
+
+    /**
+     * Flag determining if queries may be executed natively.
+     *
+     * @see #NATIVE_QUERIES_PROPERTY
+     */
+    private static final boolean NATIVE_QUERIES =
+            Boolean.parseBoolean(System.getProperty(NATIVE_QUERIES_PROPERTY, "true"));
+
+    /**
+     * System property {@value}; the number of partitions queried at a time by {@code findStream}.
+     */
+    private static final String STREAM_PARTITIONS_PROPERTY = "coherence.data.query.stream.partitions";
+
+    /**
+     * The number of partitions queried at a time by {@code findStream}.
+     *
+     * @see #STREAM_PARTITIONS_PROPERTY
+     */
+    static final int STREAM_PARTITIONS = Integer.getInteger(STREAM_PARTITIONS_PROPERTY, 8);
 
     /**
      * The name of the {@link NamedMap}.  This is pulled from application configuration.
@@ -103,6 +129,12 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
      * obtain a reference to the entity ID for a given entity type.
      */
     private final ConcurrentMap<Class<?>, RuntimePersistentEntity> entities = new ConcurrentHashMap<>(5);
+
+    /**
+     * The parsed CohQL statements, keyed by the query generated by Micronaut and the root entity type.
+     */
+    private final ConcurrentMap<StatementKey, CompiledStatement> statements = new ConcurrentHashMap<>();
+
     private final ConversionService conversionService;
 
     /**
@@ -130,6 +162,11 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
      */
     private final CoherenceAsyncRepositoryOperations asyncOperations;
 
+    /**
+     * Associated {@link ReactiveRepositoryOperations}.
+     */
+    private final CoherenceReactiveRepositoryOperations reactiveOperations;
+
     /**
      * Associated {@link ApplicationContext}.
      */
@@ -156,6 +193,7 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
         this.conversionService = conversionService;
         this.beanContext = beanContext;
         this.asyncOperations = beanContext.createBean(DefaultCoherenceAsyncRepositoryOperations.class, this);
+        this.reactiveOperations = beanContext.createBean(DefaultCoherenceReactiveRepositoryOperations.class, this);
         this.applicationContext = applicationContext;
     }
 
@@ -205,6 +243,14 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
         return asyncOperations;
     }
 
+    // ----- ReactiveCapableRepository interface ----------------------------
+
+    @NonNull
+    @Override
+    public CoherenceReactiveRepositoryOperations reactive() {
+        return reactiveOperations;
+    }
+
     // ----- RepositoryOperations interface ---------------------------------
 
     @Nullable
@@ -238,12 +284,12 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
     @NonNull
     @Override
     public <T> Iterable<T> findAll(@NonNull final PagedQuery<T> query) {
-        throw new UnsupportedOperationException(PAGING_QUERIES_ARE_NOT_SUPPORTED);
+        return findPageContent(query);
     }
 
     @Override
     public <T> long count(final PagedQuery<T> pagedQuery) {
-        return getNamedMap().size();
+        return getNamedMap().aggregate(Filters.always(), Aggregators.count()).longValue();
     }
 
     @SuppressWarnings("unchecked")
@@ -261,9 +307,28 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
         throw new IllegalStateException("Unhandled type: " + result.getClass().getName());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Entity and single property queries against a partitioned map are executed a few
+     * partitions at a time as the stream is consumed, so the whole result is never held in
+     * memory. The stream should be closed if it is not fully consumed. Other queries, and
+     * paged or sorted queries, are executed in full before the stream is returned.</p>
+     */
     @NonNull
     @Override
     public <T, R> Stream<R> findStream(@NonNull final PreparedQuery<T, R> preparedQuery) {
+        ExecutionContext ctx = ensureExecutionContext();
+        CompiledStatement compiled = compileStatement(ctx, preparedQuery);
+        NativeQuery nativeQuery = compiled.getNativeQuery();
+        NamedMap map = getNamedMap();
+        if (nativeQuery != null && nativeQuery.isStreamable()
+                && !Paging.isPagedOrSorted(preparedQuery.getPageable())
+                && map.getService() instanceof DistributedCacheService service) {
+            Map<String, Object> bindings = createBindingMap(preparedQuery);
+            logNativeQuery(nativeQuery, compiled.getQuery(), bindings);
+            return (Stream<R>) PartitionedStream.of(map, nativeQuery.filter(ctx, bindings), nativeQuery.getExtractor(),
+                    service.getPartitionCount(), STREAM_PARTITIONS);
+        }
         Map m = (Map) executeInternal(preparedQuery);
         return m.values().stream();
     }
@@ -271,12 +336,15 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
     @NonNull
     @Override
     public <T> Stream<T> findStream(@NonNull final PagedQuery<T> query) {
-        throw new UnsupportedOperationException(PAGING_QUERIES_ARE_NOT_SUPPORTED);
+        return findPageContent(query).stream();
     }
 
     @Override
     public <R> Page<R> findPage(@NonNull final PagedQuery<R> query) {
-        throw new UnsupportedOperationException(PAGING_QUERIES_ARE_NOT_SUPPORTED);
+        // count in parallel with fetching the page
+        CompletableFuture<Integer> total = getNamedMap().async().aggregate(Filters.always(), Aggregators.count());
+        List<R> content = findPageContent(query);
+        return Page.of(content, query.getPageable(), total.join().longValue());
     }
 
     @NonNull
@@ -339,6 +407,8 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
 
     /**
      * Creates a CohQL statement based on the provided {@link PreparedQuery}.
+     * <p>The query is parsed the first time it is executed, subsequent executions
+     * only bind the parameter values to the parsed statement.</p>
      *
      * @param context the {@link ExecutionContext}
      * @param preparedQuery the {@link PreparedQuery} to create a CohQL statement from
@@ -346,16 +416,35 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
      * @return a CohQL statement ready for execution
      */
     Statement createStatement(ExecutionContext context, PreparedQuery preparedQuery) {
-        Map bindings = createBindingMap(preparedQuery);
-
-        String query = replaceTarget(preparedQuery.getQuery(), preparedQuery.getRootEntity());
-        Statement statement = QueryHelper.createStatement(query, context, bindings);
+        CompiledStatement compiled = compileStatement(context, preparedQuery);
+        Map<String, Object> bindings = createBindingMap(preparedQuery);
+        Statement statement = compiled.bind(context, bindings);
 
-        logQuery(context, statement, query, bindings);
+        logQuery(context, statement, compiled.getQuery(), bindings);
 
         return statement;
     }
 
+    /**
+     * Returns the parsed CohQL statement for the provided {@link PreparedQuery}, parsing
+     * it if this is the first time the query has been executed.
+     *
+     * @param context the {@link ExecutionContext}
+     * @param preparedQuery the {@link PreparedQuery} to parse
+     *
+     * @return the parsed CohQL statement
+     */
+    CompiledStatement compileStatement(ExecutionContext context, PreparedQuery preparedQuery) {
+        StatementKey key = new StatementKey(preparedQuery.getQuery(), preparedQuery.getRootEntity());
+        CompiledStatement compiled = statements.get(key);
+        if (compiled == null) {
+            String query = replaceTarget(key.query(), key.entityType());
+            compiled = statements.computeIfAbsent(key,
+                    k -> CompiledStatement.compile(context, query, getNamedMap().getName(), NATIVE_QUERIES));
+        }
+        return compiled;
+    }
+
     /**
      * Executes the provided {@link PreparedQuery}.
      *
@@ -365,8 +454,81 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
      */
     private Object executeInternal(PreparedQuery preparedQuery) {
         ExecutionContext ctx = ensureExecutionContext();
+        CompiledStatement compiled = compileStatement(ctx, preparedQuery);
+        NativeQuery nativeQuery = compiled.getNativeQuery();
+        if (nativeQuery != null) {
+            Map<String, Object> bindings = createBindingMap(preparedQuery);
+            logNativeQuery(nativeQuery, compiled.getQuery(), bindings);
+            Pageable pageable = preparedQuery.getPageable();
+            return nativeQuery.execute(getNamedMap(), ctx, bindings, pageable, comparator(pageable, preparedQuery.getRootEntity()));
+        }
         Statement statement = createStatement(ctx, preparedQuery);
-        return statement.execute(ctx).getResult();
+        return page(statement.execute(ctx).getResult(), preparedQuery);
+    }
+
+    /**
+     * Orders and pages the result of a {@link PreparedQuery} that was executed as a CohQL
+     * statement, as requested by its {@link Pageable}.
+     *
+     * @param result the result of the CohQL statement
+     * @param preparedQuery the executed {@link PreparedQuery}
+     *
+     * @return the requested page of the result, or the result itself if the query is neither
+     *         paged nor sorted, or does not return entities
+     */
+    Object page(Object result, PreparedQuery preparedQuery) {
+        Pageable pageable = preparedQuery.getPageable();
+        Class<?> entityType = preparedQuery.getRootEntity();
+        if (!Paging.isPagedOrSorted(pageable) || !entityType.equals(preparedQuery.getResultType())) {
+            return result;
+        }
+        return Paging.page(result, pageable, comparator(pageable, entityType));
+    }
+
+    /**
+     * Returns the requested page of entities, ordered by the {@link io.micronaut.data.model.Sort}
+     * of the {@link Pageable}.
+     *
+     * @param query the {@link PagedQuery}
+     *
+     * @param <T> the entity type
+     *
+     * @return the requested page of entities
+     */
+    private <T> List<T> findPageContent(PagedQuery<T> query) {
+        Pageable pageable = query.getPageable();
+        Comparator comparator = Paging.comparator(pageable.getSort(), identityName(query.getRootEntity()));
+        Set entries = getNamedMap().entrySet(Paging.limit(Filters.always(), pageable, comparator), comparator);
+        return Paging.values(entries);
+    }
+
+    /**
+     * Returns the {@link Comparator} that orders the entities of a paged or sorted query.
+     *
+     * @param pageable the {@link Pageable} of the query, which may be {@code null}
+     * @param entityType the entity type
+     *
+     * @return the {@link Comparator}, or {@code null} if the query is neither paged nor sorted
+     */
+    Comparator comparator(Pageable pageable, Class<?> entityType) {
+        return Paging.isPagedOrSorted(pageable)
+                ? Paging.comparator(pageable.getSort(), identityName(entityType))
+                : null;
+    }
+
+    /**
+     * Returns the name of the identity property of an entity type.
+     *
+     * @param entityType the entity type
+     *
+     * @return the name of the identity property
+     */
+    String identityName(Class<?> entityType) {
+        RuntimePersistentProperty identity = ensureMeta(entityType).getIdentity();
+        if (identity == null) {
+            throw new IllegalStateException("Entity " + entityType.getName() + " has no identity property");
+        }
+        return identity.getName();
     }
 
     /**
@@ -449,21 +611,13 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
      */
     protected Map<String, Object> createBindingMap(PreparedQuery preparedQuery) {
         List<QueryParameterBinding> bindings = preparedQuery.getQueryBindings();
-        int bindingsLen = bindings.size();
-        String[] bindingNames = new String[bindingsLen];
-        Integer[] bindingIndexes = new Integer[bindingsLen];
-
-        for (int i = 0; i < bindingsLen; i++) {
-            QueryParameterBinding binding = bindings.get(i);
-            bindingNames[i] = binding.getName();
-            bindingIndexes[i] = binding.getParameterIndex();
-        }
-
         Object[] bindingValues = preparedQuery.getParameterArray();
 
-        return IntStream.range(0, bindingNames.length).boxed()
-                .collect(Collectors.toMap(i -> bindingNames[i],
-                        i -> bindingValues[bindingIndexes[i]]));
+        Map<String, Object> bindingMap = new HashMap<>(bindings.size() * 2);
+        for (QueryParameterBinding binding : bindings) {
+            bindingMap.put(binding.getName(), bindingValues[binding.getParameterIndex()]);
+        }
+        return bindingMap;
     }
 
     /**
@@ -491,8 +645,31 @@ public class DefaultCoherenceRepositoryOperations implements CoherenceRepository
         }
     }
 
+    /**
+     * Logs the specified natively executed query and binding parameters.
+     *
+     * @param nativeQuery the {@link NativeQuery}
+     * @param query the query
+     * @param bindingParams the binding parameters
+     */
+    void logNativeQuery(NativeQuery nativeQuery, String query, Map<String, Object> bindingParams) {
+        if (LOG_QUERIES) {
+            Logger.info(String.format("### Query: %s; parameters: %s; executed natively as %s",
+                    query, bindingParams, nativeQuery.getKind()));
+        }
+    }
+
     @Override
     public ConversionService getConversionService() {
         return conversionService;
     }
+
+    /**
+     * The key of a parsed CohQL statement.
+     *
+     * @param query the query generated by Micronaut
+     * @param entityType the root entity type of the query
+     */
+    private record StatementKey(String query, Class<?> entityType) {
+    }
 }
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.coherence.config.ResolvableParameterList;
+import com.tangosol.coherence.dslquery.ExecutionContext;
+import com.tangosol.coherence.dslquery.FilterBuilder;
+import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
+import com.tangosol.coherence.dsltools.termtrees.Term;
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.NamedMap;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filter;
+import com.tangosol.util.Filters;
+import com.tangosol.util.Processors;
+import com.tangosol.util.ValueExtractor;
+import io.micronaut.data.model.Pageable;
+import com.tangosol.util.filter.LimitFilter;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A repository query that is executed directly against the {@link NamedMap} using
+ * {@link Filter filters}, {@link ValueExtractor extractors}, aggregators and, for
+ * deletes, entry processors, rather than by executing a CohQL statement.
+ * <p>The shape of the query (entity, count, exists, single property projection or delete)
+ * is determined once from the query generated by Micronaut, and the {@code WHERE} clause
+ * of the parsed CohQL statement is converted to a {@link Filter} with the bound parameter
+ * values on each execution. Queries with any other shape, for example those using
+ * {@code DISTINCT}, {@code GROUP BY} or {@code ORDER BY}, are not compiled and are executed
+ * as CohQL statements.</p>
+ * <p>Results have the same form as the equivalent CohQL statement result, a {@link Map} of
+ * keys to entities or projected values, a {@link Number} for counts and a {@link Map} for deletes.</p>
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class NativeQuery {
+
+    /**
+     * The pattern of an entity query, {@code SELECT alias FROM map AS alias}.
+     */
+    private static final Pattern ENTITY_QUERY =
+            Pattern.compile("^SELECT\\s+(\\w+)\\s+FROM\\s+\\S+\\s+AS\\s+\\1(\\s+WHERE\\s+.*)?$", Pattern.DOTALL);
+
+    /**
+     * The pattern of a count query, {@code SELECT COUNT(alias) FROM map AS alias}.
+     */
+    private static final Pattern COUNT_QUERY =
+            Pattern.compile("^SELECT\\s+COUNT\\(\\s*(\\w+)\\s*\\)\\s+FROM\\s+\\S+\\s+AS\\s+\\1(\\s+WHERE\\s+.*)?$", Pattern.DOTALL);
+
+    /**
+     * The pattern of an exists query, {@code SELECT FROM map AS alias}, once {@code TRUE} has been
+     * removed from the select list.
+     */
+    private static final Pattern EXISTS_QUERY =
+            Pattern.compile("^SELECT\\s+FROM\\s+\\S+\\s+AS\\s+(\\w+)(\\s+WHERE\\s+.*)?$", Pattern.DOTALL);
+
+    /**
+     * The pattern of a single property projection, {@code SELECT alias.property FROM map AS alias}.
+     */
+    private static final Pattern PROJECTION_QUERY =
+            Pattern.compile("^SELECT\\s+(\\w+)\\.([\\w.]+)\\s+FROM\\s+\\S+\\s+AS\\s+\\1(\\s+WHERE\\s+.*)?$", Pattern.DOTALL);
+
+    /**
+     * The pattern of a delete query, {@code DELETE FROM map AS alias}.
+     */
+    private static final Pattern DELETE_QUERY =
+            Pattern.compile("^DELETE\\s+FROM\\s+\\S+\\s+AS\\s+(\\w+)(\\s+WHERE\\s+.*)?$", Pattern.DOTALL);
+
+    /**
+     * The pattern of clauses that cannot be executed natively. Unlike the query patterns, which
+     * only match the upper case keywords Micronaut generates, this pattern ignores case so that
+     * a query is never compiled if it contains one of these clauses in any case.
+     */
+    private static final Pattern UNSUPPORTED_CLAUSES =
+            Pattern.compile("\\b(DISTINCT|GROUP\\s+BY|ORDER\\s+BY|HAVING|JOIN|UNION)\\b", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * The kind of query.
+     */
+    private final Kind kind;
+
+    /**
+     * The name of the {@link NamedMap} the query targets.
+     */
+    private final String mapName;
+
+    /**
+     * The alias used for the entity in the query.
+     */
+    private final String alias;
+
+    /**
+     * The {@code WHERE} clause of the parsed statement, or {@code null} if the query matches all entries.
+     */
+    private final Term where;
+
+    /**
+     * The extractor of a projection query, otherwise {@code null}.
+     */
+    private final ValueExtractor extractor;
+
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Constructs a new {@link NativeQuery}.
+     *
+     * @param kind the kind of query
+     * @param mapName the name of the {@link NamedMap} the query targets
+     * @param alias the alias used for the entity in the query
+     * @param where the {@code WHERE} clause of the parsed statement, or {@code null}
+     * @param extractor the extractor of a projection query, or {@code null}
+     */
+    private NativeQuery(Kind kind, String mapName, String alias, Term where, ValueExtractor extractor) {
+        this.kind = kind;
+        this.mapName = mapName;
+        this.alias = alias;
+        this.where = where;
+        this.extractor = extractor;
+    }
+
+    // ----- public methods -------------------------------------------------
+
+    /**
+     * Compiles a query so that it can be executed natively.
+     *
+     * @param query the CohQL query text, with the entity target replaced by the map name
+     * @param mapName the name of the {@link NamedMap} the query targets
+     * @param term the parsed query, or {@code null} to match all entries
+     *
+     * @return the compiled query, or {@code null} if the query cannot be executed natively
+     */
+    static NativeQuery compile(String query, String mapName, NodeTerm term) {
+        String trimmed = query.trim();
+        if (UNSUPPORTED_CLAUSES.matcher(trimmed).find()) {
+            return null;
+        }
+
+        Kind kind;
+        String alias;
+        ValueExtractor extractor = null;
+        Matcher matcher;
+        if ((matcher = ENTITY_QUERY.matcher(trimmed)).matches()) {
+            kind = Kind.ENTITIES;
+            alias = matcher.group(1);
+        } else if ((matcher = COUNT_QUERY.matcher(trimmed)).matches()) {
+            kind = Kind.COUNT;
+            alias = matcher.group(1);
+        } else if ((matcher = EXISTS_QUERY.matcher(trimmed)).matches()) {
+            kind = Kind.EXISTS;
+            alias = matcher.group(1);
+        } else if ((matcher = PROJECTION_QUERY.matcher(trimmed)).matches()) {
+            kind = Kind.PROJECTION;
+            alias = matcher.group(1);
+            extractor = Extractors.chained(matcher.group(2));
+        } else if ((matcher = DELETE_QUERY.matcher(trimmed)).matches()) {
+            kind = Kind.DELETE;
+            alias = matcher.group(1);
+        } else {
+            return null;
+        }
+
+        Term where = null;
+        if (term != null) {
+            Term clause = term.findChild("whereClause");
+            if (clause != null && clause.length() > 0) {
+                where = clause.termAt(1);
+            }
+        }
+        return new NativeQuery(kind, mapName, alias, where, extractor);
+    }
+
+    /**
+     * Return the kind of query.
+     *
+     * @return the kind of query
+     */
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Return the extractor of a projection query.
+     *
+     * @return the extractor of a projection query, otherwise {@code null}
+     */
+    ValueExtractor getExtractor() {
+        return extractor;
+    }
+
+    /**
+     * Returns {@code true} if the results of the query can be streamed a batch of partitions
+     * at a time, that is if the query returns entities or a projection.
+     *
+     * @return {@code true} if the results of the query can be streamed
+     */
+    boolean isStreamable() {
+        return kind == Kind.ENTITIES || kind == Kind.PROJECTION;
+    }
+
+    /**
+     * Executes the query against the specified {@link NamedMap}.
+     *
+     * @param map the {@link NamedMap} to query
+     * @param context the {@link ExecutionContext} used to resolve the {@code WHERE} clause
+     * @param bindings the values of the bind variables keyed by name
+     * @param pageable the {@link Pageable} of an entity query, or {@code null}
+     * @param comparator the {@link Comparator} that orders the entities of a paged or sorted
+     *                   entity query, or {@code null} if the query is neither paged nor sorted
+     *
+     * @return the result of the query, in the same form as the equivalent CohQL statement result
+     */
+    Object execute(NamedMap map, ExecutionContext context, Map<String, Object> bindings,
+                   Pageable pageable, Comparator comparator) {
+        Filter filter = filter(context, bindings);
+        return switch (kind) {
+            case ENTITIES -> comparator == null
+                    ? toMap(map.entrySet(filter))
+                    : toMap(map.entrySet(Paging.limit(filter, pageable, comparator), comparator));
+            case COUNT -> map.aggregate(filter, Aggregators.count());
+            case EXISTS -> toExistsMap(map.keySet(new LimitFilter(filter, 1)));
+            case PROJECTION -> map.aggregate(filter, Aggregators.reduce(extractor));
+            case DELETE -> map.invokeAll(filter, Processors.remove());
+        };
+    }
+
+    /**
+     * Executes the query against the specified {@link AsyncNamedMap}.
+     *
+     * @param map the {@link AsyncNamedMap} to query
+     * @param context the {@link ExecutionContext} used to resolve the {@code WHERE} clause
+     * @param bindings the values of the bind variables keyed by name
+     * @param pageable the {@link Pageable} of an entity query, or {@code null}
+     * @param comparator the {@link Comparator} that orders the entities of a paged or sorted
+     *                   entity query, or {@code null} if the query is neither paged nor sorted
+     *
+     * @return a future that completes with the result of the query, in the same form as
+     *         the equivalent CohQL statement result
+     */
+    CompletableFuture<Object> executeAsync(AsyncNamedMap map, ExecutionContext context, Map<String, Object> bindings,
+                                           Pageable pageable, Comparator comparator) {
+        Filter filter = filter(context, bindings);
+        CompletableFuture future = switch (kind) {
+            case ENTITIES -> (comparator == null
+                    ? map.entrySet(filter)
+                    : map.entrySet(Paging.limit(filter, pageable, comparator), comparator))
+                    .thenApply(entries -> toMap((Set<Map.Entry>) entries));
+            case COUNT -> map.aggregate(filter, Aggregators.count());
+            case EXISTS -> map.keySet(new LimitFilter(filter, 1)).thenApply(keys -> toExistsMap((Set) keys));
+            case PROJECTION -> map.aggregate(filter, Aggregators.reduce(extractor));
+            case DELETE -> map.invokeAll(filter, Processors.remove());
+        };
+        return future;
+    }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Creates the {@link Filter} for the {@code WHERE} clause with the specified bind variables.
+     *
+     * @param context the {@link ExecutionContext}
+     * @param bindings the values of the bind variables keyed by name
+     *
+     * @return the {@link Filter} for the {@code WHERE} clause
+     */
+    Filter filter(ExecutionContext context, Map<String, Object> bindings) {
+        if (where == null) {
+            return Filters.always();
+        }
+        List indexedBindVars = Collections.emptyList();
+        ResolvableParameterList namedBindVars = new ResolvableParameterList(bindings);
+        FilterBuilder builder = new FilterBuilder(indexedBindVars, namedBindVars, context.getCoherenceQueryLanguage());
+        builder.setAlias(alias);
+        return builder.makeFilterForCache(mapName, where, indexedBindVars, namedBindVars);
+    }
+
+    /**
+     * Copies a set of entries to a {@link Map}, preserving the order of the entries.
+     *
+     * @param entries the entries to copy
+     *
+     * @return the entries as a {@link Map}
+     */
+    private static Map toMap(Set<Map.Entry> entries) {
+        Map result = new LinkedHashMap<>(Math.max(16, entries.size() * 2));
+        for (Map.Entry entry : entries) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Converts the keys matched by an exists query to a {@link Map} that is
+     * empty if no entries matched.
+     *
+     * @param keys the matched keys
+     *
+     * @return a {@link Map} that is empty if no entries matched
+     */
+    private static Map toExistsMap(Set keys) {
+        return keys.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.singletonMap(keys.iterator().next(), Boolean.TRUE);
+    }
+
+    // ----- inner class: Kind ----------------------------------------------
+
+    /**
+     * The kinds of query that can be executed natively.
+     */
+    enum Kind {
+        /**
+         * Returns the matching entities.
+         */
+        ENTITIES,
+        /**
+         * Returns the number of matching entities using a count aggregator.
+         */
+        COUNT,
+        /**
+         * Returns whether any entity matches, stopping at the first match.
+         */
+        EXISTS,
+        /**
+         * Returns a single property of each matching entity using a reduce aggregator, without
+         * invoking an entry processor on, and so locking, each matching entry.
+         */
+        PROJECTION,
+        /**
+         * Removes the matching entities.
+         */
+        DELETE
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filter;
+import com.tangosol.util.comparator.ChainedComparator;
+import com.tangosol.util.comparator.ExtractorComparator;
+import com.tangosol.util.comparator.InverseComparator;
+import com.tangosol.util.comparator.SafeComparator;
+import com.tangosol.util.filter.LimitFilter;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helpers that execute {@link Pageable} queries one page at a time using a {@link LimitFilter}.
+ * <p>Entries are ordered by the {@link Sort} of the {@link Pageable}, with the entity identity
+ * as the final tie-breaker, so that pages are stable when the sort properties are not unique.
+ * The ordering is performed by the storage members, only the requested page is returned
+ * to the caller.</p>
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class Paging {
+
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Not instantiable.
+     */
+    private Paging() {
+    }
+
+    // ----- public methods -------------------------------------------------
+
+    /**
+     * Returns {@code true} if the specified {@link Pageable} requires paging or sorting.
+     *
+     * @param pageable the {@link Pageable}, which may be {@code null}
+     *
+     * @return {@code true} if the specified {@link Pageable} requires paging or sorting
+     */
+    static boolean isPagedOrSorted(Pageable pageable) {
+        return pageable != null && (pageable.isPaged() || pageable.isSorted());
+    }
+
+    /**
+     * Creates the {@link Filter} that selects the page of entries requested by a {@link Pageable}.
+     *
+     * @param filter the filter that selects all the entries
+     * @param pageable the {@link Pageable}
+     * @param comparator the {@link Comparator} that orders the entries
+     *
+     * @return a {@link LimitFilter} positioned at the requested page, or the specified filter
+     *         if the {@link Pageable} is not paged
+     */
+    static Filter limit(Filter filter, Pageable pageable, Comparator comparator) {
+        if (!pageable.isPaged()) {
+            return filter;
+        }
+        LimitFilter limitFilter = new LimitFilter(filter, pageable.getSize());
+        limitFilter.setComparator(comparator);
+        limitFilter.setPage(pageable.getNumber());
+        return limitFilter;
+    }
+
+    /**
+     * Creates the entity {@link Comparator} for a {@link Sort}.
+     *
+     * @param sort the {@link Sort}, which may be {@code null}
+     * @param identity the name of the identity property of the entity
+     *
+     * @return the entity {@link Comparator} for the {@link Sort}
+     */
+    static Comparator comparator(Sort sort, String identity) {
+        Comparator byIdentity = property(identity);
+        if (sort == null || !sort.isSorted()) {
+            return byIdentity;
+        }
+        List<Sort.Order> orders = sort.getOrderBy();
+        Comparator[] comparators = new Comparator[orders.size() + 1];
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            Comparator comparator = property(order.getProperty());
+            comparators[i] = order.isAscending() ? comparator : new InverseComparator(comparator);
+        }
+        comparators[orders.size()] = byIdentity;
+        return new ChainedComparator(comparators);
+    }
+
+    /**
+     * Creates a {@link Comparator} that orders entities by a property, with {@code null} values first.
+     *
+     * @param property the property path
+     *
+     * @return a {@link Comparator} that orders entities by the property
+     */
+    private static Comparator property(String property) {
+        return new SafeComparator(new ExtractorComparator(Extractors.chained(property)));
+    }
+
+    /**
+     * Orders and pages the entities of a query result that was not executed natively.
+     * <p>A CohQL statement cannot be ordered or limited, so the entities selected by the
+     * statement are ordered and paged by the caller.</p>
+     *
+     * @param result the result of the query, results other than a {@link Map} of entities
+     *               are returned unchanged
+     * @param pageable the {@link Pageable}
+     * @param comparator the {@link Comparator} that orders the entities
+     *
+     * @return the requested page of the result, in sort order
+     */
+    static Object page(Object result, Pageable pageable, Comparator comparator) {
+        if (!(result instanceof Map map)) {
+            return result;
+        }
+        List<Map.Entry> entries = new ArrayList<>(map.entrySet());
+        entries.sort((e1, e2) -> comparator.compare(e1.getValue(), e2.getValue()));
+        int from = 0;
+        int to = entries.size();
+        if (pageable.isPaged()) {
+            from = (int) Math.min(pageable.getOffset(), to);
+            to = Math.min(from + pageable.getSize(), to);
+        }
+        Map page = new LinkedHashMap(Math.max((to - from) * 2, 16));
+        for (Map.Entry entry : entries.subList(from, to)) {
+            page.put(entry.getKey(), entry.getValue());
+        }
+        return page;
+    }
+
+    /**
+     * Returns the values of an ordered set of entries.
+     *
+     * @param entries the entries
+     * @param <T> the value type
+     *
+     * @return the values of the entries, in the same order
+     */
+    static <T> List<T> values(Set<Map.Entry> entries) {
+        List<T> values = new ArrayList<>(entries.size());
+        for (Map.Entry entry : entries) {
+            values.add((T) entry.getValue());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.partition.PartitionSet;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.filter.PartitionedFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Emits the results of a query as the {@link AsyncNamedMap} streaming callbacks deliver them,
+ * querying a batch of partitions at a time.
+ * <p>The query for the next batch of partitions is only sent once the previous batch has
+ * completed and the subscriber has outstanding demand, so at most one batch of results is
+ * buffered for a slow subscriber.</p>
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class PartitionedFlux {
+
+    /**
+     * The map to query.
+     */
+    private final AsyncNamedMap map;
+
+    /**
+     * The filter that selects the entries.
+     */
+    private final Filter filter;
+
+    /**
+     * The extractor applied to each selected entry, or {@code null} to emit the entry values.
+     */
+    private final ValueExtractor extractor;
+
+    /**
+     * The batches of partitions to query.
+     */
+    private final List<PartitionSet> batches;
+
+    /**
+     * The sink to emit results to.
+     */
+    private final FluxSink<Object> sink;
+
+    /**
+     * A flag indicating whether a query is in flight.
+     */
+    private final AtomicBoolean querying = new AtomicBoolean();
+
+    /**
+     * The index of the next batch of partitions to query.
+     */
+    private int next;
+
+    /**
+     * The query in flight, or {@code null}.
+     */
+    private volatile CompletableFuture<Void> inFlight;
+
+    /**
+     * A flag indicating whether the subscriber has cancelled.
+     */
+    private volatile boolean cancelled;
+
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Constructs a new {@link PartitionedFlux}.
+     *
+     * @param map the map to query
+     * @param filter the filter that selects the entries
+     * @param extractor the extractor applied to each selected entry, or {@code null}
+     * @param batches the batches of partitions to query
+     * @param sink the sink to emit results to
+     */
+    private PartitionedFlux(AsyncNamedMap map, Filter filter, ValueExtractor extractor,
+                            List<PartitionSet> batches, FluxSink<Object> sink) {
+        this.map = map;
+        this.filter = filter;
+        this.extractor = extractor;
+        this.batches = batches;
+        this.sink = sink;
+    }
+
+    // ----- public methods -------------------------------------------------
+
+    /**
+     * Creates a {@link Flux} of the values, or extracted values, of the entries selected by a filter.
+     *
+     * @param map the map to query
+     * @param filter the filter that selects the entries
+     * @param extractor the extractor applied to each selected entry, or {@code null} to emit the entry values
+     * @param partitionCount the number of partitions of the map's service
+     * @param partitionsPerBatch the number of partitions to query at a time
+     *
+     * @return a {@link Flux} of the query results
+     */
+    static Flux<Object> of(AsyncNamedMap map, Filter filter, ValueExtractor extractor,
+                           int partitionCount, int partitionsPerBatch) {
+        List<PartitionSet> batches = PartitionedStream.batches(partitionCount, partitionsPerBatch);
+        return Flux.create(sink -> {
+            PartitionedFlux flux = new PartitionedFlux(map, filter, extractor, batches, sink);
+            sink.onCancel(flux::cancel);
+            sink.onRequest(n -> flux.drain());
+        }, FluxSink.OverflowStrategy.BUFFER);
+    }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Sends the query for the next batch of partitions if no query is in flight and the
+     * subscriber has outstanding demand, or completes the sink once all batches have been queried.
+     */
+    private void drain() {
+        if (cancelled || !querying.compareAndSet(false, true)) {
+            return;
+        }
+        if (next >= batches.size()) {
+            sink.complete();
+            return;
+        }
+        if (sink.requestedFromDownstream() <= 0) {
+            querying.set(false);
+            if (sink.requestedFromDownstream() > 0) {
+                // demand arrived while the flag was held
+                drain();
+            }
+            return;
+        }
+
+        Filter partitioned = new PartitionedFilter(filter, batches.get(next++));
+        CompletableFuture<Void> future;
+        try {
+            if (extractor == null) {
+                Consumer<Map.Entry> callback = entry -> sink.next(entry.getValue());
+                future = map.entrySet(partitioned, callback);
+            } else {
+                CompletableFuture<Map> results = map.aggregate(partitioned, Aggregators.reduce(extractor));
+                future = results.thenAccept(values -> values.values().forEach(sink::next));
+            }
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+        inFlight = future;
+        if (cancelled) {
+            // the subscriber cancelled while the query was being sent, before it could see the future
+            future.cancel(false);
+        }
+        future.whenComplete((unused, error) -> {
+            inFlight = null;
+            if (error != null) {
+                if (!cancelled) {
+                    cancelled = true;
+                    sink.error(error);
+                }
+                return;
+            }
+            querying.set(false);
+            drain();
+        });
+    }
+
+    /**
+     * Cancels any outstanding query.
+     */
+    private void cancel() {
+        cancelled = true;
+        CompletableFuture<Void> future = inFlight;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+}
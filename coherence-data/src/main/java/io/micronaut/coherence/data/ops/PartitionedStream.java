@@ -0,0 +1,232 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.NamedMap;
+import com.tangosol.net.partition.PartitionSet;
+import com.tangosol.util.Aggregators;
+import com.tangosol.util.Filter;
+import com.tangosol.util.ValueExtractor;
+import com.tangosol.util.filter.PartitionedFilter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Spliterator} over the results of a query that runs the query against a few
+ * partitions at a time, so that only the results of the current and next batch of
+ * partitions are held in memory.
+ * <p>The query for the first batch of partitions is sent when the first result is
+ * requested, so a stream that is never consumed does not query the cluster. The query
+ * for the next batch is sent as soon as the results of the current batch are received,
+ * so the cluster fetches the next batch while the caller consumes the current one.</p>
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class PartitionedStream implements Spliterator<Object> {
+
+    /**
+     * The map to query.
+     */
+    private final AsyncNamedMap map;
+
+    /**
+     * The filter that selects the entries.
+     */
+    private final Filter filter;
+
+    /**
+     * The extractor applied to each selected entry, or {@code null} to return the entry values.
+     */
+    private final ValueExtractor extractor;
+
+    /**
+     * The batches of partitions to query.
+     */
+    private final List<PartitionSet> batches;
+
+    /**
+     * The index of the next batch of partitions to query.
+     */
+    private int next;
+
+    /**
+     * Whether the query for the first batch of partitions has been sent.
+     */
+    private boolean started;
+
+    /**
+     * The query for the next batch of partitions, or {@code null} if all batches have been queried.
+     */
+    private CompletableFuture<Collection> pending;
+
+    /**
+     * The results of the current batch of partitions.
+     */
+    private Iterator current = Collections.emptyIterator();
+
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Constructs a new {@link PartitionedStream}.
+     *
+     * @param map the map to query
+     * @param filter the filter that selects the entries
+     * @param extractor the extractor applied to each selected entry, or {@code null}
+     * @param batches the batches of partitions to query
+     */
+    private PartitionedStream(AsyncNamedMap map, Filter filter, ValueExtractor extractor, List<PartitionSet> batches) {
+        this.map = map;
+        this.filter = filter;
+        this.extractor = extractor;
+        this.batches = batches;
+    }
+
+    // ----- public methods -------------------------------------------------
+
+    /**
+     * Creates a sequential {@link Stream} over the values, or extracted values, of the entries
+     * selected by a filter, querying a batch of partitions at a time.
+     *
+     * @param map the map to query
+     * @param filter the filter that selects the entries
+     * @param extractor the extractor applied to each selected entry, or {@code null} to return the entry values
+     * @param partitionCount the number of partitions of the map's service
+     * @param partitionsPerBatch the number of partitions to query at a time
+     *
+     * @return a {@link Stream} over the query results
+     */
+    static Stream<Object> of(NamedMap map, Filter filter, ValueExtractor extractor,
+                             int partitionCount, int partitionsPerBatch) {
+        PartitionedStream spliterator = new PartitionedStream(map.async(), filter, extractor,
+                batches(partitionCount, partitionsPerBatch));
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    /**
+     * Splits the partitions of a service into batches of consecutive partitions.
+     *
+     * @param partitionCount the number of partitions of the service
+     * @param partitionsPerBatch the number of partitions in each batch
+     *
+     * @return the batches of partitions
+     */
+    static List<PartitionSet> batches(int partitionCount, int partitionsPerBatch) {
+        int batchSize = Math.max(1, partitionsPerBatch);
+        List<PartitionSet> batches = new ArrayList<>((partitionCount + batchSize - 1) / batchSize);
+        for (int first = 0; first < partitionCount; first += batchSize) {
+            PartitionSet partitions = new PartitionSet(partitionCount);
+            for (int partition = first; partition < Math.min(first + batchSize, partitionCount); partition++) {
+                partitions.add(partition);
+            }
+            batches.add(partitions);
+        }
+        return batches;
+    }
+
+    // ----- Spliterator interface ------------------------------------------
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+        if (!started) {
+            started = true;
+            pending = query();
+        }
+        while (!current.hasNext()) {
+            CompletableFuture<Collection> future = pending;
+            if (future == null) {
+                return false;
+            }
+            Collection results = future.join();
+            pending = query();
+            current = results.iterator();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<Object> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED;
+    }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Sends the query for the next batch of partitions.
+     *
+     * @return the future results of the query, or {@code null} if all batches have been queried
+     */
+    private CompletableFuture<Collection> query() {
+        if (next >= batches.size()) {
+            return null;
+        }
+        Filter partitioned = new PartitionedFilter(filter, batches.get(next++));
+        if (extractor == null) {
+            CompletableFuture<Set<Map.Entry>> entries = map.entrySet(partitioned);
+            return entries.thenApply(PartitionedStream::values);
+        }
+        CompletableFuture<Map> results = map.aggregate(partitioned, Aggregators.reduce(extractor));
+        return results.thenApply(Map::values);
+    }
+
+    /**
+     * Cancels any outstanding query.
+     */
+    private void cancel() {
+        started = true;
+        CompletableFuture<Collection> future = pending;
+        pending = null;
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    /**
+     * Returns the values of a set of entries.
+     *
+     * @param entries the entries
+     *
+     * @return the values of the entries
+     */
+    private static Collection values(Set<Map.Entry> entries) {
+        List values = new ArrayList<>(entries.size());
+        for (Map.Entry entry : entries) {
+            values.add(entry.getValue());
+        }
+        return values;
+    }
+}
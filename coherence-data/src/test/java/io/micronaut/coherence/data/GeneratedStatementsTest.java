@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -359,4 +360,26 @@ public class GeneratedStatementsTest extends AbstractDataTest {
         assertThat(repo.findByTitleIn(Arrays.asList("Children of Dune", "God Emperor of Dune")),
                 containsInAnyOrder(setNewBooks.toArray()));
     }
+
+    /**
+     * Validate query results can be streamed.
+     */
+    @Test
+    public void shouldStreamBooksWithPagesGreaterThan() {
+        try (Stream<Book> stream = repo.readByPagesGreaterThan(468)) {
+            assertThat(stream.collect(Collectors.toList()), containsInAnyOrder(
+                    books.stream().filter(book -> book.getPages() > 468).toArray()));
+        }
+    }
+
+    /**
+     * Validate projected query results can be streamed.
+     */
+    @Test
+    public void shouldStreamTitlesWithPagesGreaterThan() {
+        try (Stream<String> stream = repo.readTitleByPagesGreaterThan(468)) {
+            assertThat(stream.collect(Collectors.toList()), containsInAnyOrder(
+                    books.stream().filter(book -> book.getPages() > 468).map(Book::getTitle).toArray()));
+        }
+    }
 }
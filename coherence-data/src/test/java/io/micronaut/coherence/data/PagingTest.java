@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data;
+
+import io.micronaut.coherence.data.model.Book;
+import io.micronaut.coherence.data.repositories.PageableBookRepository;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Validation of paged and sorted repository queries.
+ */
+@MicronautTest(propertySources = {"classpath:sessions.yaml"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class PagingTest extends AbstractDataTest {
+
+    /**
+     * A {@code repository} for validating paged queries.
+     */
+    @Inject
+    protected PageableBookRepository repo;
+
+    // ----- test methods ---------------------------------------------------
+
+    /**
+     * Validate each page contains the expected books in sort order.
+     */
+    @Test
+    public void shouldFindPagesInSortOrder() {
+        List<Book> sorted = books.stream()
+                .sorted(Comparator.comparing(Book::getTitle))
+                .collect(Collectors.toList());
+
+        Page<Book> first = repo.findAll(Pageable.from(0, 3, Sort.of(Sort.Order.asc("title"))));
+        assertThat(first.getContent(), contains(sorted.subList(0, 3).toArray()));
+        assertThat(first.getTotalSize(), is((long) books.size()));
+        assertThat(first.getTotalPages(), is(2));
+
+        Page<Book> second = repo.findAll(Pageable.from(1, 3, Sort.of(Sort.Order.asc("title"))));
+        assertThat(second.getContent(), contains(sorted.subList(3, sorted.size()).toArray()));
+    }
+
+    /**
+     * Validate books can be sorted in descending order.
+     */
+    @Test
+    public void shouldSortDescending() {
+        List<Book> sorted = books.stream()
+                .sorted(Comparator.comparing(Book::getPages).reversed())
+                .collect(Collectors.toList());
+
+        assertThat(repo.findAll(Sort.of(Sort.Order.desc("pages"))), contains(sorted.toArray()));
+    }
+
+    /**
+     * Validate a finder with a {@link Pageable} argument only returns the requested page.
+     */
+    @Test
+    public void shouldPageFinderResults() {
+        List<Book> sorted = books.stream()
+                .filter(book -> book.getPages() > 400)
+                .sorted(Comparator.comparing(Book::getPages))
+                .collect(Collectors.toList());
+
+        assertThat(repo.findByPagesGreaterThan(400, Pageable.from(0, 2, Sort.of(Sort.Order.asc("pages")))),
+                contains(sorted.subList(0, 2).toArray()));
+    }
+
+    /**
+     * Validate finders generating the same query with their parameters at different
+     * positions each bind their own parameter values.
+     */
+    @Test
+    public void shouldBindParametersOfEachFinder() {
+        List<Book> sorted = books.stream()
+                .filter(book -> book.getPages() > 400)
+                .sorted(Comparator.comparing(Book::getPages))
+                .collect(Collectors.toList());
+        Pageable pageable = Pageable.from(0, sorted.size(), Sort.of(Sort.Order.asc("pages")));
+
+        assertThat(repo.findByPagesGreaterThan(400, pageable), contains(sorted.toArray()));
+        assertThat(repo.searchByPagesGreaterThan(pageable, 400), contains(sorted.toArray()));
+    }
+
+    /**
+     * Validate the total count of all entities.
+     */
+    @Test
+    public void shouldCountAll() {
+        assertThat(repo.count(), is((long) books.size()));
+    }
+}
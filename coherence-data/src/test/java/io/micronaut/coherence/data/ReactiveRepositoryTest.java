@@ -0,0 +1,130 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import io.micronaut.coherence.data.model.Book;
+import io.micronaut.coherence.data.repositories.ReactiveBookRepository;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Validation of reactive repository queries.
+ */
+@MicronautTest(propertySources = {"classpath:sessions.yaml"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ReactiveRepositoryTest extends AbstractDataTest {
+
+    /**
+     * A {@code repository} for validating reactive queries.
+     */
+    @Inject
+    protected ReactiveBookRepository repo;
+
+    // ----- test methods ---------------------------------------------------
+
+    /**
+     * Validate a streamed finder emits all matching books.
+     */
+    @Test
+    public void shouldEmitMatchingBooks() {
+        List<Book> expected = books.stream()
+                .filter(book -> book.getPages() > 400)
+                .collect(Collectors.toList());
+
+        assertThat(repo.findByPagesGreaterThan(400).collectList().block(), containsInAnyOrder(expected.toArray()));
+    }
+
+    /**
+     * Validate a streamed projection emits the property of each matching book.
+     */
+    @Test
+    public void shouldEmitProjectedProperty() {
+        List<String> expected = books.stream()
+                .filter(book -> book.getPages() > 400)
+                .map(Book::getTitle)
+                .collect(Collectors.toList());
+
+        assertThat(repo.findTitleByPagesGreaterThan(400).collectList().block(), containsInAnyOrder(expected.toArray()));
+    }
+
+    /**
+     * Validate only the requested number of books are emitted when demand is bounded, and
+     * the remaining books are emitted once more are requested.
+     * <p>The number of partitions queried for each request is validated by {@code PartitionedFluxTest}.</p>
+     */
+    @Test
+    public void shouldHonourDemand() {
+        List<Book> received = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        BaseSubscriber<Book> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(2);
+            }
+
+            @Override
+            protected void hookOnNext(Book book) {
+                received.add(book);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.set(true);
+            }
+        };
+
+        repo.findByPagesGreaterThan(0).subscribe(subscriber);
+        Eventually.assertDeferred(() -> received.size(), is(2));
+        assertThat(completed.get(), is(false));
+
+        subscriber.request(books.size());
+        Eventually.assertDeferred(() -> completed.get(), is(true));
+        assertThat(received, containsInAnyOrder(books.toArray()));
+    }
+
+    /**
+     * Validate entities can be found, counted and saved reactively.
+     */
+    @Test
+    public void shouldFindCountAndSave() {
+        assertThat(repo.findById(DUNE.getUuid()).block(), is(DUNE));
+        assertThat(repo.count().block(), is((long) books.size()));
+        assertThat(repo.countByPagesGreaterThan(400).block(),
+                is(books.stream().filter(book -> book.getPages() > 400).count()));
+
+        Book book = new Book("Children of Dune", 444, DUNE.getAuthor(),
+                new GregorianCalendar(1976, Calendar.APRIL, 1, 0, 0));
+        assertThat(repo.save(book).block(), is(book));
+        assertThat(repo.existsById(book.getUuid()).block(), is(true));
+        assertThat(repo.deleteById(book.getUuid()).block(), is(1L));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.coherence.dslquery.ExecutionContext;
+import com.tangosol.net.Session;
+import com.tangosol.util.QueryHelper;
+import io.micronaut.coherence.data.AbstractDataTest;
+import io.micronaut.coherence.data.model.Book;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Validates that each kind of {@link NativeQuery} returns the same result as the
+ * equivalent CohQL statement.
+ */
+@MicronautTest(propertySources = {"classpath:sessions.yaml"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SuppressWarnings("rawtypes")
+class NativeQueryExecutionTest extends AbstractDataTest {
+
+    /**
+     * The default {@link Session}, which owns the {@code book} map.
+     */
+    @Inject
+    Session session;
+
+    /**
+     * The CohQL {@link ExecutionContext}.
+     */
+    private ExecutionContext context;
+
+    @BeforeAll
+    void createContext() {
+        context = QueryHelper.createExecutionContext(session);
+        context.setExtendedLanguage(false);
+    }
+
+    // ----- test methods ---------------------------------------------------
+
+    @Test
+    void shouldSelectSameEntities() {
+        String query = "SELECT book_ FROM book AS book_ WHERE (book_.pages >= :p1)";
+        Map<String, Object> bindings = Map.of("p1", 468);
+
+        Object result = executeNative(query, NativeQuery.Kind.ENTITIES, bindings);
+        assertThat(result, is(executeCohQL(query, bindings)));
+        assertThat(((Map) result).size(), is(3));
+    }
+
+    @Test
+    void shouldCountSameEntities() {
+        String query = "SELECT COUNT(book_) FROM book AS book_ WHERE (book_.pages >= :p1)";
+        Map<String, Object> bindings = Map.of("p1", 468);
+
+        Object result = executeNative(query, NativeQuery.Kind.COUNT, bindings);
+        assertThat(result, is(executeCohQL(query, bindings)));
+        assertThat(((Number) result).intValue(), is(3));
+    }
+
+    @Test
+    void shouldFindSameExistence() {
+        String query = "SELECT  FROM book AS book_ WHERE (book_.title = :p1)";
+
+        Map<String, Object> found = Map.of("p1", DUNE.getTitle());
+        assertThat(((Map) executeNative(query, NativeQuery.Kind.EXISTS, found)).isEmpty(), is(false));
+        assertThat(((Map) executeCohQL(query, found)).isEmpty(), is(false));
+
+        Map<String, Object> missing = Map.of("p1", IT.getTitle());
+        assertThat(((Map) executeNative(query, NativeQuery.Kind.EXISTS, missing)).isEmpty(), is(true));
+        assertThat(((Map) executeCohQL(query, missing)).isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldProjectSameValues() {
+        String query = "SELECT book_.title FROM book AS book_ WHERE (book_.pages >= :p1)";
+        Map<String, Object> bindings = Map.of("p1", 468);
+
+        Object result = executeNative(query, NativeQuery.Kind.PROJECTION, bindings);
+        assertThat(result, is(executeCohQL(query, bindings)));
+        assertThat(((Map) result).get(DUNE.getUuid()), is(DUNE.getTitle()));
+    }
+
+    @Test
+    void shouldDeleteSameEntities() {
+        String query = "DELETE  FROM book AS book_ WHERE (book_.pages < :p1)";
+        Map<String, Object> bindings = Map.of("p1", 500);
+
+        Object cohQL = executeCohQL(query, bindings);
+        assertThat(book.size(), is(books.size() - 2));
+        books.forEach(b -> book.put(b.getUuid(), b));
+
+        // executeUpdate returns the size of the result as the number of deleted entities
+        Object result = executeNative(query, NativeQuery.Kind.DELETE, bindings);
+        assertThat(result, is(instanceOf(Map.class)));
+        assertThat(((Map) result).size(), is(2));
+        assertThat(((Map) result).size(), is(((Map) cohQL).size()));
+        assertThat(book.size(), is(books.size() - 2));
+        for (Book b : books) {
+            assertThat(book.containsKey(b.getUuid()), is(b.getPages() >= 500));
+        }
+    }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Executes a query natively against the {@code book} map.
+     *
+     * @param query the query
+     * @param kind the expected kind of the native query
+     * @param bindings the bind variables
+     *
+     * @return the result of the query
+     */
+    private Object executeNative(String query, NativeQuery.Kind kind, Map<String, Object> bindings) {
+        NativeQuery nativeQuery = CompiledStatement.compile(context, query, book.getName(), true).getNativeQuery();
+        assertThat(nativeQuery, is(notNullValue()));
+        assertThat(nativeQuery.getKind(), is(kind));
+        return nativeQuery.execute(book, context, bindings, null, null);
+    }
+
+    /**
+     * Executes a query as a CohQL statement.
+     *
+     * @param query the query
+     * @param bindings the bind variables
+     *
+     * @return the result of the statement
+     */
+    private Object executeCohQL(String query, Map<String, Object> bindings) {
+        CompiledStatement compiled = CompiledStatement.compile(context, query, book.getName(), false);
+        return compiled.bind(context, bindings).execute(context).getResult();
+    }
+}
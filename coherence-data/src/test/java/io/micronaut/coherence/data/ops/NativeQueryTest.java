@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit test for {@link NativeQuery}.
+ */
+class NativeQueryTest {
+
+    @Test
+    void shouldCompileEntityQuery() {
+        NativeQuery query = NativeQuery.compile("SELECT book_ FROM books AS book_ WHERE (book_.pages >= :p1)", "books", null);
+        assertThat(query.getKind(), is(NativeQuery.Kind.ENTITIES));
+    }
+
+    @Test
+    void shouldCompileCountQuery() {
+        NativeQuery query = NativeQuery.compile("SELECT COUNT(book_) FROM books AS book_", "books", null);
+        assertThat(query.getKind(), is(NativeQuery.Kind.COUNT));
+    }
+
+    @Test
+    void shouldCompileExistsQuery() {
+        NativeQuery query = NativeQuery.compile("SELECT  FROM books AS book_ WHERE (book_.title = :p1)", "books", null);
+        assertThat(query.getKind(), is(NativeQuery.Kind.EXISTS));
+    }
+
+    @Test
+    void shouldCompileProjectionQuery() {
+        NativeQuery query = NativeQuery.compile("SELECT book_.author.lastName FROM books AS book_", "books", null);
+        assertThat(query.getKind(), is(NativeQuery.Kind.PROJECTION));
+        assertThat(query.getExtractor(), is(notNullValue()));
+    }
+
+    @Test
+    void shouldCompileDeleteQuery() {
+        NativeQuery query = NativeQuery.compile("DELETE  FROM books  AS book_ WHERE (book_.pages < :p1)", "books", null);
+        assertThat(query.getKind(), is(NativeQuery.Kind.DELETE));
+    }
+
+    @Test
+    void shouldNotCompileUnsupportedQueries() {
+        assertThat(NativeQuery.compile("SELECT DISTINCT book_.title FROM books AS book_", "books", null), is(nullValue()));
+        assertThat(NativeQuery.compile("SELECT book_ FROM books AS book_ ORDER BY book_.title ASC", "books", null), is(nullValue()));
+        assertThat(NativeQuery.compile("UPDATE books AS book_ SET book_.pages = :p1", "books", null), is(nullValue()));
+        assertThat(NativeQuery.compile("SELECT MAX(book_.pages) FROM books AS book_", "books", null), is(nullValue()));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import io.micronaut.coherence.data.model.Author;
+import io.micronaut.coherence.data.model.Book;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.data.model.Sort;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link Paging}.
+ */
+class PagingTest {
+
+    private static final Author AUTHOR = new Author("Frank", "Herbert");
+
+    @Test
+    void shouldPageResultInSortOrder() {
+        Map<Object, Book> result = new HashMap<>();
+        for (int pages : new int[] {300, 100, 500, 200, 400}) {
+            Book book = new Book("Book " + pages, pages, AUTHOR, null);
+            result.put(book.getUuid(), book);
+        }
+        Pageable pageable = Pageable.from(1, 2, Sort.of(Sort.Order.asc("pages")));
+        Comparator comparator = Paging.comparator(pageable.getSort(), "uuid");
+
+        Map<?, Book> page = (Map<?, Book>) Paging.page(result, pageable, comparator);
+
+        assertThat(page.values().stream().map(Book::getPages).toList(), contains(300, 400));
+    }
+
+    @Test
+    void shouldReturnNonMapResultUnchanged() {
+        Pageable pageable = Pageable.from(0, 2, Sort.of(Sort.Order.asc("pages")));
+
+        assertThat(Paging.page(5L, pageable, Paging.comparator(pageable.getSort(), "uuid")), is(5L));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.util.Filters;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link PartitionedFlux}.
+ */
+class PartitionedFluxTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldOnlyQueryBatchesWithOutstandingDemand() {
+        AtomicInteger queries = new AtomicInteger();
+        AsyncNamedMap<Integer, String> map = (AsyncNamedMap<Integer, String>) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {AsyncNamedMap.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("entrySet") && args.length == 2 && args[1] instanceof Consumer) {
+                        // one entry per batch of partitions
+                        int batch = queries.incrementAndGet();
+                        ((Consumer<Map.Entry<Integer, String>>) args[1]).accept(Map.entry(batch, "value-" + batch));
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        List<Object> received = new CopyOnWriteArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean();
+        BaseSubscriber<Object> subscriber = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(2);
+            }
+
+            @Override
+            protected void hookOnNext(Object value) {
+                received.add(value);
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.set(true);
+            }
+        };
+
+        // eight partitions queried one at a time
+        PartitionedFlux.of(map, Filters.always(), null, 8, 1).subscribe(subscriber);
+        assertThat(received.size(), is(2));
+        assertThat(queries.get(), is(2));
+
+        subscriber.request(3);
+        assertThat(received.size(), is(5));
+        assertThat(queries.get(), is(5));
+        assertThat(completed.get(), is(false));
+
+        subscriber.request(10);
+        assertThat(received.size(), is(8));
+        assertThat(queries.get(), is(8));
+        assertThat(completed.get(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCancelQuerySentWhileCancelling() {
+        AtomicReference<BaseSubscriber<Object>> subscriber = new AtomicReference<>();
+        CompletableFuture<Void> query = new CompletableFuture<>();
+        AsyncNamedMap<Integer, String> map = (AsyncNamedMap<Integer, String>) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {AsyncNamedMap.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("entrySet") && args.length == 2 && args[1] instanceof Consumer) {
+                        // the subscriber cancels before the query future is returned
+                        subscriber.get().dispose();
+                        return query;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        subscriber.set(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(1);
+            }
+        });
+
+        PartitionedFlux.of(map, Filters.always(), null, 8, 1).subscribe(subscriber.get());
+        assertThat(query.isCancelled(), is(true));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.data.ops;
+
+import com.tangosol.net.AsyncNamedMap;
+import com.tangosol.net.NamedMap;
+import com.tangosol.util.Filters;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for {@link PartitionedStream}.
+ */
+class PartitionedStreamTest {
+
+    @Test
+    void shouldNotQueryUntilFirstResultIsRequested() {
+        AtomicInteger queries = new AtomicInteger();
+        NamedMap<Integer, String> map = map(queries);
+
+        // eight partitions queried one at a time
+        Stream<Object> stream = PartitionedStream.of(map, Filters.always(), null, 8, 1);
+        assertThat(queries.get(), is(0));
+
+        Iterator<Object> results = stream.iterator();
+        assertThat(results.next(), is("value-1"));
+        // the next batch is fetched while the first is consumed
+        assertThat(queries.get(), is(2));
+
+        stream.close();
+        assertThat(queries.get(), is(2));
+    }
+
+    @Test
+    void shouldNotQueryStreamClosedBeforeUse() {
+        AtomicInteger queries = new AtomicInteger();
+
+        PartitionedStream.of(map(queries), Filters.always(), null, 8, 1).close();
+        assertThat(queries.get(), is(0));
+    }
+
+    @Test
+    void shouldQueryEachBatchOnce() {
+        AtomicInteger queries = new AtomicInteger();
+
+        List<Object> results = PartitionedStream.of(map(queries), Filters.always(), null, 8, 3).toList();
+        assertThat(results, is(List.of("value-1", "value-2", "value-3")));
+        assertThat(queries.get(), is(3));
+    }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Creates a {@link NamedMap} that returns one entry for each batch of partitions queried.
+     *
+     * @param queries the number of batches queried
+     *
+     * @return the {@link NamedMap}
+     */
+    @SuppressWarnings("unchecked")
+    private NamedMap<Integer, String> map(AtomicInteger queries) {
+        AsyncNamedMap<Integer, String> async = (AsyncNamedMap<Integer, String>) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {AsyncNamedMap.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("entrySet") && args.length == 1) {
+                        int batch = queries.incrementAndGet();
+                        return CompletableFuture.completedFuture(Set.of(Map.entry(batch, "value-" + batch)));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return (NamedMap<Integer, String>) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {NamedMap.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("async")) {
+                        return async;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
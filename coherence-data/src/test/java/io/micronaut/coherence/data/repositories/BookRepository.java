@@ -24,6 +24,7 @@ import io.micronaut.data.repository.CrudRepository;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A {@link Book} {@code Repository} to test queries generated by Micronaut.
@@ -43,6 +44,10 @@ public interface BookRepository extends CrudRepository<Book, UUID> {
 
     List<Book> findByPagesGreaterThan(int pageCount);
 
+    Stream<Book> readByPagesGreaterThan(int pageCount);
+
+    Stream<String> readTitleByPagesGreaterThan(int pageCount);
+
     List<Book> findByPagesLessThan(int pageCount);
 
     List<Book> findByPublicationYearAfter(int year);
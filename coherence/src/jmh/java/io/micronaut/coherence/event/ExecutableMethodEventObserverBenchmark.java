@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.tangosol.net.events.application.LifecycleEvent;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the number of events per second an {@link ExecutableMethodEventObserver}
+ * passes to its observer method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExecutableMethodEventObserverBenchmark {
+
+    private ApplicationContext context;
+
+    private ExecutableMethodEventObserver<LifecycleEvent, Observer, Object> observer;
+
+    private LifecycleEvent event;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = ApplicationContext.run(Map.of(
+                "coherence.cluster", "benchmarks",
+                "coherence.localhost", "127.0.0.1",
+                "coherence.ttl", "0"), "ExecutableMethodEventObserverBenchmark");
+        ExecutableMethod<Observer, Object> method = context.getBeanDefinition(Observer.class)
+                .<Object>findMethod("onEvent", LifecycleEvent.class)
+                .orElseThrow();
+        observer = new ExecutableMethodEventObserver<>(SupplierUtil.memoized(() -> context.getBean(Observer.class)),
+                method, new EventArgumentBinderRegistry<>());
+        event = (LifecycleEvent) Proxy.newProxyInstance(LifecycleEvent.class.getClassLoader(),
+                new Class<?>[] {LifecycleEvent.class},
+                (proxy, m, args) -> "getType".equals(m.getName()) ? LifecycleEvent.Type.ACTIVATED : null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void notifyObserver() {
+        // the observer writes a volatile field, so the call is not eliminated
+        observer.notify(event);
+    }
+
+    @Singleton
+    @Requires(env = "ExecutableMethodEventObserverBenchmark")
+    static class Observer {
+        volatile LifecycleEvent.Type last;
+
+        @Executable
+        void onEvent(LifecycleEvent event) {
+            last = event.getType();
+        }
+    }
+}
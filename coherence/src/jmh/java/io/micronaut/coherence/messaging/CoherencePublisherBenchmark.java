@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.net.Coherence;
+import com.tangosol.net.topic.Publisher;
+import io.micronaut.coherence.annotation.CoherencePublisher;
+import io.micronaut.coherence.annotation.Topic;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link CoherencePublisherIntroductionAdvice} per publish, by
+ * comparing publishing through a {@link CoherencePublisher} method with publishing
+ * directly to a {@link Publisher} of the same topic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class CoherencePublisherBenchmark {
+
+    static final String TOPIC = "benchmark";
+
+    static final String MESSAGE = "message";
+
+    private ApplicationContext context;
+
+    private BenchmarkPublisher publishers;
+
+    private Publisher<String> publisher;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = ApplicationContext.run(Map.of(
+                "coherence.cluster", "benchmarks",
+                "coherence.localhost", "127.0.0.1",
+                "coherence.ttl", "0"), "CoherencePublisherBenchmark");
+        publishers = context.getBean(BenchmarkPublisher.class);
+        publisher = context.getBean(Coherence.class).getSession().<String>getTopic(TOPIC).createPublisher();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        publisher.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Publisher.Status publishDirect() {
+        return publisher.publish(MESSAGE).join();
+    }
+
+    @Benchmark
+    public Void publishIntercepted() {
+        return publishers.publish(MESSAGE).join();
+    }
+
+    @Benchmark
+    public Void publishInterceptedToTopicArgument() {
+        return publishers.publishTo(TOPIC, MESSAGE).join();
+    }
+
+    @Singleton
+    @CoherencePublisher
+    @Requires(env = "CoherencePublisherBenchmark")
+    interface BenchmarkPublisher {
+        @Topic(TOPIC)
+        CompletableFuture<Void> publish(String message);
+
+        CompletableFuture<Void> publishTo(@Topic String topic, String message);
+    }
+}
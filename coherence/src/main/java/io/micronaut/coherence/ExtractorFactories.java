@@ -26,6 +26,7 @@ import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Prototype;
 import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.AnnotationMetadataProvider;
 import io.micronaut.inject.InjectionPoint;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -76,11 +77,26 @@ public class ExtractorFactories {
      * on the injection point
      */
     @Prototype
-    @SuppressWarnings({"rawtypes", "unchecked"})
     ValueExtractor<?, ?> extractor(InjectionPoint<?> injectionPoint) {
+        return resolve(injectionPoint);
+    }
+
+    /**
+     * Resolve a {@link ValueExtractor} implementation from the {@link ExtractorBinding}
+     * annotations of an annotated element, such as an injection point or a method argument.
+     *
+     * @param element  the annotated element to create the {@link ValueExtractor} for
+     * @param <T>      the type that the {@link ValueExtractor} can extract from
+     * @param <E>      the type that the {@link ValueExtractor} extracts
+     *
+     * @return a {@link ValueExtractor} implementation created from the annotations
+     * @since 5.0.3
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public <T, E> ValueExtractor<T, E> resolve(AnnotationMetadataProvider element) {
         List<ValueExtractor> list = new ArrayList<>();
 
-        AnnotationMetadata metadata = injectionPoint.getAnnotationMetadata();
+        AnnotationMetadata metadata = element.getAnnotationMetadata();
         List<Class<? extends Annotation>> bindings = metadata.getAnnotationTypesByStereotype(ExtractorBinding.class);
 
         for (Class<? extends Annotation> type : bindings) {
@@ -94,7 +110,7 @@ public class ExtractorFactories {
                 throw new IllegalStateException(UNSATISFIED_DEPENDENCY + type);
             }
 
-            ValueExtractor extractor = extractorFactory.create(injectionPoint.synthesize(type));
+            ValueExtractor extractor = extractorFactory.create(element.synthesize(type));
             if (extractor == null) {
                 throw new IllegalStateException("Unsatisfied dependency - no extractor could be created by "
                         + extractorFactory + " extractor factory.");
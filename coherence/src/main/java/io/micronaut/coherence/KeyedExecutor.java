@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Executor} that runs tasks submitted with the same key in submission order.
+ *
+ * @since 5.0.3
+ */
+@Internal
+public interface KeyedExecutor extends Executor {
+    /**
+     * Execute a task after all previously submitted tasks with the same key.
+     *
+     * @param key   the ordering key
+     * @param task  the task to execute
+     */
+    void execute(Object key, Runnable task);
+}
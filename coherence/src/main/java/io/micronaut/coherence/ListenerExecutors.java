@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence;
+
+import io.micronaut.coherence.annotation.ListenerExecutor;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Resolves the {@link ListenerExecutor} used to invoke listener methods and provides
+ * the executor that runs listener methods on virtual threads.
+ *
+ * @since 5.0.3
+ */
+@Singleton
+@Internal
+public class ListenerExecutors {
+
+    /**
+     * The property used to configure the default {@link ListenerExecutor}.
+     */
+    public static final String EXECUTOR_PROPERTY = "coherence.listener.executor";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ListenerExecutors.class);
+
+    /**
+     * The Micronaut bean context.
+     */
+    private final BeanContext beanContext;
+
+    /**
+     * The executor to use for listeners that do not specify one.
+     */
+    private final ListenerExecutor defaultExecutor;
+
+    /**
+     * The lazily resolved executor that runs tasks on virtual threads.
+     */
+    private volatile ExecutorService virtualExecutor;
+
+    /**
+     * Create a {@link ListenerExecutors}.
+     *
+     * @param beanContext      the Micronaut bean context
+     * @param defaultExecutor  the configured default executor, either {@code platform} or {@code virtual}
+     */
+    @Inject
+    ListenerExecutors(BeanContext beanContext, @Nullable @Property(name = EXECUTOR_PROPERTY) String defaultExecutor) {
+        this.beanContext = beanContext;
+        ListenerExecutor executor = StringUtils.isEmpty(defaultExecutor)
+                ? ListenerExecutor.PLATFORM
+                : ListenerExecutor.valueOf(defaultExecutor.trim().toUpperCase(Locale.ROOT));
+        this.defaultExecutor = executor == ListenerExecutor.DEFAULT ? ListenerExecutor.PLATFORM : executor;
+    }
+
+    /**
+     * Resolve the {@link ListenerExecutor} a listener should use.
+     *
+     * @param executor  the executor specified by the listener annotation
+     *
+     * @return the resolved executor, which is never {@link ListenerExecutor#DEFAULT}
+     */
+    public ListenerExecutor resolve(@Nullable ListenerExecutor executor) {
+        return executor == null || executor == ListenerExecutor.DEFAULT ? defaultExecutor : executor;
+    }
+
+    /**
+     * Returns {@code true} if a listener with the specified executor should run on virtual threads.
+     *
+     * @param executor  the executor specified by the listener annotation
+     *
+     * @return {@code true} if a listener with the specified executor should run on virtual threads
+     */
+    public boolean isVirtual(@Nullable ListenerExecutor executor) {
+        return resolve(executor) == ListenerExecutor.VIRTUAL;
+    }
+
+    /**
+     * Returns the executor that runs each task on a new virtual thread.
+     * <p>If virtual threads are not supported by the JVM the Micronaut
+     * {@link TaskExecutors#BLOCKING} executor is returned.</p>
+     *
+     * @return the executor that runs each task on a new virtual thread
+     */
+    public ExecutorService getVirtualExecutor() {
+        ExecutorService executor = virtualExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = virtualExecutor;
+                if (executor == null) {
+                    executor = beanContext.findBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.VIRTUAL))
+                            .orElseGet(() -> {
+                                LOG.warn("Virtual threads are not supported, listeners will use the {} executor",
+                                        TaskExecutors.BLOCKING);
+                                return beanContext.getBean(ExecutorService.class, Qualifiers.byName(TaskExecutors.BLOCKING));
+                            });
+                    virtualExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence;
+
+import io.micronaut.core.annotation.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>An {@link Executor} wrapper that runs tasks submitted with the same key in
+ * submission order, while tasks with different keys may run in parallel.</p>
+ * <p>Keys are hashed to a fixed number of stripes, each stripe runs at most one
+ * task at a time on the underlying executor. If the underlying executor rejects a
+ * stripe that still has queued tasks, those tasks are run on the calling thread so
+ * that tasks that have been accepted are never dropped.</p>
+ *
+ * @since 5.0.3
+ */
+@Internal
+public final class OrderedExecutor implements KeyedExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OrderedExecutor.class);
+
+    /**
+     * The maximum number of tasks a stripe runs before yielding its thread.
+     */
+    private static final int MAX_TASKS_PER_RUN = 64;
+
+    /**
+     * The executor to run tasks on.
+     */
+    private final Executor executor;
+
+    /**
+     * The stripes that tasks are assigned to.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * The counter used to spread tasks without a key across the stripes.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Create an {@link OrderedExecutor}.
+     *
+     * @param executor     the executor to run tasks on
+     * @param stripeCount  the number of stripes, which is the maximum number of tasks that may run in parallel
+     */
+    public OrderedExecutor(Executor executor, int stripeCount) {
+        this.executor = executor;
+        this.stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Execute a task that does not need to be ordered with other tasks.
+     *
+     * @param task  the task to execute
+     *
+     * @throws RejectedExecutionException if the underlying executor rejects the task
+     */
+    @Override
+    public void execute(Runnable task) {
+        stripes[Math.floorMod(next.getAndIncrement(), stripes.length)].execute(task);
+    }
+
+    /**
+     * Execute a task after all previously submitted tasks with the same key.
+     *
+     * @param key   the ordering key
+     * @param task  the task to execute
+     *
+     * @throws RejectedExecutionException if the underlying executor rejects the task
+     */
+    @Override
+    public void execute(Object key, Runnable task) {
+        execute(key == null ? 0 : key.hashCode(), task);
+    }
+
+    /**
+     * Execute a task after all previously submitted tasks with the same hash.
+     *
+     * @param hash  the ordering hash, for example a topic channel
+     * @param task  the task to execute
+     *
+     * @throws RejectedExecutionException if the underlying executor rejects the task
+     */
+    public void execute(int hash, Runnable task) {
+        stripes[Math.floorMod(spread(hash), stripes.length)].execute(task);
+    }
+
+    /**
+     * Returns the number of stripes.
+     *
+     * @return the number of stripes
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Spread the bits of a hash so that keys with similar hash codes use different stripes.
+     *
+     * @param hash  the hash to spread
+     *
+     * @return the spread hash
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A queue of tasks that are run one at a time.
+     */
+    private final class Stripe implements Runnable {
+        /**
+         * The tasks waiting to run.
+         */
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        /**
+         * A flag indicating whether this stripe is scheduled on the executor.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void execute(Runnable task) {
+            tasks.add(task);
+            try {
+                schedule();
+            } catch (RejectedExecutionException e) {
+                // tasks queued by other callers while this stripe was being scheduled were accepted,
+                // so they must still run even though this task is rejected
+                boolean removed = tasks.remove(task);
+                runRejected(e);
+                if (removed) {
+                    throw e;
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                runTasks(MAX_TASKS_PER_RUN);
+            } finally {
+                scheduled.set(false);
+                if (!tasks.isEmpty()) {
+                    try {
+                        schedule();
+                    } catch (RejectedExecutionException e) {
+                        runRejected(e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Run queued tasks on the calling thread, in order.
+         *
+         * @param maxTasks  the maximum number of tasks to run
+         */
+        private void runTasks(int maxTasks) {
+            Runnable task;
+            int count = 0;
+            while (count++ < maxTasks && (task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    LOG.error("Unhandled error running ordered task {}", task, t);
+                }
+            }
+        }
+
+        /**
+         * Run the queued tasks on the calling thread after the executor rejected this stripe,
+         * so that tasks that have already been accepted are not left in the queue with
+         * nothing scheduled to run them.
+         *
+         * @param e  the rejection
+         */
+        private void runRejected(RejectedExecutionException e) {
+            if (tasks.isEmpty()) {
+                return;
+            }
+            LOG.warn("Executor rejected ordered tasks, running {} queued tasks on the calling thread", tasks.size(), e);
+            while (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    runTasks(Integer.MAX_VALUE);
+                } finally {
+                    scheduled.set(false);
+                }
+            }
+        }
+    }
+}
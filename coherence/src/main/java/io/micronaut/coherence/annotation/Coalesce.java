@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * <p>An annotation used on a {@link CoherenceEventListener} {@link com.tangosol.util.MapEvent}
+ * observer method to coalesce the events for each key.</p>
+ * <p>Events are buffered per key until the {@link #window()} elapses, or until {@link #count()}
+ * events have been buffered, and the observer then receives a single event per key describing
+ * the net change. For example, an insert followed by updates is observed as an insert of the
+ * latest value, updates are observed as a single update from the first old value to the latest
+ * new value, and an insert followed by a delete is not observed at all.</p>
+ * <p>As events are delayed by the window, coalescing observers do not observe events
+ * synchronously even if they are annotated with {@link Synchronous}.</p>
+ *
+ * @since 5.0.3
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface Coalesce {
+
+    /**
+     * The default coalescing window.
+     */
+    String DEFAULT_WINDOW = "100ms";
+
+    /**
+     * The maximum time events are buffered before the net change is observed.
+     *
+     * @return the coalescing window as a duration string, for example {@code 100ms}
+     */
+    String window() default DEFAULT_WINDOW;
+
+    /**
+     * The maximum number of events buffered before the net changes are observed,
+     * or zero to only observe the net changes when the {@link #window()} elapses.
+     *
+     * @return the maximum number of buffered events
+     */
+    int count() default 0;
+}
@@ -45,4 +45,34 @@ import java.lang.annotation.*;
 @Target({ElementType.ANNOTATION_TYPE, ElementType.TYPE, ElementType.METHOD})
 @Executable(processOnStartup = true)
 public @interface CoherenceEventListener {
+    /**
+     * The threads to invoke asynchronous listener methods on.
+     * <p>When set to {@link ListenerExecutor#VIRTUAL} each event is passed to the method on a
+     * virtual thread, map events for the same key are still passed to the method one at a time
+     * and in order. {@link Synchronous} listeners are always invoked on the calling thread.</p>
+     *
+     * @return the threads to invoke asynchronous listener methods on
+     */
+    ListenerExecutor executor() default ListenerExecutor.DEFAULT;
+
+    /**
+     * The maximum number of map events passed to a listener method with a
+     * {@link java.util.List} or {@link java.util.Collection} of
+     * {@link com.tangosol.util.MapEvent} parameter in a single call.
+     * <p>This setting only applies to batch map event listener methods.</p>
+     *
+     * @return the maximum number of map events in a batch
+     * @since 5.0.3
+     */
+    int batchSize() default 1000;
+
+    /**
+     * The maximum time map events are accumulated for a batch map event listener
+     * method before a partial batch is passed to the method, for example {@code 10ms}.
+     * <p>This setting only applies to batch map event listener methods.</p>
+     *
+     * @return the maximum time to accumulate a batch of map events
+     * @since 5.0.3
+     */
+    String linger() default "10ms";
 }
@@ -48,4 +48,29 @@ public @interface CoherencePublisher {
      * @return The timeout
      */
     String maxBlock() default "";
+
+    /**
+     * <p>The maximum number of messages to publish as a single group.</p>
+     * <p>When greater than zero, reactive, {@link Iterable} and array message bodies are
+     * published in groups of up to this many messages. The messages in a group are
+     * published without waiting for each other, the next group is only requested from
+     * the body once every message in the group has been published, so at most
+     * {@code batchSize} publish requests are outstanding at any time.</p>
+     * <p>When zero, the default, {@link Iterable} and array bodies are published as a
+     * single message.</p>
+     *
+     * @return the maximum number of messages to publish as a single group
+     * @since 5.0.3
+     */
+    int batchSize() default 0;
+
+    /**
+     * The maximum time to wait for a group of {@link #batchSize()} messages to fill
+     * before publishing a partial group, for example {@code 10ms}.
+     * <p>If not set, groups are only published early when the message body completes.</p>
+     *
+     * @return the maximum time to wait for a group of messages to fill
+     * @since 5.0.3
+     */
+    String linger() default "";
 }
@@ -44,4 +44,97 @@ public @interface CoherenceTopicListener {
      * @return The {@link CommitStrategy}
      */
     CommitStrategy commitStrategy() default CommitStrategy.SYNC;
+
+    /**
+     * The maximum number of elements to receive from the topic and pass to the
+     * listener method as a single batch.
+     * <p>A value greater than zero enables batch mode, in which case the listener method
+     * must have a {@link java.util.List} parameter of either the topic element value type,
+     * {@link com.tangosol.util.Binary} or {@link com.tangosol.net.topic.Subscriber.Element}.
+     * When the commit strategy is not {@link CommitStrategy#MANUAL} a batch is committed
+     * once, at the highest received position in each channel, after the method returns.</p>
+     *
+     * @return the maximum batch size, or zero to receive elements one at a time
+     */
+    int batchSize() default 0;
+
+    /**
+     * The maximum time to wait for a batch to fill up to {@link #batchSize()} elements
+     * before a partial batch is passed to the listener method.
+     * <p>If not set, a batch contains the elements that were available when the receive
+     * request completed.</p>
+     *
+     * @return the maximum time to wait for a batch to fill
+     */
+    String batchWait() default "";
+
+    /**
+     * The maximum number of elements that may be received and in the process of being
+     * handled by the listener method at the same time.
+     * <p>When greater than one, elements are passed to the listener method on the
+     * {@link io.micronaut.scheduling.TaskExecutors#MESSAGE_CONSUMER} executor. Elements from
+     * the same channel are always passed to the method one at a time in the order they were
+     * published, so that each channel is committed contiguously, while elements from different
+     * channels may be processed in parallel.</p>
+     * <p>This setting does not apply to batch mode listeners, see {@link #batchSize()}.</p>
+     *
+     * @return the maximum number of elements in flight
+     */
+    int concurrency() default 1;
+
+    /**
+     * The threads to invoke the listener method on.
+     * <p>When set to {@link ListenerExecutor#VIRTUAL} each element is passed to the method
+     * on a virtual thread, elements from the same channel are still passed to the method
+     * one at a time and in order.</p>
+     *
+     * @return the threads to invoke the listener method on
+     */
+    ListenerExecutor executor() default ListenerExecutor.DEFAULT;
+
+    /**
+     * The maximum number of times to retry an element, or a batch of elements, after the
+     * listener method throws an exception.
+     * <p>Retries are scheduled after a delay, starting at {@link #retryDelay()} and multiplied
+     * by {@link #retryMultiplier()} for each further retry up to {@link #retryMaxDelay()}, the
+     * receiving thread is not blocked while waiting to retry. When the retries are exhausted
+     * the element is published to the {@link #deadLetterTopic()}, if there is one, otherwise
+     * the exception is handled as if there were no retries.</p>
+     *
+     * @return the maximum number of retries
+     */
+    int retries() default 0;
+
+    /**
+     * The delay before the first retry.
+     *
+     * @return the delay before the first retry
+     */
+    String retryDelay() default "100ms";
+
+    /**
+     * The multiplier applied to the delay for each further retry.
+     *
+     * @return the multiplier applied to the delay for each further retry
+     */
+    double retryMultiplier() default 2.0d;
+
+    /**
+     * The maximum delay between retries.
+     *
+     * @return the maximum delay between retries
+     */
+    String retryMaxDelay() default "30s";
+
+    /**
+     * The name of the topic to publish elements to when the listener method fails to
+     * process them, after any {@link #retries()}.
+     * <p>Elements are published as a {@link io.micronaut.coherence.messaging.DeadLetter}
+     * that describes the error and are then committed, so that an element that can never
+     * be processed does not stop the subscriber. In batch mode every element of a failed
+     * batch is published.</p>
+     *
+     * @return the name of the dead-letter topic, or an empty string if there is no dead-letter topic
+     */
+    String deadLetterTopic() default "";
 }
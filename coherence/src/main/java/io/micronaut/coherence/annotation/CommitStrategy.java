@@ -43,4 +43,15 @@ public enum CommitStrategy {
      * Asynchronously commit using {@link com.tangosol.net.topic.Subscriber.Element#commitAsync()} after each message is processed.
      */
     ASYNC,
+    /**
+     * <p>Asynchronously commit processed messages without waiting for the commit to complete
+     * before receiving the next message.</p>
+     * <p>Processed positions are coalesced per channel, with at most one commit request in
+     * flight at a time that commits the latest processed position in each channel. A position
+     * is only committed after it has been processed, so delivery is at-least-once, but more
+     * messages may be redelivered after a failure than with {@link #SYNC}.</p>
+     *
+     * @since 5.0.3
+     */
+    PIPELINED,
 }
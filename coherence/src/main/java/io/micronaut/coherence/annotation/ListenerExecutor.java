@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.annotation;
+
+/**
+ * <p>An enum representing the threads used to invoke {@link CoherenceTopicListener}
+ * and asynchronous {@link CoherenceEventListener} methods.</p>
+ * <p>Listener methods that make blocking calls, such as JDBC or HTTP requests, can use
+ * {@link #VIRTUAL} so that they do not tie up Coherence service threads or shared pools.</p>
+ *
+ * @since 5.0.3
+ */
+public enum ListenerExecutor {
+    /**
+     * Use the executor configured with the {@code coherence.listener.executor} property,
+     * or {@link #PLATFORM} if the property is not set.
+     */
+    DEFAULT,
+    /**
+     * Invoke listener methods on platform threads, that is the thread that received the
+     * topic element or event, or a shared executor.
+     */
+    PLATFORM,
+    /**
+     * Invoke each listener method call on a virtual thread.
+     * <p>Topic elements from the same channel, and map events for the same key, are still
+     * passed to the listener method one at a time and in order.</p>
+     * <p>Virtual threads require Java 21 or later, on earlier versions the Micronaut
+     * {@link io.micronaut.scheduling.TaskExecutors#BLOCKING} executor is used instead.</p>
+     */
+    VIRTUAL
+}
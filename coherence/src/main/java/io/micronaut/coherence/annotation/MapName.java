@@ -21,6 +21,9 @@ import java.lang.annotation.RetentionPolicy;
 
 /**
  * A qualifier annotation used to indicate a specific map name.
+ * <p>On a {@link CoherenceEventListener} map event observer the name may also be a glob,
+ * such as {@code orders-*}, or a regular expression prefixed with {@code regex:}, to
+ * observe events from every map with a matching name.</p>
  *
  * @author Jonathan Knight
  * @since 1.0
@@ -20,16 +20,21 @@ import com.tangosol.util.MapEvent;
 import com.tangosol.util.MapEventTransformer;
 import com.tangosol.util.MapListener;
 import com.tangosol.util.comparator.SafeComparator;
+import com.tangosol.util.filter.MapEventFilter;
+import com.tangosol.util.filter.MapEventTransformerFilter;
 import com.tangosol.util.function.Remote;
 import io.micronaut.coherence.FilterFactories;
 import io.micronaut.coherence.MapEventTransformerFactories;
+import io.micronaut.coherence.KeyedExecutor;
+import io.micronaut.coherence.OrderedExecutor;
 import io.micronaut.coherence.annotation.*;
 
 import java.lang.annotation.Annotation;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +54,11 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
      */
     public static final String WILD_CARD = "*";
 
+    /**
+     * The number of stripes used to order asynchronous events by key.
+     */
+    static final int KEY_STRIPES = 256;
+
     /**
      * The event observer for this listener.
      */
@@ -118,9 +128,62 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
      */
     private MapEventTransformer<K, V, ?> transformer;
 
+    /**
+     * The {@link Filter} to register this listener with, once resolved.
+     */
+    private volatile Filter<?> registrationFilter;
+
+    /**
+     * A flag indicating whether the {@link #registrationFilter} has been resolved.
+     */
+    private volatile boolean registrationFilterResolved;
+
+    /**
+     * The executor that runs asynchronous events for the same key in order,
+     * or {@code null} if the observer is notified on the calling thread.
+     */
+    private final KeyedExecutor orderedExecutor;
+
+    /**
+     * The buffer that accumulates events before they are passed to the observer,
+     * or {@code null} if the observer receives each event as it occurs.
+     */
+    private final MapEventBuffer<K, V> buffer;
+
+    /**
+     * The maximum number of events passed to a batch observer in a single call.
+     */
+    private final int batchSize;
+
+    /**
+     * A flag indicating whether the observer is notified of the net change per key.
+     */
+    private final boolean coalesced;
+
     AnnotatedMapListener(ExecutableMethodMapListener<K, V, ?, ?> observer, Set<Annotation> annotations) {
         this.observer = observer;
 
+        Executor executor = observer.getExecutor();
+        if (executor == null || executor instanceof KeyedExecutor) {
+            this.orderedExecutor = (KeyedExecutor) executor;
+        } else {
+            this.orderedExecutor = new OrderedExecutor(executor, KEY_STRIPES);
+        }
+        // buffered events are delivered on the listener's executor, not the Coherence event thread
+        Executor bufferExecutor = orderedExecutor == null ? Runnable::run : orderedExecutor;
+        this.coalesced = observer.isCoalesced();
+        if (observer.isBatch()) {
+            this.batchSize = observer.getBatchSize();
+            this.buffer = observer.isCoalesced()
+                    ? new MapEventBuffer<>(observer.getCoalesceWindow(), observer.getCoalesceCount(), true, bufferExecutor, this::dispatchBatch)
+                    : new MapEventBuffer<>(observer.getBatchLinger(), batchSize, false, bufferExecutor, this::dispatchBatch);
+        } else {
+            this.batchSize = 1;
+            this.buffer = observer.isCoalesced()
+                    ? new MapEventBuffer<>(observer.getCoalesceWindow(), observer.getCoalesceCount(), true, bufferExecutor, this::dispatchAll)
+                    : null;
+        }
+
         String cacheName = WILD_CARD;
         String serviceName = WILD_CARD;
         String scopeName = null;
@@ -291,6 +354,44 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
         }
     }
 
+    /**
+     * Obtain the {@link Filter} to register this listener with, combining this listener's
+     * filter and transformer.
+     * <p>The filter and transformer are resolved the first time this method is called, which
+     * is not possible at discovery time, and the same filter is returned on subsequent calls.</p>
+     *
+     * @param filterFactories      the {@link FilterFactories} to use to resolve the {@link Filter}
+     * @param transformerFactories the {@link MapEventTransformerFactories} to use to resolve
+     *                             the {@link MapEventTransformer}
+     * @return the {@link Filter} to register this listener with, or {@code null} to receive all events
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    Filter<?> getRegistrationFilter(FilterFactories filterFactories, MapEventTransformerFactories transformerFactories) {
+        if (!registrationFilterResolved) {
+            synchronized (this) {
+                if (!registrationFilterResolved) {
+                    if (hasFilterAnnotation()) {
+                        resolveFilter(filterFactories);
+                    }
+                    if (hasTransformerAnnotation()) {
+                        resolveTransformer(transformerFactories);
+                    }
+
+                    Filter f = filter;
+                    if (f != null && !(f instanceof MapEventFilter)) {
+                        f = new MapEventFilter(MapEventFilter.E_ALL, f);
+                    }
+                    if (transformer != null) {
+                        f = new MapEventTransformerFilter(f, transformer);
+                    }
+                    registrationFilter = f;
+                    registrationFilterResolved = true;
+                }
+            }
+        }
+        return registrationFilter;
+    }
+
     /**
      * Obtain the {@link Filter} that should be used when registering this listener.
      *
@@ -329,6 +430,16 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
         return WILD_CARD.equals(cacheName);
     }
 
+    /**
+     * Return {@code true} if this listener is for a cache name pattern, such as
+     * {@code orders-*}, rather than a single cache.
+     *
+     * @return {@code true} if this listener is for a cache name pattern
+     */
+    public boolean isCacheNamePattern() {
+        return CacheNameMatcher.isPattern(cacheName);
+    }
+
     /**
      * Return the name of the service this listener is for, or {@code '*'} if
      * it should be registered regardless of the service name.
@@ -401,23 +512,83 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
     /**
      * Notify the observer that the specified event occurred, if the event type
      * is supported.
+     * <p>If the observer coalesces events, every event is buffered, whatever its type, so
+     * that the net change per key is correct. The observer is notified of the net change
+     * when the coalescing window elapses, if the type of the net change is supported.</p>
      *
      * @param type  the event type
      * @param event the event
      */
     private void handle(Type type, MapEvent<K, V> event) {
-        if (isSupported(type)) {
-            if (observer.isAsync()) {
-                CompletableFuture.supplyAsync(() -> {
-                    observer.notify(event);
-                    return event;
-                });
+        if (coalesced) {
+            buffer.add(event);
+        } else if (isSupported(type)) {
+            if (buffer == null) {
+                dispatch(event);
             } else {
-                observer.notify(event);
+                buffer.add(event);
             }
         }
     }
 
+    /**
+     * Notify the observer of coalesced events whose net event type is supported.
+     *
+     * @param events the coalesced events
+     */
+    private void dispatchAll(List<MapEvent<K, V>> events) {
+        for (MapEvent<K, V> event : events) {
+            if (isSupported(Type.of(event.getId()))) {
+                dispatch(event);
+            }
+        }
+    }
+
+    /**
+     * Notify a batch observer of buffered events whose event type is supported, in
+     * batches of at most {@link #batchSize} events.
+     * <p>Batches are passed to asynchronous observers one at a time, in the order the
+     * events occurred.</p>
+     *
+     * @param events the buffered events
+     */
+    private void dispatchBatch(List<MapEvent<K, V>> events) {
+        List<MapEvent<K, V>> supported = eventTypes.isEmpty()
+                ? events
+                : events.stream().filter(e -> isSupported(Type.of(e.getId()))).toList();
+        int size = supported.size();
+        int max = batchSize > 0 ? batchSize : size;
+        for (int i = 0; i < size; i += max) {
+            List<MapEvent<K, V>> batch = supported.subList(i, Math.min(size, i + max));
+            dispatch(this, () -> observer.notifyBatch(batch));
+        }
+    }
+
+    /**
+     * Notify the observer of an event.
+     * <p>Asynchronous observers with an executor receive events for the same key
+     * in the order they occurred.</p>
+     *
+     * @param event the event
+     */
+    private void dispatch(MapEvent<K, V> event) {
+        dispatch(event.getKey(), () -> observer.notify(event));
+    }
+
+    /**
+     * Run a task that notifies the observer, on the observer's executor if it is asynchronous.
+     *
+     * @param key  the ordering key, tasks with the same key are run in order
+     * @param task the task that notifies the observer
+     */
+    private void dispatch(Object key, Runnable task) {
+        if (observer.isAsync() && orderedExecutor != null) {
+            orderedExecutor.execute(key, task);
+        } else {
+            task.run();
+        }
+    }
+
     @Override
     public String toString() {
         return "AnnotatedMapListener{" +
@@ -435,6 +606,20 @@ class AnnotatedMapListener<K, V> implements MapListener<K, V>, Comparable<Annota
     enum Type {
         INSERTED,
         UPDATED,
-        DELETED
+        DELETED;
+
+        /**
+         * Returns the event type for a {@link MapEvent} identifier.
+         *
+         * @param id the {@link MapEvent#getId() event identifier}
+         * @return the event type
+         */
+        static Type of(int id) {
+            return switch (id) {
+                case MapEvent.ENTRY_INSERTED -> INSERTED;
+                case MapEvent.ENTRY_UPDATED -> UPDATED;
+                default -> DELETED;
+            };
+        }
     }
 }
@@ -0,0 +1,501 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.tangosol.net.GuardSupport;
+import io.micronaut.coherence.KeyedExecutor;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>The dispatcher that invokes asynchronous
+ * {@link io.micronaut.coherence.annotation.CoherenceEventListener} methods.</p>
+ * <p>Events are dispatched to a fixed number of worker threads, each with its own bounded
+ * queue. Events submitted with a key, such as map events, are always dispatched to the
+ * same worker so events for the same key are observed in order.</p>
+ * <p>When a worker's queue is full the {@link RejectionPolicy} decides whether the caller
+ * blocks, runs the event itself, or the event is discarded. By default the caller runs the
+ * event. Coherence service threads are never blocked and never run observers, as an observer
+ * that uses the same service could then deadlock it, so unless the policy is
+ * {@link RejectionPolicy#DISCARD} their events are held in an unbounded overflow queue
+ * until the worker catches up.</p>
+ *
+ * @since 5.0.3
+ */
+@Singleton
+@Internal
+public class AsyncEventDispatcher implements KeyedExecutor, AutoCloseable {
+
+    /**
+     * The prefix of the dispatcher configuration properties.
+     */
+    public static final String PREFIX = "coherence.event.dispatcher";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    /**
+     * The default total capacity of the worker queues.
+     */
+    private static final int DEFAULT_QUEUE_SIZE = 65536;
+
+    /**
+     * The task offered to a worker queue to wake the worker when an event is added to its overflow queue.
+     */
+    private static final Task WAKE_UP = new Task(() -> { }, 0L);
+
+    /**
+     * The number of worker threads.
+     */
+    private final int threadCount;
+
+    /**
+     * The capacity of each worker queue.
+     */
+    private final int queueSize;
+
+    /**
+     * The policy applied when a worker queue is full.
+     */
+    private final RejectionPolicy rejectionPolicy;
+
+    /**
+     * The counter used to spread events without a key across the workers.
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * The number of events dispatched.
+     */
+    private final LongAdder dispatched = new LongAdder();
+
+    /**
+     * The number of events whose observer threw an exception.
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * The number of events discarded because a worker queue was full or the dispatcher was closed.
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * The number of events submitted to a full queue since the queues were last below capacity.
+     */
+    private final AtomicLong saturatedCount = new AtomicLong();
+
+    /**
+     * A flag indicating whether a worker queue has been found full, so the rejection policy
+     * is logged once per saturation rather than once per event.
+     */
+    private final AtomicBoolean saturated = new AtomicBoolean();
+
+    /**
+     * The total time in nanoseconds from events being submitted to their observers completing.
+     */
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    /**
+     * The maximum time in nanoseconds from an event being submitted to its observer completing.
+     */
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    /**
+     * The workers, created when the first event is dispatched.
+     */
+    private volatile Worker[] workers;
+
+    /**
+     * A flag indicating whether this dispatcher has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Create an {@link AsyncEventDispatcher}.
+     *
+     * @param threads          the number of worker threads, defaults to the number of processors
+     * @param queueSize        the total capacity of the worker queues
+     * @param rejectionPolicy  the policy applied when a worker queue is full, one of
+     *                         {@code block}, {@code caller-runs} or {@code discard}, defaults to {@code caller-runs}
+     */
+    @Inject
+    AsyncEventDispatcher(@Nullable @Property(name = PREFIX + ".threads") Integer threads,
+                         @Nullable @Property(name = PREFIX + ".queue-size") Integer queueSize,
+                         @Nullable @Property(name = PREFIX + ".rejection-policy") String rejectionPolicy) {
+        this.threadCount = threads == null || threads <= 0
+                ? Math.max(2, Runtime.getRuntime().availableProcessors())
+                : threads;
+        int totalQueueSize = queueSize == null || queueSize <= 0 ? DEFAULT_QUEUE_SIZE : queueSize;
+        this.queueSize = Math.max(1, (totalQueueSize + threadCount - 1) / threadCount);
+        this.rejectionPolicy = StringUtils.isEmpty(rejectionPolicy)
+                ? RejectionPolicy.CALLER_RUNS
+                : RejectionPolicy.parse(rejectionPolicy);
+    }
+
+    /**
+     * Dispatch an event that does not need to be ordered with other events.
+     *
+     * @param task  the task that notifies the observer
+     */
+    @Override
+    public void execute(Runnable task) {
+        Worker[] w = ensureWorkers();
+        w[Math.floorMod(next.getAndIncrement(), w.length)].submit(task);
+    }
+
+    /**
+     * Dispatch an event after all previously dispatched events with the same key.
+     *
+     * @param key   the ordering key
+     * @param task  the task that notifies the observer
+     */
+    @Override
+    public void execute(Object key, Runnable task) {
+        Worker[] w = ensureWorkers();
+        int hash = key == null ? 0 : key.hashCode();
+        w[Math.floorMod(hash ^ (hash >>> 16), w.length)].submit(task);
+    }
+
+    /**
+     * Returns the number of events waiting to be dispatched.
+     *
+     * @return the number of events waiting to be dispatched
+     */
+    public int getQueueDepth() {
+        Worker[] w = workers;
+        int depth = 0;
+        if (w != null) {
+            for (Worker worker : w) {
+                depth += worker.queue.size() + worker.overflow.size();
+            }
+        }
+        return depth;
+    }
+
+    /**
+     * Returns the number of events dispatched to observers.
+     *
+     * @return the number of events dispatched to observers
+     */
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * Returns the number of events whose observer threw an exception.
+     *
+     * @return the number of events whose observer threw an exception
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the number of events discarded because a queue was full or the dispatcher was closed.
+     *
+     * @return the number of discarded events
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns the total time in nanoseconds from events being submitted to their observers completing.
+     *
+     * @return the total dispatch latency in nanoseconds
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos.sum();
+    }
+
+    /**
+     * Returns the maximum time in nanoseconds from an event being submitted to its observer completing.
+     *
+     * @return the maximum dispatch latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        closed = true;
+        Worker[] w = workers;
+        if (w != null) {
+            for (Worker worker : w) {
+                worker.thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns the workers, starting them if this is the first event.
+     *
+     * @return the workers
+     */
+    private Worker[] ensureWorkers() {
+        Worker[] w = workers;
+        if (w == null) {
+            synchronized (this) {
+                w = workers;
+                if (w == null) {
+                    w = new Worker[threadCount];
+                    for (int i = 0; i < w.length; i++) {
+                        w[i] = new Worker(i);
+                    }
+                    workers = w;
+                }
+            }
+        }
+        return w;
+    }
+
+    /**
+     * Run a task and record its metrics.
+     *
+     * @param task  the task to run
+     */
+    private void run(Task task) {
+        try {
+            task.runnable.run();
+        } catch (Throwable t) {
+            errors.increment();
+            LOG.error("Error dispatching event to observer", t);
+        } finally {
+            long latency = System.nanoTime() - task.submitted;
+            dispatched.increment();
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        }
+    }
+
+    /**
+     * Record that an event was submitted to a full queue, logging a warning if the queues
+     * were previously below capacity.
+     *
+     * @param policy  the policy applied to the event
+     */
+    private void onSaturated(RejectionPolicy policy) {
+        saturatedCount.incrementAndGet();
+        if (!saturated.get() && saturated.compareAndSet(false, true)) {
+            LOG.warn("The event dispatcher queue is full (capacity {}), applying the {} rejection policy",
+                     queueSize, policy);
+        }
+    }
+
+    /**
+     * Record that an event was queued, logging how many events were affected if the queues
+     * were previously full.
+     */
+    private void onQueued() {
+        if (saturated.get() && saturated.compareAndSet(true, false)) {
+            LOG.info("The event dispatcher queue is below capacity, {} events were submitted while it was full"
+                     + " and {} events have been discarded in total", saturatedCount.getAndSet(0), rejected.sum());
+        }
+    }
+
+    /**
+     * The policies applied when a worker queue is full.
+     */
+    public enum RejectionPolicy {
+        /**
+         * Block the caller until there is space in the queue. Events are still dispatched in order.
+         * Events raised on Coherence service threads are held in the overflow queue rather than
+         * blocking the service.
+         */
+        BLOCK,
+        /**
+         * Notify the observer on the calling thread. Events for the same key may be observed out of order.
+         * Events raised on Coherence service threads are held in the overflow queue rather than
+         * running the observer on the service. This is the default policy.
+         */
+        CALLER_RUNS,
+        /**
+         * Discard the event. A warning is logged when the queue first becomes full.
+         */
+        DISCARD;
+
+        /**
+         * Returns the policy for a configuration value, such as {@code caller-runs}.
+         *
+         * @param value  the configuration value
+         *
+         * @return the policy
+         *
+         * @throws IllegalArgumentException if the value is not a valid policy
+         */
+        static RejectionPolicy parse(String value) {
+            try {
+                return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                String allowed = Arrays.stream(values())
+                        .map(policy -> policy.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                        .reduce((a, b) -> a + ", " + b)
+                        .orElse("");
+                throw new IllegalArgumentException("Invalid value '" + value + "' for property " + PREFIX
+                        + ".rejection-policy, allowed values are " + allowed, e);
+            }
+        }
+    }
+
+    /**
+     * An event waiting to be dispatched.
+     *
+     * @param runnable   the task that notifies the observer
+     * @param submitted  the {@link System#nanoTime()} the event was submitted
+     */
+    private record Task(Runnable runnable, long submitted) {
+    }
+
+    /**
+     * The thread type used by workers, so that events raised by observers can be detected.
+     */
+    private static final class DispatcherThread extends Thread {
+        DispatcherThread(Runnable runnable, String name) {
+            super(runnable, name);
+        }
+    }
+
+    /**
+     * A worker thread and its queue of events.
+     */
+    private final class Worker implements Runnable {
+        /**
+         * The events waiting to be dispatched by this worker.
+         */
+        private final BlockingQueue<Task> queue = new ArrayBlockingQueue<>(queueSize);
+
+        /**
+         * The events raised on Coherence service threads while the queue was full, dispatched
+         * after the events in the queue.
+         */
+        private final ConcurrentLinkedQueue<Task> overflow = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The worker thread.
+         */
+        private final Thread thread;
+
+        Worker(int id) {
+            this.thread = new DispatcherThread(this, "CoherenceEventDispatcher-" + id);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        /**
+         * Submit an event to this worker, applying the rejection policy if the queue is full.
+         *
+         * @param runnable  the task that notifies the observer
+         */
+        void submit(Runnable runnable) {
+            if (closed) {
+                rejected.increment();
+                throw new RejectedExecutionException("The event dispatcher has been closed");
+            }
+            Task task = new Task(runnable, System.nanoTime());
+            if (overflow.isEmpty() && queue.offer(task)) {
+                onQueued();
+                return;
+            }
+            RejectionPolicy policy = rejectionPolicy;
+            if (!overflow.isEmpty() && policy != RejectionPolicy.DISCARD) {
+                // keep events behind those already in the overflow queue so they stay in order
+                addOverflow(task);
+                return;
+            }
+            onSaturated(policy);
+            if (policy == RejectionPolicy.BLOCK && Thread.currentThread() instanceof DispatcherThread) {
+                // an observer caused another event, blocking could deadlock so run it here
+                policy = RejectionPolicy.CALLER_RUNS;
+            }
+            switch (policy) {
+                case BLOCK, CALLER_RUNS -> {
+                    if (GuardSupport.getThreadContext() != null) {
+                        // never park a Coherence service thread or run an observer on it
+                        addOverflow(task);
+                    } else if (policy == RejectionPolicy.BLOCK) {
+                        try {
+                            queue.put(task);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            rejected.increment();
+                            throw new RejectedExecutionException("Interrupted waiting to dispatch event", e);
+                        }
+                    } else {
+                        AsyncEventDispatcher.this.run(task);
+                    }
+                }
+                default -> rejected.increment();
+            }
+        }
+
+        /**
+         * Add an event to the overflow queue and make sure the worker is not waiting on an empty queue.
+         *
+         * @param task  the event
+         */
+        private void addOverflow(Task task) {
+            overflow.add(task);
+            if (queue.isEmpty()) {
+                queue.offer(WAKE_UP);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (!closed) {
+                try {
+                    Task task = queue.poll();
+                    if (task == null) {
+                        task = overflow.poll();
+                    }
+                    if (task == null) {
+                        task = queue.take();
+                    }
+                    if (task != WAKE_UP) {
+                        AsyncEventDispatcher.this.run(task);
+                    }
+                } catch (InterruptedException e) {
+                    // closed
+                    break;
+                }
+            }
+            int remaining = (int) queue.stream().filter(task -> task != WAKE_UP).count() + overflow.size();
+            if (remaining > 0) {
+                rejected.add(remaining);
+                LOG.debug("Event dispatcher closed with {} undispatched events", remaining);
+            }
+        }
+    }
+}
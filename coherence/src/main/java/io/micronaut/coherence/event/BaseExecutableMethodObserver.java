@@ -16,11 +16,13 @@
 package io.micronaut.coherence.event;
 
 import io.micronaut.coherence.annotation.Synchronous;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
 import io.micronaut.inject.ExecutableMethod;
 
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,6 +44,13 @@ abstract class BaseExecutableMethodObserver<E, T, R> {
 
     protected final EventArgumentBinderRegistry<E> binderRegistry;
 
+    protected final Executor executor;
+
+    /**
+     * The metrics recorded for the method.
+     */
+    protected final CoherenceMetrics.ListenerMetrics metrics;
+
     /**
      * Create a {@link ExecutableMethodEventObserver}.
      *
@@ -50,9 +59,26 @@ abstract class BaseExecutableMethodObserver<E, T, R> {
      * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
      */
     protected BaseExecutableMethodObserver(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<E> registry) {
+        this(supplier, method, registry, null, CoherenceMetrics.ListenerMetrics.NONE);
+    }
+
+    /**
+     * Create a {@link ExecutableMethodEventObserver}.
+     *
+     * @param supplier  a {@link Supplier} to lazily provide the Micronaut bean that has the executable method
+     * @param method    the method to execute when events are received
+     * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
+     * @param executor  the executor to run asynchronous observers on, or {@code null} to notify them on the calling thread
+     * @param metrics   the metrics recorded for the method
+     */
+    protected BaseExecutableMethodObserver(Supplier<T> supplier, ExecutableMethod<T, R> method,
+                                           EventArgumentBinderRegistry<E> registry, Executor executor,
+                                           CoherenceMetrics.ListenerMetrics metrics) {
         this.beanSupplier = supplier;
         this.method = method;
         this.binderRegistry = registry;
+        this.executor = executor;
+        this.metrics = metrics;
     }
 
     public String getId() {
@@ -68,4 +94,13 @@ abstract class BaseExecutableMethodObserver<E, T, R> {
     public boolean isAsync() {
         return !method.hasAnnotation(Synchronous.class);
     }
+
+    /**
+     * Returns the executor to run asynchronous observers on.
+     *
+     * @return the executor to run asynchronous observers on, or {@code null} to notify them on the calling thread
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * <p>Matches cache names against the cache name patterns of {@link AnnotatedMapListener}s.</p>
+ * <p>A pattern is either a glob, where {@code *} matches any sequence of characters and {@code ?}
+ * matches a single character, or a regular expression prefixed with {@value #REGEX_PREFIX}.
+ * Patterns are compiled once. Globs of the form {@code prefix*}, by far the most common, are held
+ * in a prefix trie so they are matched in a single pass over the cache name, other patterns fall
+ * back to regular expressions.</p>
+ *
+ * @since 5.0.3
+ */
+final class CacheNameMatcher {
+
+    /**
+     * The prefix of a cache name that is a regular expression.
+     */
+    static final String REGEX_PREFIX = "regex:";
+
+    /**
+     * The root of the trie of {@code prefix*} globs.
+     */
+    private final Node root = new Node();
+
+    /**
+     * The listeners whose patterns are matched using regular expressions.
+     */
+    private final List<Compiled> compiled = new ArrayList<>();
+
+    /**
+     * Create a {@link CacheNameMatcher}.
+     *
+     * @param listeners  the listeners keyed by cache name, names that are not patterns are ignored
+     */
+    @SafeVarargs
+    CacheNameMatcher(Map<String, Set<AnnotatedMapListener<?, ?>>>... listeners) {
+        for (Map<String, Set<AnnotatedMapListener<?, ?>>> map : listeners) {
+            map.forEach(this::add);
+        }
+    }
+
+    /**
+     * Returns {@code true} if there are no patterns to match.
+     *
+     * @return {@code true} if there are no patterns to match
+     */
+    boolean isEmpty() {
+        return root.children == null && compiled.isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if a cache name is a pattern rather than an exact name or
+     * the {@link AnnotatedMapListener#WILD_CARD wild-card}.
+     *
+     * @param cacheName  the cache name to check
+     *
+     * @return {@code true} if the cache name is a pattern
+     */
+    static boolean isPattern(String cacheName) {
+        return cacheName.startsWith(REGEX_PREFIX)
+                || (!AnnotatedMapListener.WILD_CARD.equals(cacheName)
+                    && (cacheName.indexOf('*') >= 0 || cacheName.indexOf('?') >= 0));
+    }
+
+    /**
+     * Returns the listeners with a pattern matching a cache name, merged with other listeners.
+     *
+     * @param cacheName  the cache name
+     * @param listeners  the listeners to merge the matches with
+     *
+     * @return the merged listeners, or {@code listeners} if no pattern matches the cache name
+     */
+    AnnotatedMapListener<?, ?>[] merge(String cacheName, AnnotatedMapListener<?, ?>[] listeners) {
+        Set<AnnotatedMapListener<?, ?>> matches = null;
+
+        Node node = root;
+        for (int i = 0; i < cacheName.length() && node != null; i++) {
+            node = node.children == null ? null : node.children.get(cacheName.charAt(i));
+            if (node != null && node.listeners != null) {
+                matches = add(matches, listeners, node.listeners);
+            }
+        }
+
+        for (Compiled c : compiled) {
+            if (c.pattern.matcher(cacheName).matches()) {
+                matches = add(matches, listeners, c.listeners);
+            }
+        }
+
+        return matches == null ? listeners : matches.toArray(new AnnotatedMapListener<?, ?>[0]);
+    }
+
+    /**
+     * Add the listeners for a pattern.
+     *
+     * @param pattern    the cache name pattern
+     * @param listeners  the listeners
+     */
+    private void add(String pattern, Set<AnnotatedMapListener<?, ?>> listeners) {
+        if (!isPattern(pattern)) {
+            return;
+        }
+        if (pattern.startsWith(REGEX_PREFIX)) {
+            compiled.add(new Compiled(Pattern.compile(pattern.substring(REGEX_PREFIX.length())), listeners));
+            return;
+        }
+
+        int star = pattern.indexOf('*');
+        if (star == pattern.length() - 1 && pattern.indexOf('?') < 0) {
+            Node node = root;
+            for (int i = 0; i < star; i++) {
+                node = node.child(pattern.charAt(i));
+            }
+            if (node.listeners == null) {
+                node.listeners = new LinkedHashSet<>();
+            }
+            node.listeners.addAll(listeners);
+        } else {
+            compiled.add(new Compiled(compileGlob(pattern), listeners));
+        }
+    }
+
+    /**
+     * Compile a glob into a regular expression.
+     *
+     * @param glob  the glob
+     *
+     * @return the regular expression
+     */
+    private static Pattern compileGlob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Add matched listeners to the set of matches, creating it from the other listeners if required.
+     *
+     * @param matches    the matches so far, or {@code null} if there are none
+     * @param listeners  the other listeners
+     * @param matched    the matched listeners to add
+     *
+     * @return the matches
+     */
+    private static Set<AnnotatedMapListener<?, ?>> add(Set<AnnotatedMapListener<?, ?>> matches,
+                                                       AnnotatedMapListener<?, ?>[] listeners,
+                                                       Set<AnnotatedMapListener<?, ?>> matched) {
+        if (matches == null) {
+            matches = new LinkedHashSet<>(Arrays.asList(listeners));
+        }
+        matches.addAll(matched);
+        return matches;
+    }
+
+    /**
+     * A node in the trie of {@code prefix*} globs.
+     */
+    private static final class Node {
+        /**
+         * The child nodes keyed by the next character of the prefix.
+         */
+        private Map<Character, Node> children;
+
+        /**
+         * The listeners whose prefix ends at this node.
+         */
+        private Set<AnnotatedMapListener<?, ?>> listeners;
+
+        /**
+         * Returns the child node for a character, creating it if required.
+         *
+         * @param c  the character
+         *
+         * @return the child node
+         */
+        Node child(char c) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(c, k -> new Node());
+        }
+    }
+
+    /**
+     * The listeners whose pattern is matched using a regular expression.
+     *
+     * @param pattern    the compiled pattern
+     * @param listeners  the listeners
+     */
+    private record Compiled(Pattern pattern, Set<AnnotatedMapListener<?, ?>> listeners) {
+    }
+}
@@ -22,32 +22,36 @@ import com.tangosol.net.Session;
 import com.tangosol.net.events.Event;
 import com.tangosol.net.events.NamedEventInterceptor;
 import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
+import com.tangosol.net.events.partition.cache.EntryEvent;
 import com.tangosol.util.Filter;
 import com.tangosol.util.MapEvent;
-import com.tangosol.util.MapEventTransformer;
 import com.tangosol.util.SafeLinkedList;
-import com.tangosol.util.filter.MapEventFilter;
-import com.tangosol.util.filter.MapEventTransformerFilter;
+import io.micronaut.coherence.ExtractorFactories;
 import io.micronaut.coherence.FilterFactories;
+import io.micronaut.coherence.ListenerExecutors;
 import io.micronaut.coherence.MapEventTransformerFactories;
 import io.micronaut.coherence.annotation.CoherenceEventListener;
 import io.micronaut.coherence.annotation.Created;
+import io.micronaut.coherence.annotation.ListenerExecutor;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Context;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.ExecutableMethod;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -80,6 +84,12 @@ public class CoherenceEventListenerProcessor
      */
     private final Map<String, Map<String, Set<AnnotatedMapListener<?, ?>>>> mapListeners = new HashMap<>();
 
+    /**
+     * The index of the discovered map listeners by service and cache name, built when
+     * listeners are first looked up after a listener has been added.
+     */
+    private volatile MapListenerIndex listenerIndex;
+
     /**
      * The Micronaut bean context.
      */
@@ -90,6 +100,21 @@ public class CoherenceEventListenerProcessor
      */
     private final EventArgumentBinderRegistry<?> binderRegistry;
 
+    /**
+     * The resolver of the executors used to invoke listener methods.
+     */
+    private final ListenerExecutors listenerExecutors;
+
+    /**
+     * The dispatcher used to invoke asynchronous observers on platform threads.
+     */
+    private final AsyncEventDispatcher dispatcher;
+
+    /**
+     * The metrics recorded for listener methods.
+     */
+    private final CoherenceMetrics metrics;
+
     @SuppressWarnings("unchecked")
     private final List<NamedEventInterceptor<?>> interceptors = new SafeLinkedList();
 
@@ -99,15 +124,27 @@ public class CoherenceEventListenerProcessor
      * @param beanContext        the {@link io.micronaut.context.BeanContext}
      * @param filterFactories    the factory to produce {@link com.tangosol.util.Filter} instances
      * @param transformerFactory the factory to produce {@link com.tangosol.util.MapEventTransformer} instances
+     * @param extractorFactories the factory to produce {@link com.tangosol.util.ValueExtractor} instances
+     *                           for entry event observer arguments
+     * @param listenerExecutors  the resolver of the executors used to invoke listener methods
+     * @param dispatcher         the dispatcher used to invoke asynchronous observers on platform threads
+     * @param metrics            the metrics recorded for listener methods, or {@code null} if metrics are not enabled
      */
     @Inject
     public CoherenceEventListenerProcessor(ApplicationContext beanContext,
                                            FilterFactories filterFactories,
-                                           MapEventTransformerFactories transformerFactory) {
+                                           MapEventTransformerFactories transformerFactory,
+                                           ExtractorFactories extractorFactories,
+                                           ListenerExecutors listenerExecutors,
+                                           AsyncEventDispatcher dispatcher,
+                                           @Nullable CoherenceMetrics metrics) {
         this.filterProducer = filterFactories;
         this.transformerProducer = transformerFactory;
         this.ctx = beanContext;
-        this.binderRegistry = new EventArgumentBinderRegistry<>();
+        this.binderRegistry = new EventArgumentBinderRegistry<>(extractorFactories);
+        this.listenerExecutors = listenerExecutors;
+        this.dispatcher = dispatcher;
+        this.metrics = metrics == null ? CoherenceMetrics.NONE : metrics;
     }
 
     /**
@@ -131,29 +168,45 @@ public class CoherenceEventListenerProcessor
     @Override
     @SuppressWarnings({"rawtypes", "unchecked"})
     public void process(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
-        // must have a single parameter that is a Coherence event
+        // must have a single parameter that is a Coherence event, or a List or Collection of map events,
+        // entry event observers may have further parameters bound from the event's entry
         Argument<?>[] arguments = method.getArguments();
-        Class<?> type = arguments.length == 1 ? arguments[0].getType() : null;
+        boolean batch = ExecutableMethodMapListener.isBatch(method);
+        Class<?> type = batch ? MapEvent.class : arguments.length == 1 ? arguments[0].getType() : null;
+        if (arguments.length > 1 && EntryEvent.class.isAssignableFrom(arguments[0].getType())) {
+            type = arguments[0].getType();
+        }
         if (type != null && (Event.class.isAssignableFrom(type) || MapEvent.class.isAssignableFrom(type))) {
             Class<?> clsBeanType = beanDefinition.getBeanType();
-            Supplier<Object> bean = () -> ctx.getBean(clsBeanType);
+            // resolve singleton beans once, rather than looking them up for every event
+            Supplier<Object> bean = beanDefinition.isSingleton()
+                    ? SupplierUtil.memoized(() -> ctx.getBean(clsBeanType))
+                    : () -> ctx.getBean(clsBeanType);
+            ListenerExecutor listenerExecutor = method.enumValue(CoherenceEventListener.class, "executor", ListenerExecutor.class)
+                    .orElse(ListenerExecutor.DEFAULT);
+            Executor executor = listenerExecutors.isVirtual(listenerExecutor)
+                    ? listenerExecutors.getVirtualExecutor()
+                    : dispatcher;
+            CoherenceMetrics.ListenerMetrics listenerMetrics =
+                    metrics.listener(clsBeanType.getSimpleName() + "." + method.getMethodName());
 
             if (Event.class.isAssignableFrom(type)) {
-                ExecutableMethodEventObserver observer = new ExecutableMethodEventObserver(bean, method, binderRegistry);
+                ExecutableMethodEventObserver observer = new ExecutableMethodEventObserver(bean, method, binderRegistry, executor, listenerMetrics);
                 EventObserverSupport.EventHandler handler = EventObserverSupport
-                        .createObserver((Class<? extends Event>) type, observer);
+                        .createObserver((Class<? extends Event>) type, observer, filterProducer);
                 NamedEventInterceptor interceptor = new NamedEventInterceptor(observer.getId(), handler);
                 interceptors.add(interceptor);
             } else {
-                // type is MapEvent
-                ExecutableMethodMapListener listener = new ExecutableMethodMapListener(bean, method, binderRegistry);
+                // type is MapEvent, or a List or Collection of MapEvent
+                ExecutableMethodMapListener listener = new ExecutableMethodMapListener(bean, method, binderRegistry, executor, listenerMetrics);
                 AnnotatedMapListener mapListener = new AnnotatedMapListener(listener, listener.getObservedQualifiers());
                 addMapListener(mapListener);
             }
         } else {
             throw new IllegalArgumentException("The @CoherenceEventListener annotated method "
                     + method
-                    .getTargetMethod() + " must have a single Coherence Event or MapEvent argument.");
+                    .getTargetMethod() + " must have a single Coherence Event, MapEvent, or List or Collection of MapEvent argument,"
+                    + " or an EntryEvent argument followed by arguments bound from the entry.");
         }
     }
 
@@ -172,41 +225,23 @@ public class CoherenceEventListenerProcessor
         String eventSession = event.getSessionName();
         String eventService = event.getServiceName();
 
-        Set<AnnotatedMapListener<?, ?>> setListeners = getMapListeners(removeScope(eventService), cacheName);
+        AnnotatedMapListener<?, ?>[] listeners = getMapListeners(removeScope(eventService), cacheName);
+        if (listeners.length == 0) {
+            return;
+        }
 
         Session session = Coherence.findSession(eventSession)
                 .orElseThrow(() -> new IllegalStateException("Cannot find a Session with name " + eventSession));
         NamedCache cache = session.getCache(cacheName);
 
-        for (AnnotatedMapListener<?, ?> listener : setListeners) {
-            if (listener.hasFilterAnnotation()) {
-                // ensure that the listener's filter has been resolved as this
-                // was not possible as discovery time.
-                listener.resolveFilter(filterProducer);
-            }
-
-            if (listener.hasTransformerAnnotation()) {
-                // ensure that the listener's transformer has been resolved as this
-                // was not possible as discovery time.
-                listener.resolveTransformer(transformerProducer);
-            }
-
+        for (AnnotatedMapListener<?, ?> listener : listeners) {
             String sScope = listener.getScopeName();
             boolean fScopeOK = sScope == null || sScope.equals(eventScope);
             String sSession = listener.getSessionName();
             boolean fSessionOK = sSession == null || sSession.equals(eventSession);
 
             if (fScopeOK && fSessionOK) {
-                Filter filter = listener.getFilter();
-                if (filter != null && !(filter instanceof MapEventFilter)) {
-                    filter = new MapEventFilter(MapEventFilter.E_ALL, filter);
-                }
-
-                MapEventTransformer transformer = listener.getTransformer();
-                if (transformer != null) {
-                    filter = new MapEventTransformerFilter(filter, transformer);
-                }
-
+                Filter filter = listener.getRegistrationFilter(filterProducer, transformerProducer);
                 try {
                     boolean fLite = listener.isLite();
                     if (listener.isSynchronous()) {
@@ -240,13 +275,14 @@ public class CoherenceEventListenerProcessor
      *
      * @param listener the listener to add
      */
-    void addMapListener(AnnotatedMapListener<?, ?> listener) {
+    synchronized void addMapListener(AnnotatedMapListener<?, ?> listener) {
         String svc = listener.getServiceName();
         String cache = listener.getCacheName();
 
         Map<String, Set<AnnotatedMapListener<?, ?>>> mapByCache = mapListeners.computeIfAbsent(svc, s -> new HashMap<>());
         Set<AnnotatedMapListener<?, ?>> setListeners = mapByCache.computeIfAbsent(cache, c -> new HashSet<>());
         setListeners.add(listener);
+        listenerIndex = null;
     }
 
     /**
@@ -255,16 +291,20 @@ public class CoherenceEventListenerProcessor
      *
      * @param serviceName the name of the service
      * @param cacheName   the name of the cache
-     * @return a set of all listeners that should be registered
+     * @return all listeners that should be registered, the returned array must not be modified
      */
-    Set<AnnotatedMapListener<?, ?>> getMapListeners(String serviceName, String cacheName) {
-        HashSet<AnnotatedMapListener<?, ?>> setResults = new HashSet<>();
-        collectMapListeners(setResults, "*", "*");
-        collectMapListeners(setResults, "*", cacheName);
-        collectMapListeners(setResults, serviceName, "*");
-        collectMapListeners(setResults, serviceName, cacheName);
-
-        return setResults;
+    AnnotatedMapListener<?, ?>[] getMapListeners(String serviceName, String cacheName) {
+        MapListenerIndex index = listenerIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = listenerIndex;
+                if (index == null) {
+                    index = new MapListenerIndex(mapListeners);
+                    listenerIndex = index;
+                }
+            }
+        }
+        return index.get(serviceName, cacheName);
     }
 
     /**
@@ -274,29 +314,15 @@ public class CoherenceEventListenerProcessor
      * @return all map listeners that should be registered against a
      * specific cache or map in a specific session
      */
-    Collection<AnnotatedMapListener<?, ?>> getNonWildcardMapListeners() {
+    synchronized Collection<AnnotatedMapListener<?, ?>> getNonWildcardMapListeners() {
         return mapListeners.values()
                 .stream()
                 .flatMap(map -> map.values().stream())
                 .flatMap(Set::stream)
                 .filter(listener -> listener.getSessionName() != null)
                 .filter(listener -> !listener.isWildCardCacheName())
+                .filter(listener -> !listener.isCacheNamePattern())
                 .sorted()
                 .collect(Collectors.toList());
     }
-
-    /**
-     * Add all map listeners for the specified service and cache combination to
-     * the specified result set.
-     *
-     * @param setResults  the set of results to accumulate listeners into
-     * @param serviceName the name of the service
-     * @param cacheName   the name of the cache
-     */
-    private void collectMapListeners(HashSet<AnnotatedMapListener<?, ?>> setResults, String serviceName, String cacheName) {
-        Map<String, Set<AnnotatedMapListener<?, ?>>> mapByCache = mapListeners.get(serviceName);
-        if (mapByCache != null) {
-            setResults.addAll(mapByCache.getOrDefault(cacheName, Collections.emptySet()));
-        }
-    }
 }
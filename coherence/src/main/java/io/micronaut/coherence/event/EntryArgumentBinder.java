@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.tangosol.net.events.partition.cache.EntryEvent;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapTrigger;
+import com.tangosol.util.ValueExtractor;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.convert.ArgumentConversionContext;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * An {@link io.micronaut.core.bind.ArgumentBinder} that binds a value from the
+ * {@link BinaryEntry} of an {@link EntryEvent}.
+ * <p>Serialized keys and values are bound without being deserialized, and extractors are
+ * applied to the entry so that, for example, a {@link com.tangosol.util.extractor.PofExtractor}
+ * reads a single property from the POF stream. For removal events the original value of the
+ * entry is used.</p>
+ * <p>An event may contain several entries, for example when it is raised by a {@code putAll}, so
+ * observers with entry bound arguments are invoked once for each entry of the event, see
+ * {@link ExecutableMethodEventObserver}. When bound through the {@link ArgumentBinder} interface
+ * the first entry of the event is used.</p>
+ *
+ * @param <T> the argument type
+ * @param <E> the type of event
+ * @since 5.0.3
+ */
+class EntryArgumentBinder<T, E> implements ArgumentBinder<T, E> {
+
+    /**
+     * The part of the entry to bind.
+     */
+    private final Source source;
+
+    /**
+     * The extractor to apply to the entry, if the source is {@link Source#EXTRACTOR}.
+     */
+    private final ValueExtractor<?, ?> extractor;
+
+    /**
+     * Create an {@link EntryArgumentBinder}.
+     *
+     * @param source     the part of the entry to bind
+     * @param extractor  the extractor to apply to the entry, if the source is {@link Source#EXTRACTOR}
+     */
+    EntryArgumentBinder(Source source, ValueExtractor<?, ?> extractor) {
+        this.source = source;
+        this.extractor = extractor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public BindingResult<T> bind(ArgumentConversionContext<T> context, E event) {
+        if (!(event instanceof EntryEvent<?, ?>)) {
+            return BindingResult.UNSATISFIED;
+        }
+        Object value = extract(event);
+        return () -> Optional.ofNullable((T) value);
+    }
+
+    /**
+     * Extract the bound value from the first entry of an event.
+     *
+     * @param event  the event
+     * @return the bound value, or {@code null} if the event is not an entry event or has no entries
+     */
+    private Object extract(E event) {
+        if (!(event instanceof EntryEvent<?, ?> entryEvent)) {
+            return null;
+        }
+        Iterator<? extends BinaryEntry<?, ?>> entries = entryEvent.getEntrySet().iterator();
+        return entries.hasNext() ? extract(entries.next(), isRemoved(entryEvent)) : null;
+    }
+
+    /**
+     * Extract the bound value from an entry.
+     * <p>Unlike {@link #bind(ArgumentConversionContext, Object)} this does not allocate
+     * a {@link io.micronaut.core.bind.ArgumentBinder.BindingResult}.</p>
+     *
+     * @param entry    the entry
+     * @param removed  {@code true} if the entry has been removed
+     * @return the bound value
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    Object extract(BinaryEntry<?, ?> entry, boolean removed) {
+        return switch (source) {
+            case BINARY_KEY -> entry.getBinaryKey();
+            case KEY -> entry.getKey();
+            case BINARY_VALUE -> removed ? entry.getOriginalBinaryValue() : entry.getBinaryValue();
+            case EXTRACTOR -> removed && entry instanceof MapTrigger.Entry trigger
+                    ? InvocableMapHelper.extractOriginalFromEntry((ValueExtractor) extractor, trigger)
+                    : entry.extract((ValueExtractor) extractor);
+        };
+    }
+
+    /**
+     * Returns {@code true} if the entries of an event have been removed, in which case
+     * values are bound from the original value of the entries.
+     *
+     * @param event  the event
+     * @return {@code true} if the entries of the event have been removed
+     */
+    static boolean isRemoved(EntryEvent<?, ?> event) {
+        EntryEvent.Type type = event.getType();
+        return type == EntryEvent.Type.REMOVING || type == EntryEvent.Type.REMOVED;
+    }
+
+    /**
+     * The parts of an entry that can be bound.
+     */
+    enum Source {
+        /**
+         * The serialized key.
+         */
+        BINARY_KEY,
+        /**
+         * The deserialized key.
+         */
+        KEY,
+        /**
+         * The serialized value.
+         */
+        BINARY_VALUE,
+        /**
+         * A value extracted from the entry.
+         */
+        EXTRACTOR
+    }
+}
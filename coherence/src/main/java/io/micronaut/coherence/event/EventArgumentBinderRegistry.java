@@ -16,11 +16,18 @@
 package io.micronaut.coherence.event;
 
 import com.tangosol.net.events.Event;
+import com.tangosol.util.Binary;
 import com.tangosol.util.MapEvent;
+import io.micronaut.coherence.ExtractorFactories;
+import io.micronaut.coherence.annotation.EntryKey;
+import io.micronaut.coherence.annotation.ExtractorBinding;
 import io.micronaut.core.bind.ArgumentBinder;
 import io.micronaut.core.bind.ArgumentBinderRegistry;
 import io.micronaut.core.type.Argument;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,14 +38,67 @@ import java.util.Optional;
  * @since 1.0
  */
 class EventArgumentBinderRegistry<E> implements ArgumentBinderRegistry<E> {
+
+    /**
+     * The factories used to resolve {@link ExtractorBinding} annotations, or {@code null}
+     * if extractor arguments are not supported.
+     */
+    private final ExtractorFactories extractorFactories;
+
+    /**
+     * The binders for entry event arguments, keyed by argument identity as arguments
+     * with the same name and type may have different annotations.
+     */
+    private final Map<Argument<?>, ArgumentBinder<?, E>> entryBinders = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Create an {@link EventArgumentBinderRegistry} that only binds event arguments.
+     */
+    EventArgumentBinderRegistry() {
+        this(null);
+    }
+
+    /**
+     * Create an {@link EventArgumentBinderRegistry}.
+     *
+     * @param extractorFactories the factories used to resolve {@link ExtractorBinding} annotated
+     *                           arguments, or {@code null} if extractor arguments are not supported
+     */
+    EventArgumentBinderRegistry(ExtractorFactories extractorFactories) {
+        this.extractorFactories = extractorFactories;
+    }
+
     @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public <T> Optional<ArgumentBinder<T, E>> findArgumentBinder(Argument<T> argument) {
     Class<?> argumentType = argument.getType();
         if (Event.class.isAssignableFrom(argumentType)
             || MapEvent.class.isAssignableFrom(argumentType)) {
             return Optional.of(new EventArgumentBinder<>());
-        } else {
-            return Optional.empty();
         }
+        ArgumentBinder binder = entryBinders.computeIfAbsent(argument, this::createEntryBinder);
+        return Optional.ofNullable(binder);
+    }
+
+    /**
+     * Create the binder for an argument bound from the entry of an entry event.
+     *
+     * @param argument the argument
+     * @return the binder, or {@code null} if the argument cannot be bound from an entry
+     */
+    private ArgumentBinder<?, E> createEntryBinder(Argument<?> argument) {
+        if (argument.isAnnotationPresent(EntryKey.class)) {
+            EntryArgumentBinder.Source source = Binary.class.equals(argument.getType())
+                    ? EntryArgumentBinder.Source.BINARY_KEY
+                    : EntryArgumentBinder.Source.KEY;
+            return new EntryArgumentBinder<>(source, null);
+        }
+        if (extractorFactories != null && argument.getAnnotationMetadata().hasStereotype(ExtractorBinding.class)) {
+            return new EntryArgumentBinder<>(EntryArgumentBinder.Source.EXTRACTOR, extractorFactories.resolve(argument));
+        }
+        if (Binary.class.equals(argument.getType())) {
+            return new EntryArgumentBinder<>(EntryArgumentBinder.Source.BINARY_VALUE, null);
+        }
+        return null;
     }
 }
@@ -34,14 +34,21 @@ import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
 import com.tangosol.net.events.partition.cache.CacheLifecycleEventDispatcher;
 import com.tangosol.net.events.partition.cache.EntryEvent;
 import com.tangosol.net.events.partition.cache.EntryProcessorEvent;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapTrigger;
+import io.micronaut.coherence.FilterFactories;
 import io.micronaut.coherence.annotation.*;
 import io.micronaut.coherence.annotation.Error;
 
 import java.lang.annotation.Annotation;
 import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Manages registration of observer methods with {@link InterceptorRegistry}
@@ -55,9 +62,27 @@ public final class EventObserverSupport {
     private EventObserverSupport() {
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     static <E extends Event<T>, T extends Enum<T>>
     EventHandler<E, T> createObserver(Class<E> type, ExecutableMethodEventObserver<E, ?, ?> observer) {
+        return createObserver(type, observer, null);
+    }
+
+    /**
+     * Create the interceptor for an observer method.
+     *
+     * @param type            the type of event the observer method receives
+     * @param observer        the observer method
+     * @param filterFactories the {@link FilterFactories} used to resolve the {@link FilterBinding}
+     *                        annotations of entry event observers, or {@code null} to ignore them
+     * @param <E>             the type of event
+     * @param <T>             the enumeration of event types E supports
+     * @return the interceptor for the observer method
+     * @since 5.0.3
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <E extends Event<T>, T extends Enum<T>>
+    EventHandler<E, T> createObserver(Class<E> type, ExecutableMethodEventObserver<E, ?, ?> observer,
+                                      FilterFactories filterFactories) {
         if (CacheLifecycleEvent.class.equals(type)) {
             return (EventHandler<E, T>) new CacheLifecycleEventHandler(((ExecutableMethodEventObserver<CacheLifecycleEvent, ?, ?>) observer));
         }
@@ -65,10 +90,11 @@ public final class EventObserverSupport {
             return (EventHandler<E, T>) new CoherenceLifecycleEventHandler((ExecutableMethodEventObserver<CoherenceLifecycleEvent, ?, ?>) observer);
         }
         if (EntryEvent.class.equals(type)) {
-            return new EntryEventHandler(observer);
+            return new EntryEventHandler(observer, filterFactories);
         }
         if (EntryProcessorEvent.class.equals(type)) {
-            return (EventHandler<E, T>) new EntryProcessorEventHandler((ExecutableMethodEventObserver<EntryProcessorEvent, ?, ?>) observer);
+            return (EventHandler<E, T>) new EntryProcessorEventHandler((ExecutableMethodEventObserver<EntryProcessorEvent, ?, ?>) observer,
+                    filterFactories);
         }
         if (LifecycleEvent.class.equals(type)) {
             return (EventHandler<E, T>) new LifecycleEventHandler((ExecutableMethodEventObserver<LifecycleEvent, ?, ?>) observer);
@@ -158,13 +184,12 @@ public final class EventObserverSupport {
                 String eventScope = getEventScope(event);
 
                 if (observerScope == null || eventScope == null || observerScope.equals(eventScope)) {
-                    if (observer.isAsync()) {
-                        CompletableFuture.supplyAsync(() -> {
-                            observer.notify(event);
-                            return event;
-                        });
+                    Set<? extends BinaryEntry<?, ?>> entries = getEntries(event);
+                    Executor executor = observer.isAsync() ? observer.getExecutor() : null;
+                    if (executor != null) {
+                        executor.execute(() -> observer.notify(event, entries));
                     } else {
-                        observer.notify(event);
+                        observer.notify(event, entries);
                     }
                 }
             }
@@ -205,6 +230,18 @@ public final class EventObserverSupport {
             return true;
         }
 
+        /**
+         * Return the entries of the event that the observer is invoked for, if the
+         * observer is invoked once for each entry of the event.
+         *
+         * @param event the event
+         * @return the entries of the event the observer is invoked for, or {@code null}
+         * for all the entries of the event
+         */
+        Set<? extends BinaryEntry<?, ?>> getEntries(E event) {
+            return null;
+        }
+
         /**
          * Return the scope name of the {@link ConfigurableCacheFactory} the
          * specified event was raised from.
@@ -436,7 +473,16 @@ public final class EventObserverSupport {
      */
     static class EntryEventHandler<K, V> extends CacheEventHandler<EntryEvent<K, V>, EntryEvent.Type> {
 
+        /**
+         * The filter the event entries must match, or {@code null} if all events fire.
+         */
+        private final EventEntryFilter entryFilter;
+
         EntryEventHandler(ExecutableMethodEventObserver<EntryEvent<K, V>, ?, ?> observer) {
+            this(observer, null);
+        }
+
+        EntryEventHandler(ExecutableMethodEventObserver<EntryEvent<K, V>, ?, ?> observer, FilterFactories filterFactories) {
             super(observer, EntryEvent.Type.class);
 
             for (Annotation a : observer.getObservedQualifiers()) {
@@ -454,6 +500,29 @@ public final class EventObserverSupport {
                     addType(EntryEvent.Type.REMOVED);
                 }
             }
+
+            entryFilter = EventEntryFilter.create(observer, filterFactories);
+        }
+
+        @Override
+        boolean shouldFire(EntryEvent<K, V> event) {
+            if (entryFilter == null) {
+                return true;
+            }
+            return entryFilter.evaluate(event.getEntrySet(), EntryArgumentBinder.isRemoved(event));
+        }
+
+        /**
+         * {@inheritDoc}
+         * <p>An observer with entry bound arguments is only invoked for the entries that match
+         * the filter.</p>
+         */
+        @Override
+        Set<? extends BinaryEntry<?, ?>> getEntries(EntryEvent<K, V> event) {
+            if (entryFilter == null || !observer.isEntryBound()) {
+                return null;
+            }
+            return entryFilter.select(event.getEntrySet(), EntryArgumentBinder.isRemoved(event));
         }
     }
 
@@ -465,7 +534,17 @@ public final class EventObserverSupport {
             extends CacheEventHandler<EntryProcessorEvent, EntryProcessorEvent.Type> {
         final Class<?> m_classProcessor;
 
+        /**
+         * The filter the event entries must match, or {@code null} if all events fire.
+         */
+        private final EventEntryFilter entryFilter;
+
         EntryProcessorEventHandler(ExecutableMethodEventObserver<EntryProcessorEvent, ?, ?> observer) {
+            this(observer, null);
+        }
+
+        EntryProcessorEventHandler(ExecutableMethodEventObserver<EntryProcessorEvent, ?, ?> observer,
+                                   FilterFactories filterFactories) {
             super(observer, EntryProcessorEvent.Type.class);
 
             Class<?> classProcessor = null;
@@ -481,11 +560,140 @@ public final class EventObserverSupport {
             }
 
             m_classProcessor = classProcessor;
+            entryFilter = EventEntryFilter.create(observer, filterFactories);
+
+            // EXECUTED events have no entries to evaluate the filter against
+            if (entryFilter != null) {
+                if (eventTypes.contains(EntryProcessorEvent.Type.EXECUTED)) {
+                    throw new IllegalArgumentException("Filter bindings are not supported on @Executed "
+                            + "EntryProcessorEvent observers, as executed events have no entries: " + observer);
+                }
+                addType(EntryProcessorEvent.Type.EXECUTING);
+            }
         }
 
         @Override
         boolean shouldFire(EntryProcessorEvent event) {
-            return m_classProcessor == null || m_classProcessor.equals(event.getProcessor().getClass());
+            return (m_classProcessor == null || m_classProcessor.equals(event.getProcessor().getClass()))
+                    && (entryFilter == null || entryFilter.evaluate(event.getEntrySet(), false));
+        }
+    }
+
+
+    /**
+     * Evaluates the {@link FilterBinding} annotations of an entry event observer against
+     * the binary entries of an event.
+     * <p>The filter is evaluated on the thread raising the event, before the observer is notified,
+     * using the serialized entries so that values are only deserialized if the filter requires it.
+     * The filter is resolved when the first event is raised, as this is not possible at discovery time.</p>
+     */
+    static final class EventEntryFilter {
+
+        /**
+         * The {@link FilterBinding} annotations of the observer.
+         */
+        private final Set<Annotation> annotations;
+
+        /**
+         * The factories used to resolve the filter.
+         */
+        private final FilterFactories filterFactories;
+
+        /**
+         * The resolved filter.
+         */
+        private volatile Filter<?> filter;
+
+        private EventEntryFilter(Set<Annotation> annotations, FilterFactories filterFactories) {
+            this.annotations = annotations;
+            this.filterFactories = filterFactories;
+        }
+
+        /**
+         * Create an {@link EventEntryFilter} for an observer.
+         *
+         * @param observer        the observer
+         * @param filterFactories the factories used to resolve the filter, or {@code null}
+         * @return the {@link EventEntryFilter}, or {@code null} if the observer has no
+         * {@link FilterBinding} annotations or there are no factories to resolve them
+         */
+        static EventEntryFilter create(ExecutableMethodEventObserver<?, ?, ?> observer, FilterFactories filterFactories) {
+            if (filterFactories == null) {
+                return null;
+            }
+            Set<Annotation> annotations = observer.getObservedQualifiers().stream()
+                    .filter(a -> a.annotationType().isAnnotationPresent(FilterBinding.class))
+                    .collect(Collectors.toSet());
+            return annotations.isEmpty() ? null : new EventEntryFilter(annotations, filterFactories);
+        }
+
+        /**
+         * Returns {@code true} if any of the entries match the filter.
+         *
+         * @param entries  the entries to evaluate
+         * @param original {@code true} to evaluate the original value of the entries, for
+         *                 example when the entries have been removed
+         * @return {@code true} if any of the entries match the filter
+         */
+        @SuppressWarnings("rawtypes")
+        boolean evaluate(Set<? extends BinaryEntry> entries, boolean original) {
+            Filter f = ensureFilter();
+            for (BinaryEntry entry : entries) {
+                if (matches(f, entry, original)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the entries that match the filter.
+         *
+         * @param entries  the entries to evaluate
+         * @param original {@code true} to evaluate the original value of the entries, for
+         *                 example when the entries have been removed
+         * @param <B>      the type of the entries
+         * @return the entries that match the filter
+         */
+        @SuppressWarnings("rawtypes")
+        <B extends BinaryEntry<?, ?>> Set<B> select(Set<B> entries, boolean original) {
+            Filter f = ensureFilter();
+            Set<B> matching = new LinkedHashSet<>();
+            for (B entry : entries) {
+                if (matches(f, entry, original)) {
+                    matching.add(entry);
+                }
+            }
+            return matching;
+        }
+
+        /**
+         * Returns the filter, resolving it if this is the first event.
+         *
+         * @return the filter
+         */
+        private Filter<?> ensureFilter() {
+            Filter<?> f = filter;
+            if (f == null) {
+                f = filterFactories.resolve(annotations);
+                filter = f;
+            }
+            return f;
+        }
+
+        /**
+         * Returns {@code true} if an entry matches the filter.
+         *
+         * @param f        the filter
+         * @param entry    the entry
+         * @param original {@code true} to evaluate the original value of the entry
+         * @return {@code true} if the entry matches the filter
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static boolean matches(Filter f, BinaryEntry entry, boolean original) {
+            return original && entry instanceof MapTrigger.Entry trigger
+                    ? InvocableMapHelper.evaluateOriginalEntry(f, trigger)
+                    : InvocableMapHelper.evaluateEntry(f, entry);
         }
     }
 
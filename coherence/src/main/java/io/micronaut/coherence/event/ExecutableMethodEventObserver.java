@@ -16,15 +16,19 @@
 package io.micronaut.coherence.event;
 
 import com.tangosol.net.events.Event;
-import com.tangosol.net.events.application.LifecycleEvent;
-import io.micronaut.core.bind.BoundExecutable;
-import io.micronaut.core.bind.DefaultExecutableBinder;
-import io.micronaut.core.bind.ExecutableBinder;
+import com.tangosol.net.events.partition.cache.EntryEvent;
+import com.tangosol.util.BinaryEntry;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.ExecutableMethod;
 
-import java.util.Collections;
-import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 /**
@@ -39,6 +43,17 @@ import java.util.function.Supplier;
 class ExecutableMethodEventObserver<E extends Event<?>, T, R>
         extends BaseExecutableMethodObserver<E, T, R> {
 
+    /**
+     * The functions that bind each method argument from an event and one of its entries,
+     * created when the first event is received.
+     */
+    private volatile BiFunction<E, BinaryEntry<?, ?>, Object>[] argumentBinders;
+
+    /**
+     * A flag indicating whether any method argument is bound from an entry of the event.
+     */
+    private volatile boolean entryBound;
+
     /**
      * Create a {@link ExecutableMethodEventObserver}.
      *
@@ -50,10 +65,143 @@ class ExecutableMethodEventObserver<E extends Event<?>, T, R>
         super(supplier, method, registry);
     }
 
+    /**
+     * Create a {@link ExecutableMethodEventObserver}.
+     *
+     * @param supplier  a {@link Supplier} to lazily provide the Micronaut bean that has the executable method
+     * @param method    the method to execute when events are received
+     * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
+     * @param executor  the executor to run asynchronous observers on, or {@code null} to notify them on the calling thread
+     * @param metrics   the metrics recorded for the method
+     */
+    ExecutableMethodEventObserver(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<E> registry,
+            Executor executor, CoherenceMetrics.ListenerMetrics metrics) {
+        super(supplier, method, registry, executor, metrics);
+    }
+
+    /**
+     * Forward the event to the underlying executable method.
+     *
+     * @param event the event
+     */
     void notify(E event) {
-        Map<Argument<?>, Object> mapBindings = Collections.singletonMap(Argument.of(LifecycleEvent.class), event);
-        ExecutableBinder<E> batchBinder = new DefaultExecutableBinder<>(mapBindings);
-        BoundExecutable<T, R> boundExecutable = batchBinder.bind(method, binderRegistry, event);
-        boundExecutable.invoke(beanSupplier.get());
+        notify(event, null);
+    }
+
+    /**
+     * Forward the event to the underlying executable method.
+     * <p>If any method argument is bound from an entry of an {@link EntryEvent}, for example with
+     * {@link io.micronaut.coherence.annotation.EntryKey}, the method is invoked once for each of the
+     * specified entries. Otherwise, the method is invoked once for the event.</p>
+     * <p>The arguments are bound using the functions created for the first event, so
+     * no binders or binding results are created for each event.</p>
+     *
+     * @param event   the event
+     * @param entries the entries of the event to invoke the method for, or {@code null} for all entries
+     */
+    void notify(E event, Set<? extends BinaryEntry<?, ?>> entries) {
+        BiFunction<E, BinaryEntry<?, ?>, Object>[] binders = ensureArgumentBinders();
+        if (entryBound && event instanceof EntryEvent<?, ?> entryEvent) {
+            for (BinaryEntry<?, ?> entry : entries == null ? entryEvent.getEntrySet() : entries) {
+                invoke(binders, event, entry);
+            }
+        } else {
+            invoke(binders, event, null);
+        }
+    }
+
+    /**
+     * Returns {@code true} if any method argument is bound from an entry of the event, in
+     * which case the method is invoked once for each entry of an {@link EntryEvent}.
+     *
+     * @return {@code true} if any method argument is bound from an entry of the event
+     */
+    boolean isEntryBound() {
+        ensureArgumentBinders();
+        return entryBound;
+    }
+
+    /**
+     * Invoke the underlying executable method.
+     *
+     * @param binders the functions that bind each method argument
+     * @param event   the event
+     * @param entry   the entry to bind arguments from, or {@code null}
+     */
+    private void invoke(BiFunction<E, BinaryEntry<?, ?>, Object>[] binders, E event, BinaryEntry<?, ?> entry) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Object[] args = new Object[binders.length];
+            for (int i = 0; i < binders.length; i++) {
+                args[i] = binders[i].apply(event, entry);
+            }
+            method.invoke(beanSupplier.get(), args);
+            success = true;
+        } finally {
+            metrics.dispatched(1, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Returns the functions that bind each method argument, creating them if this is the first event.
+     *
+     * @return the functions that bind each method argument
+     */
+    private BiFunction<E, BinaryEntry<?, ?>, Object>[] ensureArgumentBinders() {
+        BiFunction<E, BinaryEntry<?, ?>, Object>[] binders = argumentBinders;
+        if (binders == null) {
+            binders = createArgumentBinders();
+            argumentBinders = binders;
+        }
+        return binders;
+    }
+
+    /**
+     * Create the functions that bind each method argument from an event.
+     *
+     * @return the functions that bind each method argument from an event
+     */
+    @SuppressWarnings("unchecked")
+    private BiFunction<E, BinaryEntry<?, ?>, Object>[] createArgumentBinders() {
+        Argument<?>[] arguments = method.getArguments();
+        BiFunction<E, BinaryEntry<?, ?>, Object>[] binders = new BiFunction[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            binders[i] = createArgumentBinder(arguments[i]);
+        }
+        return binders;
+    }
+
+    /**
+     * Create the function that binds a method argument from an event.
+     *
+     * @param argument  the method argument
+     * @param <A>       the argument type
+     * @return the function that binds the argument from an event and one of its entries
+     */
+    private <A> BiFunction<E, BinaryEntry<?, ?>, Object> createArgumentBinder(Argument<A> argument) {
+        if (Event.class.isAssignableFrom(argument.getType())) {
+            return (event, entry) -> event;
+        }
+        Optional<ArgumentBinder<A, E>> optional = binderRegistry.findArgumentBinder(argument);
+        if (optional.isEmpty()) {
+            return (event, entry) -> {
+                throw new UnsatisfiedArgumentException(argument);
+            };
+        }
+        ArgumentBinder<A, E> binder = optional.get();
+        if (binder instanceof EntryArgumentBinder<A, E> entryBinder) {
+            entryBound = true;
+            return (event, entry) -> entry == null
+                    ? null
+                    : entryBinder.extract(entry, EntryArgumentBinder.isRemoved((EntryEvent<?, ?>) event));
+        }
+        return (event, entry) -> {
+            ArgumentBinder.BindingResult<A> result = binder.bind(ConversionContext.of(argument), event);
+            if (!result.isPresentAndSatisfied()) {
+                throw new UnsatisfiedArgumentException(argument);
+            }
+            return result.get();
+        };
     }
 }
@@ -16,14 +16,16 @@
 package io.micronaut.coherence.event;
 
 import com.tangosol.util.MapEvent;
-import io.micronaut.core.bind.BoundExecutable;
-import io.micronaut.core.bind.DefaultExecutableBinder;
-import io.micronaut.core.bind.ExecutableBinder;
+import io.micronaut.coherence.annotation.Coalesce;
+import io.micronaut.coherence.annotation.CoherenceEventListener;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.ExecutableMethod;
 
-import java.util.Collections;
-import java.util.Map;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
@@ -39,6 +41,21 @@ import java.util.function.Supplier;
 class ExecutableMethodMapListener<K, V, T, R>
         extends BaseExecutableMethodObserver<MapEvent<K, V>, T, R> {
 
+    /**
+     * The coalescing window used if the {@link Coalesce} window cannot be parsed.
+     */
+    private static final Duration DEFAULT_COALESCE_WINDOW = Duration.ofMillis(100);
+
+    /**
+     * The batch linger used if the {@link CoherenceEventListener} linger cannot be parsed.
+     */
+    private static final Duration DEFAULT_BATCH_LINGER = Duration.ofMillis(10);
+
+    /**
+     * The default maximum number of events passed to a batch listener method.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
     /**
      * Create a {@link ExecutableMethodEventObserver}.
      *
@@ -50,15 +67,126 @@ class ExecutableMethodMapListener<K, V, T, R>
         super(supplier, method, registry);
     }
 
+    /**
+     * Create a {@link ExecutableMethodMapListener}.
+     *
+     * @param supplier  a {@link Supplier} to lazily provide the Micronaut bean that has the executable method
+     * @param method    the method to execute when events are received
+     * @param registry  the {@link EventArgumentBinderRegistry} to use to bind arguments to the method
+     * @param executor  the executor to run asynchronous observers on, or {@code null} to notify them on the calling thread
+     * @param metrics   the metrics recorded for the method
+     */
+    ExecutableMethodMapListener(Supplier<T> supplier, ExecutableMethod<T, R> method, EventArgumentBinderRegistry<MapEvent<K, V>> registry,
+            Executor executor, CoherenceMetrics.ListenerMetrics metrics) {
+        super(supplier, method, registry, executor, metrics);
+    }
+
+    /**
+     * Returns {@code true} if the method takes a {@link List} or {@link Collection} of map events.
+     *
+     * @return {@code true} if the method receives batches of map events
+     */
+    boolean isBatch() {
+        return isBatch(method);
+    }
+
+    /**
+     * Returns the maximum number of events passed to a batch listener method in a single call.
+     *
+     * @return the maximum number of events in a batch
+     */
+    int getBatchSize() {
+        return method.intValue(CoherenceEventListener.class, "batchSize").orElse(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the maximum time events are accumulated before a partial batch is passed to the method.
+     *
+     * @return the maximum time to accumulate a batch
+     */
+    Duration getBatchLinger() {
+        return method.getValue(CoherenceEventListener.class, "linger", Duration.class)
+                .orElse(DEFAULT_BATCH_LINGER);
+    }
+
+    /**
+     * Returns {@code true} if the method takes a single {@link List} or {@link Collection}
+     * of map events parameter.
+     *
+     * @param method the method to check
+     * @return {@code true} if the method receives batches of map events
+     */
+    static boolean isBatch(ExecutableMethod<?, ?> method) {
+        Argument<?>[] arguments = method.getArguments();
+        if (arguments.length != 1) {
+            return false;
+        }
+        Class<?> type = arguments[0].getType();
+        return (type == List.class || type == Collection.class)
+                && arguments[0].getFirstTypeVariable()
+                        .map(arg -> MapEvent.class.isAssignableFrom(arg.getType()))
+                        .orElse(false);
+    }
+
+    /**
+     * Returns {@code true} if events should be coalesced per key before they are observed.
+     *
+     * @return {@code true} if the method is annotated with {@link Coalesce}
+     */
+    boolean isCoalesced() {
+        return method.hasAnnotation(Coalesce.class);
+    }
+
+    /**
+     * Returns the maximum time events are buffered before they are observed.
+     *
+     * @return the coalescing window
+     */
+    Duration getCoalesceWindow() {
+        return method.getValue(Coalesce.class, "window", Duration.class)
+                .orElse(DEFAULT_COALESCE_WINDOW);
+    }
+
+    /**
+     * Returns the maximum number of events buffered before they are observed.
+     *
+     * @return the maximum number of buffered events, or zero if there is no limit
+     */
+    int getCoalesceCount() {
+        return method.intValue(Coalesce.class, "count").orElse(0);
+    }
+
     /**
      * Forward the event to the underlying executable method.
+     * <p>The method's only argument is the event, so it is invoked directly rather
+     * than binding the arguments for each event.</p>
      *
      * @param event the map event
      */
     void notify(MapEvent<K, V> event) {
-        Map<Argument<?>, Object> mapBindings = Collections.singletonMap(Argument.of(MapEvent.class), event);
-        ExecutableBinder<MapEvent<K, V>> batchBinder = new DefaultExecutableBinder<>(mapBindings);
-        BoundExecutable<T, R> boundExecutable = batchBinder.bind(method, binderRegistry, event);
-        boundExecutable.invoke(beanSupplier.get());
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            method.invoke(beanSupplier.get(), event);
+            success = true;
+        } finally {
+            metrics.dispatched(1, System.nanoTime() - start, success);
+        }
+    }
+
+    /**
+     * Forward a batch of events to the underlying executable method.
+     *
+     * @param events the map events
+     */
+    void notifyBatch(List<MapEvent<K, V>> events) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            method.invoke(beanSupplier.get(), events);
+            success = true;
+        } finally {
+            metrics.dispatched(events.size(), System.nanoTime() - start, success);
+        }
     }
 }
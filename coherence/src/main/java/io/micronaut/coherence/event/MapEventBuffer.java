@@ -0,0 +1,256 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.tangosol.net.cache.CacheEvent;
+import com.tangosol.util.MapEvent;
+import io.micronaut.coherence.KeyedExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * <p>Buffers {@link MapEvent}s and delivers them as a list when the window elapses or the
+ * maximum number of events has been buffered.</p>
+ * <p>A coalescing buffer delivers a single event per key describing the net change, events that
+ * cancel each other out, such as an insert followed by a delete, are not delivered and the net
+ * events are delivered in the order their keys were first changed. Otherwise, every event is
+ * delivered in the order it was received. Each delivery completes before the next starts, so events
+ * for the same key are always delivered in order.</p>
+ * <p>Deliveries always run on the listener's executor, never on the thread that adds an event, so a
+ * full buffer does not hold up the Coherence event thread.</p>
+ *
+ * @param <K> the map event key type
+ * @param <V> the map event value type
+ * @since 5.0.3
+ */
+final class MapEventBuffer<K, V> {
+
+    /**
+     * The executor that runs deliveries.
+     */
+    private final Executor executor;
+
+    /**
+     * The executor that runs the delivery when the window elapses.
+     */
+    private final Executor windowExecutor;
+
+    /**
+     * The maximum number of events buffered before they are delivered, or zero for no limit.
+     */
+    private final int maxEvents;
+
+    /**
+     * A flag indicating whether events are coalesced per key.
+     */
+    private final boolean coalesce;
+
+    /**
+     * The consumer the events are delivered to.
+     */
+    private final Consumer<List<MapEvent<K, V>>> consumer;
+
+    /**
+     * The lock held while events are taken from the buffer and delivered.
+     */
+    private final Object deliveryLock = new Object();
+
+    /**
+     * The net change per key, in the order the keys were first changed, if events are coalesced.
+     */
+    private Map<Object, NetChange<K, V>> changes = new LinkedHashMap<>();
+
+    /**
+     * The buffered events, if events are not coalesced.
+     */
+    private List<MapEvent<K, V>> events = new ArrayList<>();
+
+    /**
+     * The number of events buffered.
+     */
+    private int eventCount;
+
+    /**
+     * A flag indicating whether a delivery is scheduled for the end of the window.
+     */
+    private boolean scheduled;
+
+    /**
+     * A flag indicating whether a delivery has been submitted because the buffer is full.
+     */
+    private boolean flushPending;
+
+    /**
+     * Create a {@link MapEventBuffer}.
+     *
+     * @param window     the maximum time events are buffered
+     * @param maxEvents  the maximum number of events buffered, or zero for no limit
+     * @param coalesce   {@code true} to deliver the net change per key rather than every event
+     * @param executor   the listener's executor that runs deliveries
+     * @param consumer   the consumer the events are delivered to
+     */
+    MapEventBuffer(Duration window, int maxEvents, boolean coalesce, Executor executor,
+                   Consumer<List<MapEvent<K, V>>> consumer) {
+        // deliveries from the same buffer are kept on one worker of a keyed executor
+        this.executor = executor instanceof KeyedExecutor keyed ? task -> keyed.execute(this, task) : executor;
+        this.windowExecutor = CompletableFuture.delayedExecutor(Math.max(1, window.toNanos()), TimeUnit.NANOSECONDS, this.executor);
+        this.maxEvents = Math.max(0, maxEvents);
+        this.coalesce = coalesce;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Add an event to the buffer.
+     *
+     * @param event  the event to add
+     */
+    void add(MapEvent<K, V> event) {
+        boolean full;
+        synchronized (this) {
+            if (coalesce) {
+                changes.computeIfAbsent(event.getKey(), k -> new NetChange<>()).add(event);
+            } else {
+                events.add(event);
+            }
+            eventCount++;
+            full = maxEvents > 0 && eventCount >= maxEvents && !flushPending;
+            if (full) {
+                flushPending = true;
+            } else if (!scheduled) {
+                scheduled = true;
+                windowExecutor.execute(this::onWindowElapsed);
+            }
+        }
+        if (full) {
+            executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Deliver the buffered events.
+     */
+    void flush() {
+        synchronized (deliveryLock) {
+            List<MapEvent<K, V>> ready;
+            Map<Object, NetChange<K, V>> netChanges;
+            synchronized (this) {
+                flushPending = false;
+                if (eventCount == 0) {
+                    return;
+                }
+                ready = events;
+                netChanges = changes;
+                if (coalesce) {
+                    changes = new LinkedHashMap<>();
+                } else {
+                    events = new ArrayList<>();
+                }
+                eventCount = 0;
+            }
+            if (coalesce) {
+                ready = new ArrayList<>(netChanges.size());
+                for (NetChange<K, V> change : netChanges.values()) {
+                    MapEvent<K, V> event = change.toEvent();
+                    if (event != null) {
+                        ready.add(event);
+                    }
+                }
+            }
+            if (!ready.isEmpty()) {
+                consumer.accept(Collections.unmodifiableList(ready));
+            }
+        }
+    }
+
+    /**
+     * Deliver the buffered events at the end of the window.
+     */
+    private void onWindowElapsed() {
+        synchronized (this) {
+            scheduled = false;
+        }
+        flush();
+    }
+
+    /**
+     * The net change to a single key.
+     *
+     * @param <K> the map event key type
+     * @param <V> the map event value type
+     */
+    private static final class NetChange<K, V> {
+        /**
+         * The first event for the key.
+         */
+        private MapEvent<K, V> first;
+
+        /**
+         * The latest event for the key.
+         */
+        private MapEvent<K, V> last;
+
+        /**
+         * Add an event for the key.
+         *
+         * @param event  the event to add
+         */
+        void add(MapEvent<K, V> event) {
+            if (first == null) {
+                first = event;
+            }
+            last = event;
+        }
+
+        /**
+         * Returns the event describing the net change, or {@code null} if the events cancel each other out.
+         *
+         * @return the event describing the net change, or {@code null} if there is no change
+         */
+        MapEvent<K, V> toEvent() {
+            if (first == last) {
+                return first;
+            }
+            boolean existed = first.getId() != MapEvent.ENTRY_INSERTED;
+            boolean exists = last.getId() != MapEvent.ENTRY_DELETED;
+            int id;
+            if (existed) {
+                id = exists ? MapEvent.ENTRY_UPDATED : MapEvent.ENTRY_DELETED;
+            } else if (exists) {
+                id = MapEvent.ENTRY_INSERTED;
+            } else {
+                return null;
+            }
+            V oldValue = existed ? first.getOldValue() : null;
+            V newValue = exists ? last.getNewValue() : null;
+            if (last instanceof CacheEvent<K, V> cacheEvent) {
+                // keep the synthetic, priming and expiry flags of the latest change
+                return new CacheEvent<>(last.getMap(), id, last.getKey(), oldValue, newValue,
+                        cacheEvent.isSynthetic(), cacheEvent.getTransformationState(),
+                        cacheEvent.isPriming(), cacheEvent.isExpired());
+            }
+            return new MapEvent<>(last.getMap(), id, last.getKey(), oldValue, newValue);
+        }
+    }
+}
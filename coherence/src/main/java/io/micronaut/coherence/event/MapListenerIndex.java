@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.micronaut.coherence.event.AnnotatedMapListener.WILD_CARD;
+
+/**
+ * <p>An immutable index of the {@link AnnotatedMapListener}s to register with a cache,
+ * by service name and cache name.</p>
+ * <p>Listeners registered for wild-card service or cache names are merged into the entry
+ * of every matching service and cache name when the index is built, so looking up the
+ * listeners for a cache is at most two map lookups and does not allocate.</p>
+ * <p>Listeners registered for cache name patterns are compiled into a {@link CacheNameMatcher}
+ * per service, a cache only has these listeners registered if its name matches the pattern.</p>
+ *
+ * @since 5.0.3
+ */
+final class MapListenerIndex {
+
+    /**
+     * An empty listener array.
+     */
+    private static final AnnotatedMapListener<?, ?>[] EMPTY = new AnnotatedMapListener<?, ?>[0];
+
+    /**
+     * The listeners for each service name that has listeners registered for it.
+     */
+    private final Map<String, ServiceListeners> services;
+
+    /**
+     * The listeners for services that have no listeners registered for their name.
+     */
+    private final ServiceListeners anyService;
+
+    /**
+     * Build a {@link MapListenerIndex}.
+     *
+     * @param listeners  the listeners keyed by service name and then cache name, either of
+     *                   which may be the {@link AnnotatedMapListener#WILD_CARD wild-card}
+     */
+    MapListenerIndex(Map<String, Map<String, Set<AnnotatedMapListener<?, ?>>>> listeners) {
+        Map<String, Set<AnnotatedMapListener<?, ?>>> wildCardService = listeners.getOrDefault(WILD_CARD, Collections.emptyMap());
+        Set<AnnotatedMapListener<?, ?>> all = wildCardService.getOrDefault(WILD_CARD, Collections.emptySet());
+
+        this.anyService = build(wildCardService, Collections.emptyMap(), all);
+
+        Map<String, ServiceListeners> map = new HashMap<>();
+        listeners.forEach((serviceName, byCache) -> {
+            if (!WILD_CARD.equals(serviceName)) {
+                map.put(serviceName, build(wildCardService, byCache, all));
+            }
+        });
+        this.services = map;
+    }
+
+    /**
+     * Returns the listeners that should be registered with a cache.
+     *
+     * @param serviceName  the name of the cache service, without any scope prefix
+     * @param cacheName    the name of the cache
+     *
+     * @return the listeners that should be registered with the cache
+     */
+    AnnotatedMapListener<?, ?>[] get(String serviceName, String cacheName) {
+        ServiceListeners entry = services.getOrDefault(serviceName, anyService);
+        AnnotatedMapListener<?, ?>[] listeners = entry.caches.getOrDefault(cacheName, entry.anyCache);
+        return entry.patterns == null ? listeners : entry.patterns.merge(cacheName, listeners);
+    }
+
+    /**
+     * Build the listeners for a service.
+     *
+     * @param wildCardService  the listeners for any service, keyed by cache name
+     * @param byCache          the listeners for the service, keyed by cache name
+     * @param all              the listeners for any service and any cache
+     *
+     * @return the listeners for the service
+     */
+    private static ServiceListeners build(Map<String, Set<AnnotatedMapListener<?, ?>>> wildCardService,
+                                          Map<String, Set<AnnotatedMapListener<?, ?>>> byCache,
+                                          Set<AnnotatedMapListener<?, ?>> all) {
+        Set<AnnotatedMapListener<?, ?>> anyCache = byCache.getOrDefault(WILD_CARD, Collections.emptySet());
+
+        Set<String> cacheNames = new HashSet<>(wildCardService.keySet());
+        cacheNames.addAll(byCache.keySet());
+        cacheNames.remove(WILD_CARD);
+        cacheNames.removeIf(CacheNameMatcher::isPattern);
+
+        Map<String, AnnotatedMapListener<?, ?>[]> caches = new HashMap<>();
+        for (String cacheName : cacheNames) {
+            caches.put(cacheName, merge(all, anyCache,
+                    wildCardService.getOrDefault(cacheName, Collections.emptySet()),
+                    byCache.getOrDefault(cacheName, Collections.emptySet())));
+        }
+        CacheNameMatcher patterns = new CacheNameMatcher(wildCardService, byCache);
+        return new ServiceListeners(caches, merge(all, anyCache), patterns.isEmpty() ? null : patterns);
+    }
+
+    /**
+     * Merge sets of listeners into an array without duplicates.
+     *
+     * @param sets  the sets of listeners to merge
+     *
+     * @return the merged listeners
+     */
+    @SafeVarargs
+    private static AnnotatedMapListener<?, ?>[] merge(Set<AnnotatedMapListener<?, ?>>... sets) {
+        Set<AnnotatedMapListener<?, ?>> merged = new LinkedHashSet<>();
+        for (Set<AnnotatedMapListener<?, ?>> set : sets) {
+            merged.addAll(set);
+        }
+        return merged.isEmpty() ? EMPTY : merged.toArray(EMPTY);
+    }
+
+    /**
+     * The listeners for a service.
+     *
+     * @param caches    the listeners for each cache name that has listeners registered for it
+     * @param anyCache  the listeners for caches that have no listeners registered for their name
+     * @param patterns  the matcher for the listeners registered for cache name patterns, or
+     *                  {@code null} if there are none
+     */
+    private record ServiceListeners(Map<String, AnnotatedMapListener<?, ?>[]> caches,
+                                    AnnotatedMapListener<?, ?>[] anyCache,
+                                    CacheNameMatcher patterns) {
+    }
+}
@@ -17,23 +17,30 @@ package io.micronaut.coherence.messaging;
 
 import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
+import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Publisher;
 import io.micronaut.aop.InterceptedMethod;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.coherence.annotation.CoherencePublisher;
+import io.micronaut.coherence.annotation.MessageKey;
 import io.micronaut.coherence.annotation.SessionName;
 import io.micronaut.coherence.annotation.Topic;
 import io.micronaut.coherence.annotation.Topics;
 import io.micronaut.coherence.annotation.Utils;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
+import io.micronaut.coherence.tracing.MessageContextPropagator;
+import io.micronaut.coherence.tracing.TracedMessage;
 import io.micronaut.context.BeanContext;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.ExecutableMethod;
 import io.micronaut.messaging.annotation.MessageBody;
 import io.micronaut.messaging.exceptions.MessagingClientException;
 import jakarta.inject.Singleton;
@@ -43,10 +50,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -66,45 +77,56 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
 
     private final Map<TopicKey, Publisher<Object>> publisherMap = new ConcurrentHashMap<>();
 
+    /**
+     * The publishers used for {@link MessageKey} methods, one publisher per channel of each topic.
+     */
+    private final Map<TopicKey, Publisher<Object>[]> channelPublisherMap = new ConcurrentHashMap<>();
+
+    /**
+     * The publishing plans for intercepted methods, created on first use.
+     */
+    private final Map<ExecutableMethod<?, ?>, PublishingPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * The metrics recorded for published messages.
+     */
+    private final CoherenceMetrics metrics;
+
+    /**
+     * The propagator of trace context to published messages, or {@code null} if trace context is not propagated.
+     */
+    private final MessageContextPropagator propagator;
+
     /**
      * Creates the introduction advice for the given arguments.
      *
      * @param beanContext       the Micronaut bean context
      * @param conversionService the conversion service
+     * @param metrics           the metrics recorded for published messages, or {@code null} if metrics are not enabled
+     * @param propagator        the propagator of trace context to published messages, or {@code null}
+     *                          if trace context is not propagated
      */
-    CoherencePublisherIntroductionAdvice(BeanContext beanContext, ConversionService conversionService) {
+    CoherencePublisherIntroductionAdvice(BeanContext beanContext, ConversionService conversionService,
+                                         @Nullable CoherenceMetrics metrics,
+                                         @Nullable MessageContextPropagator propagator) {
         this.beanContext = beanContext;
         this.conversionService = conversionService;
+        this.metrics = metrics == null ? CoherenceMetrics.NONE : metrics;
+        this.propagator = propagator;
     }
 
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        if (context.hasAnnotation(CoherencePublisher.class)) {
-            // Make sure the CoherencePublisher annotation is present
-            context.findAnnotation(CoherencePublisher.class)
-                    .orElseThrow(() -> new IllegalStateException("No @CoherencePublisher annotation present on method: " + context));
-
-            String topicName = Utils.getFirstTopicName(context).orElse(null);
-            String sessionName = context.stringValue(SessionName.class).orElse(Coherence.DEFAULT_NAME);
-
-            Duration maxBlock = context.getValue(CoherencePublisher.class, "maxBlock", Duration.class)
-                    .orElse(null);
-
-            Argument<?> bodyArgument = null;
-            Argument<?>[] arguments = context.getArguments();
+        PublishingPlan plan = getPlan(context);
+        if (plan != null) {
             Object[] parameterValues = context.getParameterValues();
-            int valueIndex = -1;
-
-            for (int i = 0; i < arguments.length; i++) {
-                Argument<?> argument = arguments[i];
-                if (argument.isAnnotationPresent(MessageBody.class)) {
-                    bodyArgument = argument;
-                    valueIndex = i;
-                } else if (argument.isAnnotationPresent(Topics.class) || argument.isAnnotationPresent(Topic.class)) {
-                    Object o = parameterValues[i];
-                    if (o != null) {
-                        topicName = o.toString();
-                    }
+            String topicName = plan.topicName;
+            boolean dynamicTopic = false;
+            for (int index : plan.topicIndexes) {
+                Object o = parameterValues[index];
+                if (o != null) {
+                    topicName = o.toString();
+                    dynamicTopic = true;
                 }
             }
 
@@ -112,48 +134,51 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
                 throw new MessagingClientException("No topic specified for method: " + context);
             }
 
-            if (bodyArgument == null) {
-                for (int i = 0; i < arguments.length; i++) {
-                    Argument<?> argument = arguments[i];
-                    if (!argument.getAnnotationMetadata().hasStereotype(Bindable.class)) {
-                        bodyArgument = argument;
-                        valueIndex = i;
-                        break;
-                    }
-                }
-            }
-
-            if (bodyArgument == null) {
-                throw new MessagingClientException("No valid message body argument found for method: " + context);
+            Object value = parameterValues[plan.bodyIndex];
+            Object messageKey = plan.keyIndex < 0 ? null : parameterValues[plan.keyIndex];
+            Publisher<Object> publisher;
+            if (messageKey != null) {
+                publisher = getPublisher(topicName, plan.sessionName, messageKey);
+            } else if (dynamicTopic) {
+                publisher = getPublisher(topicName, plan.sessionName);
+            } else {
+                publisher = plan.getPublisher(this);
             }
 
-            Object value = parameterValues[valueIndex];
-
-            ReturnType<Object> returnType = context.getReturnType();
-            Class<?> javaReturnType = returnType.getType();
-            Publisher<Object> publisher = getPublisher(topicName, sessionName);
-
-            boolean isReactiveReturnType = Publishers.isConvertibleToPublisher(javaReturnType);
+            MessageSender sender = new MessageSender(publisher,
+                    dynamicTopic ? metrics.publisher(topicName) : plan.getMetrics(metrics),
+                    propagator == null ? null : propagator.currentHeaders());
+            Duration maxBlock = plan.maxBlock;
+            int batchSize = plan.batchSize;
+            Duration linger = plan.linger;
             boolean isReactiveValue = value != null && Publishers.isConvertibleToPublisher(value.getClass());
+            boolean isBatch = batchSize > 0 && (isReactiveValue || value instanceof Iterable || value instanceof Object[]);
 
-            InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
-            if (isReactiveReturnType) {
+            if (plan.reactiveReturnType) {
                 // return type is a reactive type
-                Flux<?> flux = buildSendFlux(context, publisher, Argument.OBJECT_ARGUMENT, maxBlock, value);
-                return Publishers.convertPublisher(conversionService, flux, javaReturnType);
+                Flux<?> flux = isBatch
+                        ? buildBatchSendFlux(context, sender, Argument.OBJECT_ARGUMENT, maxBlock, value, batchSize, linger)
+                        : buildSendFlux(context, sender, Argument.OBJECT_ARGUMENT, maxBlock, value);
+                return Publishers.convertPublisher(conversionService, flux, plan.javaReturnType);
             } else {
                 // return type is a future - must be future of Void
-                Argument<?> returnArg = returnType.getFirstTypeVariable().orElse(Argument.of(Void.class));
-                if (returnArg.getType() != Void.class) {
-                    throw new MessagingClientException("Generic return type for method must be Void, i.e. CompletableFuture<Void> - " + context);
-                }
+                InterceptedMethod interceptedMethod = InterceptedMethod.of(context, conversionService);
+                Argument<?> returnArg = plan.returnArgument;
                 CompletableFuture<Void> completableFuture = new CompletableFuture<>();
 
-                if (isReactiveValue) {
+                if (isBatch) {
+                    // return type is a future and value is published in groups
+                    buildBatchSendFlux(context, sender, returnArg, maxBlock, value, batchSize, linger)
+                            .then()
+                            .subscribe(null,
+                                    t -> completableFuture.completeExceptionally(
+                                            t instanceof MessagingClientException ? t : wrapException(context, t)),
+                                    () -> completableFuture.complete(null));
+                } else if (isReactiveValue) {
                     // return type is a future and value is reactive
                     Flux<?> sendFlux = buildSendFlux(
                             context,
-                            publisher,
+                            sender,
                             returnArg,
                             maxBlock,
                             value
@@ -186,7 +211,7 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
                     });
                 } else {
                     // return type is a future and value is single message
-                    publisher.publish(value).handle((status, exception) -> {
+                    sender.publish(value).handle((status, exception) -> {
                         if (exception != null) {
                             completableFuture.completeExceptionally(wrapException(context, exception));
                         } else {
@@ -207,41 +232,123 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
     @Override
     public void close() {
         for (Map.Entry<TopicKey, Publisher<Object>> entry : publisherMap.entrySet()) {
-            Publisher<Object> publisher = entry.getValue();
-            try {
-                publisher.flush().get(1, TimeUnit.MINUTES);
-            } catch (Exception e) {
-                LOG.error("Error flushing publisher", e);
-                if (e instanceof InterruptedException) {
-                    //noinspection ResultOfMethodCallIgnored
-                    Thread.interrupted();
-                }
+            close(entry.getValue());
+        }
+        for (Map.Entry<TopicKey, Publisher<Object>[]> entry : channelPublisherMap.entrySet()) {
+            for (Publisher<Object> publisher : entry.getValue()) {
+                close(publisher);
             }
+        }
+        plans.clear();
+        publisherMap.clear();
+        channelPublisherMap.clear();
+    }
 
-            try {
-                publisher.close();
-            } catch (Exception e) {
-                LOG.error("Error closing publisher", e);
+    /**
+     * Flush and close a publisher.
+     *
+     * @param publisher  the publisher to close
+     */
+    private void close(Publisher<Object> publisher) {
+        try {
+            publisher.flush().get(1, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            LOG.error("Error flushing publisher", e);
+            if (e instanceof InterruptedException) {
+                //noinspection ResultOfMethodCallIgnored
+                Thread.interrupted();
             }
         }
+
+        try {
+            publisher.close();
+        } catch (Exception e) {
+            LOG.error("Error closing publisher", e);
+        }
+    }
+
+    /**
+     * Returns the publishing plan for an intercepted method, creating it on the first call.
+     *
+     * @param context  the method invocation context
+     *
+     * @return the publishing plan for the method, or {@code null} if the method is
+     *         not a {@link CoherencePublisher} method
+     */
+    private PublishingPlan getPlan(MethodInvocationContext<Object, Object> context) {
+        ExecutableMethod<Object, Object> method = context.getExecutableMethod();
+        PublishingPlan plan = plans.get(method);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(method, m -> PublishingPlan.create(context));
+        }
+        return plan == PublishingPlan.PROCEED ? null : plan;
     }
 
+    /**
+     * Returns the publisher for a topic, creating it if required.
+     *
+     * @param topicName    the name of the topic
+     * @param sessionName  the name of the session that owns the topic
+     *
+     * @return the publisher for the topic
+     */
     @NonNull
     private Publisher<Object> getPublisher(String topicName, String sessionName) {
         TopicKey key = new TopicKey(topicName, sessionName);
+        Publisher<Object> publisher = publisherMap.get(key);
+        if (publisher == null) {
+            publisher = publisherMap.computeIfAbsent(key, k -> {
+                Session session = beanContext.createBean(Session.class, sessionName);
+                return session.getTopic(topicName).createPublisher();
+            });
+        }
+        return publisher;
+    }
 
-        return publisherMap.compute(key, (k, publisher) -> {
-            if (publisher != null) {
-                return publisher;
-            }
-            Session session = beanContext.createBean(Session.class, sessionName);
-            return session.getTopic(topicName).createPublisher();
-        });
+    /**
+     * Returns the publisher for the channel of a topic that messages with the specified key are published to.
+     * <p>Each topic has one publisher per channel, ordered by the channel id, and messages are
+     * published to the channel selected by the hash of the key.</p>
+     *
+     * @param topicName    the name of the topic
+     * @param sessionName  the name of the session that owns the topic
+     * @param messageKey   the ordering key of the message
+     *
+     * @return the publisher for the channel of the topic selected by the key
+     */
+    @NonNull
+    private Publisher<Object> getPublisher(String topicName, String sessionName, Object messageKey) {
+        TopicKey key = new TopicKey(topicName, sessionName);
+        Publisher<Object>[] publishers = channelPublisherMap.get(key);
+        if (publishers == null) {
+            publishers = channelPublisherMap.computeIfAbsent(key, k -> createChannelPublishers(topicName, sessionName));
+        }
+        int hash = messageKey.hashCode();
+        return publishers[Math.floorMod(hash ^ (hash >>> 16), publishers.length)];
+    }
+
+    /**
+     * Create a publisher for each channel of a topic.
+     *
+     * @param topicName    the name of the topic
+     * @param sessionName  the name of the session that owns the topic
+     *
+     * @return a publisher for each channel of the topic, indexed by channel
+     */
+    @SuppressWarnings("unchecked")
+    private Publisher<Object>[] createChannelPublishers(String topicName, String sessionName) {
+        Session session = beanContext.createBean(Session.class, sessionName);
+        NamedTopic<Object> topic = session.getTopic(topicName);
+        Publisher<Object>[] publishers = new Publisher[Math.max(1, topic.getChannelCount())];
+        for (int channel = 0; channel < publishers.length; channel++) {
+            publishers[channel] = topic.createPublisher(Publisher.OrderBy.id(channel));
+        }
+        return publishers;
     }
 
     private Flux<Object> buildSendFlux(
             MethodInvocationContext<Object, Object> context,
-            Publisher<Object> publisher,
+            MessageSender sender,
             Argument<?> returnType,
             Duration maxBlock,
             Object value) {
@@ -255,7 +362,7 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
 
         Class<?> finalJavaReturnType = javaReturnType;
         Flux<Object> sendFlux = valueFlux.flatMap(o ->
-                Flux.create(emitter -> publisher.publish(o).handle((metadata, exception) -> {
+                Flux.create(emitter -> sender.publish(o).handle((metadata, exception) -> {
                     if (exception != null) {
                         emitter.error(wrapException(context, exception));
                     } else {
@@ -275,9 +382,324 @@ public class CoherencePublisherIntroductionAdvice implements MethodInterceptor<O
         return sendFlux;
     }
 
+    /**
+     * Build a {@link Flux} that publishes the elements of a message body in groups.
+     * <p>The elements of each group are published without waiting for each other and the
+     * next group is only requested once every element of the previous group has been
+     * published, so backpressure is applied to the message body.</p>
+     *
+     * @param context     the method invocation context
+     * @param sender      the sender that publishes each element
+     * @param returnType  the method return type
+     * @param maxBlock    the maximum time to wait for all elements to be published, or {@code null}
+     * @param value       the message body, a reactive type, an {@link Iterable} or an array
+     * @param batchSize   the maximum number of elements in a group
+     * @param linger      the maximum time to wait for a group to fill, or {@code null}
+     *
+     * @return a {@link Flux} that publishes the elements of a message body in groups
+     */
+    private Flux<Object> buildBatchSendFlux(
+            MethodInvocationContext<Object, Object> context,
+            MessageSender sender,
+            Argument<?> returnType,
+            Duration maxBlock,
+            Object value,
+            int batchSize,
+            Duration linger) {
+
+        Flux<?> valueFlux;
+        if (value instanceof Iterable<?> iterable) {
+            valueFlux = Flux.fromIterable(iterable);
+        } else if (value instanceof Object[] array) {
+            valueFlux = Flux.fromArray(array);
+        } else {
+            valueFlux = Publishers.convertPublisher(conversionService, value, Flux.class);
+        }
+
+        Class<?> javaReturnType = returnType.getType();
+        if (Iterable.class.isAssignableFrom(javaReturnType)) {
+            javaReturnType = returnType.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT).getType();
+        }
+
+        Class<?> finalJavaReturnType = javaReturnType;
+        Flux<? extends List<?>> batches = linger == null
+                ? valueFlux.buffer(batchSize)
+                : valueFlux.bufferTimeout(batchSize, linger, true);
+
+        Flux<Object> sendFlux = batches.concatMap(batch -> publishBatch(context, sender, batch, finalJavaReturnType), 1);
+
+        if (maxBlock != null) {
+            sendFlux = sendFlux.timeout(maxBlock);
+        }
+        return sendFlux;
+    }
+
+    /**
+     * Publish a group of elements without waiting for each publish request to complete
+     * before sending the next.
+     *
+     * @param context     the method invocation context
+     * @param sender      the sender that publishes each element
+     * @param batch       the elements to publish
+     * @param resultType  the type of result to emit for each published element
+     *
+     * @return a {@link Flux} that emits a result for each element once all the elements are published
+     */
+    @SuppressWarnings("unchecked")
+    private Flux<Object> publishBatch(
+            MethodInvocationContext<Object, Object> context,
+            MessageSender sender,
+            List<?> batch,
+            Class<?> resultType) {
+
+        CompletableFuture<Publisher.Status>[] futures = new CompletableFuture[batch.size()];
+        try {
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = sender.publish(batch.get(i));
+            }
+        } catch (Throwable t) {
+            return Flux.error(wrapException(context, t));
+        }
+
+        return Mono.fromFuture(CompletableFuture.allOf(futures))
+                .onErrorMap(e -> wrapException(context, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e))
+                .thenMany(Flux.range(0, futures.length))
+                .handle((i, sink) -> {
+                    Object o = batch.get(i);
+                    if (resultType.isInstance(o)) {
+                        sink.next(o);
+                    } else {
+                        conversionService.convert(futures[i].join(), resultType).ifPresent(sink::next);
+                    }
+                });
+    }
+
     private MessagingClientException wrapException(MethodInvocationContext<Object, Object> context, Throwable exception) {
         return new MessagingClientException(
                 "Exception sending message for method [" + context + "]: " + exception.getMessage(), exception
         );
     }
+
+    /**
+     * The resolved publishing details of a {@link CoherencePublisher} method that do not change between calls.
+     */
+    private static final class PublishingPlan {
+        /**
+         * The plan for methods that are not {@link CoherencePublisher} methods and just proceed.
+         */
+        static final PublishingPlan PROCEED = new PublishingPlan();
+
+        /**
+         * The name of the topic declared on the method, or {@code null} if there is none.
+         */
+        final String topicName;
+
+        /**
+         * The indexes of the arguments that specify the topic name.
+         */
+        final int[] topicIndexes;
+
+        /**
+         * The index of the message body argument.
+         */
+        final int bodyIndex;
+
+        /**
+         * The index of the {@link MessageKey} argument, or {@code -1} if there is none.
+         */
+        final int keyIndex;
+
+        /**
+         * The name of the session that owns the topic.
+         */
+        final String sessionName;
+
+        /**
+         * The maximum duration to block send operations, or {@code null}.
+         */
+        final Duration maxBlock;
+
+        /**
+         * The maximum number of messages to publish as a single group.
+         */
+        final int batchSize;
+
+        /**
+         * The maximum time to wait for a group of messages to fill, or {@code null}.
+         */
+        final Duration linger;
+
+        /**
+         * The method return type.
+         */
+        final Class<?> javaReturnType;
+
+        /**
+         * {@code true} if the method return type is a reactive type.
+         */
+        final boolean reactiveReturnType;
+
+        /**
+         * The generic type of a future return type.
+         */
+        final Argument<?> returnArgument;
+
+        /**
+         * The publisher for the topic declared on the method, resolved on first use.
+         */
+        private volatile Publisher<Object> publisher;
+
+        /**
+         * The metrics for the topic declared on the method, resolved on first use.
+         */
+        private volatile CoherenceMetrics.PublisherMetrics publisherMetrics;
+
+        private PublishingPlan() {
+            this.topicName = null;
+            this.topicIndexes = new int[0];
+            this.bodyIndex = -1;
+            this.keyIndex = -1;
+            this.sessionName = null;
+            this.maxBlock = null;
+            this.batchSize = 0;
+            this.linger = null;
+            this.javaReturnType = null;
+            this.reactiveReturnType = false;
+            this.returnArgument = null;
+        }
+
+        private PublishingPlan(MethodInvocationContext<Object, Object> context) {
+            // Make sure the CoherencePublisher annotation is present
+            context.findAnnotation(CoherencePublisher.class)
+                    .orElseThrow(() -> new IllegalStateException("No @CoherencePublisher annotation present on method: " + context));
+
+            this.topicName = Utils.getFirstTopicName(context).orElse(null);
+            this.sessionName = context.stringValue(SessionName.class).orElse(Coherence.DEFAULT_NAME);
+            this.maxBlock = context.getValue(CoherencePublisher.class, "maxBlock", Duration.class)
+                    .orElse(null);
+            this.batchSize = context.intValue(CoherencePublisher.class, "batchSize").orElse(0);
+            this.linger = context.getValue(CoherencePublisher.class, "linger", Duration.class)
+                    .orElse(null);
+
+            Argument<?>[] arguments = context.getArguments();
+            int valueIndex = -1;
+            int messageKeyIndex = -1;
+            int[] indexes = new int[arguments.length];
+            int topicCount = 0;
+
+            for (int i = 0; i < arguments.length; i++) {
+                Argument<?> argument = arguments[i];
+                if (argument.isAnnotationPresent(MessageBody.class)) {
+                    valueIndex = i;
+                } else if (argument.isAnnotationPresent(Topics.class) || argument.isAnnotationPresent(Topic.class)) {
+                    indexes[topicCount++] = i;
+                } else if (argument.isAnnotationPresent(MessageKey.class)) {
+                    messageKeyIndex = i;
+                }
+            }
+
+            if (valueIndex < 0) {
+                for (int i = 0; i < arguments.length; i++) {
+                    if (!arguments[i].getAnnotationMetadata().hasStereotype(Bindable.class)) {
+                        valueIndex = i;
+                        break;
+                    }
+                }
+            }
+
+            if (valueIndex < 0) {
+                throw new MessagingClientException("No valid message body argument found for method: " + context);
+            }
+
+            this.topicIndexes = Arrays.copyOf(indexes, topicCount);
+            this.bodyIndex = valueIndex;
+            this.keyIndex = messageKeyIndex;
+
+            ReturnType<Object> returnType = context.getReturnType();
+            this.javaReturnType = returnType.getType();
+            this.reactiveReturnType = Publishers.isConvertibleToPublisher(javaReturnType);
+            if (reactiveReturnType) {
+                this.returnArgument = Argument.OBJECT_ARGUMENT;
+            } else {
+                this.returnArgument = returnType.getFirstTypeVariable().orElse(Argument.of(Void.class));
+                if (returnArgument.getType() != Void.class) {
+                    throw new MessagingClientException("Generic return type for method must be Void, i.e. CompletableFuture<Void> - " + context);
+                }
+            }
+        }
+
+        /**
+         * Create the plan for an intercepted method.
+         *
+         * @param context  the method invocation context
+         *
+         * @return the plan for the method, or {@link #PROCEED} if the method is not a
+         *         {@link CoherencePublisher} method
+         */
+        static PublishingPlan create(MethodInvocationContext<Object, Object> context) {
+            return context.hasAnnotation(CoherencePublisher.class) ? new PublishingPlan(context) : PROCEED;
+        }
+
+        /**
+         * Returns the publisher for the topic declared on the method.
+         *
+         * @param advice  the advice that owns the publishers
+         *
+         * @return the publisher for the topic declared on the method
+         */
+        Publisher<Object> getPublisher(CoherencePublisherIntroductionAdvice advice) {
+            Publisher<Object> p = publisher;
+            if (p == null) {
+                p = advice.getPublisher(topicName, sessionName);
+                publisher = p;
+            }
+            return p;
+        }
+
+        /**
+         * Returns the metrics for the topic declared on the method.
+         *
+         * @param metrics  the metrics that resolve the handle for a topic
+         *
+         * @return the metrics for the topic declared on the method
+         */
+        CoherenceMetrics.PublisherMetrics getMetrics(CoherenceMetrics metrics) {
+            CoherenceMetrics.PublisherMetrics m = publisherMetrics;
+            if (m == null) {
+                m = metrics.publisher(topicName);
+                publisherMetrics = m;
+            }
+            return m;
+        }
+    }
+
+    /**
+     * Publishes the messages of an intercepted method call.
+     *
+     * @param publisher  the publisher to use
+     * @param metrics    the metrics recorded for published messages
+     * @param headers    the trace context headers to add to each message, or {@code null}
+     */
+    private record MessageSender(Publisher<Object> publisher,
+                                 CoherenceMetrics.PublisherMetrics metrics,
+                                 Map<String, String> headers) {
+        /**
+         * Publish a message, wrapping it with the trace context headers if there are any,
+         * and record the time taken for the publish to complete.
+         *
+         * @param value  the message to publish
+         *
+         * @return the future that completes when the message has been published
+         */
+        CompletableFuture<Publisher.Status> publish(Object value) {
+            Object message = headers == null ? value : new TracedMessage(value, headers);
+            if (metrics == CoherenceMetrics.PublisherMetrics.NONE) {
+                return publisher.publish(message);
+            }
+            long start = System.nanoTime();
+            CompletableFuture<Publisher.Status> future = publisher.publish(message);
+            future.whenComplete((status, error) -> metrics.published(System.nanoTime() - start, error == null));
+            return future;
+        }
+    }
 }
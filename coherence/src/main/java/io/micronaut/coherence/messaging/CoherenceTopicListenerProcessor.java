@@ -16,11 +16,17 @@
 package io.micronaut.coherence.messaging;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -30,22 +36,32 @@ import com.tangosol.net.Coherence;
 import com.tangosol.net.Session;
 import com.tangosol.net.events.CoherenceLifecycleEvent;
 import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Position;
 import com.tangosol.net.topic.Publisher;
 import com.tangosol.net.topic.Subscriber;
+import com.tangosol.util.Binary;
 import com.tangosol.util.Filter;
 
 import com.tangosol.util.ValueExtractor;
 import io.micronaut.coherence.ExtractorFactories;
 import io.micronaut.coherence.FilterFactories;
+import io.micronaut.coherence.ListenerExecutors;
+import io.micronaut.coherence.OrderedExecutor;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
+import io.micronaut.coherence.tracing.MessageContextPropagator;
+import io.micronaut.coherence.tracing.TracedMessage;
+import io.micronaut.coherence.tracing.TracedMessageExtractor;
+import io.micronaut.coherence.tracing.TracedMessageFilter;
 import io.micronaut.coherence.messaging.binders.ElementArgumentBinderRegistry;
+import io.micronaut.coherence.messaging.binders.ElementBinder;
 import io.micronaut.coherence.messaging.exceptions.CoherenceSubscriberException;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.processor.ExecutableMethodProcessor;
 import io.micronaut.core.annotation.Blocking;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.publisher.Publishers;
-import io.micronaut.core.bind.BoundExecutable;
-import io.micronaut.core.bind.DefaultExecutableBinder;
-import io.micronaut.core.bind.ExecutableBinder;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
@@ -118,6 +134,16 @@ class CoherenceTopicListenerProcessor
      */
     private final Scheduler scheduler;
 
+    /**
+     * The executor service used to run listener methods.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * The resolver of the executors used to invoke listener methods.
+     */
+    private final ListenerExecutors listenerExecutors;
+
     /**
      * A flag indicating whether all the discovered subscriber methods have been subscribed.
      */
@@ -128,6 +154,16 @@ class CoherenceTopicListenerProcessor
      */
     private final ConversionService conversionService;
 
+    /**
+     * The metrics recorded for subscribers.
+     */
+    private final CoherenceMetrics metrics;
+
+    /**
+     * The propagator that restores the trace context of received messages, or {@code null}.
+     */
+    private final MessageContextPropagator propagator;
+
     /**
      * Create a {@link CoherenceTopicListenerProcessor}.
      *
@@ -138,6 +174,10 @@ class CoherenceTopicListenerProcessor
      * @param extractorFactories  the extractor factory to use to produce
      *                            {@link com.tangosol.util.ValueExtractor ValueExtractors}
      * @param conversionService   the {@link ConversionService}
+     * @param listenerExecutors   the resolver of the executors used to invoke listener methods
+     * @param metrics             the metrics recorded for subscribers, or {@code null} if metrics are not enabled
+     * @param propagator          the propagator that restores the trace context of received messages,
+     *                            or {@code null} if trace context is not propagated
      */
     @Inject
     public CoherenceTopicListenerProcessor(@Named(TaskExecutors.MESSAGE_CONSUMER) ExecutorService executorService,
@@ -145,17 +185,28 @@ class CoherenceTopicListenerProcessor
                                            ApplicationContext context,
                                            FilterFactories filterFactories,
                                            ExtractorFactories extractorFactories,
-                                           ConversionService conversionService) {
+                                           ConversionService conversionService,
+                                           ListenerExecutors listenerExecutors,
+                                           @Nullable CoherenceMetrics metrics,
+                                           @Nullable MessageContextPropagator propagator) {
         this.scheduler = Schedulers.fromExecutor(executorService);
+        this.executorService = executorService;
         this.context = context;
         this.filterFactories = filterFactories;
         this.extractorFactories = extractorFactories;
         this.registry = registry;
         this.conversionService = conversionService;
+        this.listenerExecutors = listenerExecutors;
+        this.metrics = metrics == null ? CoherenceMetrics.NONE : metrics;
+        this.propagator = propagator;
     }
 
     @Override
     public void process(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> method) {
+        int batchSize = method.intValue(CoherenceTopicListener.class, "batchSize").orElse(0);
+        if (batchSize > 0) {
+            validateBatchMethod(method);
+        }
         methods.add(new MethodHolder(beanDefinition, method));
     }
 
@@ -174,6 +225,31 @@ class CoherenceTopicListenerProcessor
         subscribers.clear();
     }
 
+    /**
+     * Ensure that a batch mode {@literal @}{@link CoherenceTopicListener} method has a single
+     * batch parameter and that any other parameter is the {@link Subscriber}.
+     *
+     * @param method  the method to validate
+     *
+     * @throws IllegalArgumentException if the method is not a valid batch listener method
+     */
+    private void validateBatchMethod(ExecutableMethod<?, ?> method) {
+        int batchArgs = 0;
+        for (Argument<?> argument : method.getArguments()) {
+            if (TopicSubscriber.isBatchArgument(argument)) {
+                batchArgs++;
+            } else if (!Subscriber.class.isAssignableFrom(argument.getType())) {
+                batchArgs = -1;
+                break;
+            }
+        }
+        if (batchArgs != 1) {
+            throw new IllegalArgumentException("The batch mode @CoherenceTopicListener annotated method "
+                    + method.getTargetMethod()
+                    + " must have a single List parameter and may only have an additional Subscriber parameter.");
+        }
+    }
+
     /**
      * Return {@code true} if all subscriber methods have been subscribed.
      *
@@ -183,6 +259,20 @@ class CoherenceTopicListenerProcessor
         return subscribed;
     }
 
+    /**
+     * Returns the number of elements that have been processed by
+     * {@link CommitStrategy#PIPELINED} subscribers but not yet committed.
+     *
+     * @return the number of processed elements that have not yet been committed
+     */
+    long getCommitLag() {
+        long lag = 0L;
+        for (TopicSubscriber<?, ?, ?> subscriber : subscribers) {
+            lag += subscriber.getCommitLag();
+        }
+        return lag;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     void createSubscribers(Coherence coherence) {
         for (MethodHolder holder : methods) {
@@ -217,7 +307,10 @@ class CoherenceTopicListenerProcessor
                 sendToPublishers = new Publisher[0];
             }
 
-            method.stringValue(SubscriberGroup.class).ifPresent(name -> options.add(Subscriber.Name.of(name)));
+            String group = method.stringValue(SubscriberGroup.class).orElse(null);
+            if (group != null) {
+                options.add(Subscriber.Name.of(group));
+            }
 
             List<String> filterBindings = method.getAnnotationNamesByStereotype(FilterBinding.class);
             if (!filterBindings.isEmpty()) {
@@ -229,7 +322,8 @@ class CoherenceTopicListenerProcessor
 
                 Filter filter = filterFactories.resolve(annotations);
                 if (filter != null) {
-                    options.add(Subscriber.Filtered.by(filter));
+                    // filters are evaluated on the server, so must see through any trace context wrapper
+                    options.add(Subscriber.Filtered.by(propagator == null ? filter : new TracedMessageFilter<>(filter)));
                 }
             }
 
@@ -243,7 +337,7 @@ class CoherenceTopicListenerProcessor
 
                 ValueExtractor extractor = extractorFactories.resolve(annotations);
                 if (extractor != null) {
-                    options.add(Subscriber.Convert.using(extractor));
+                    options.add(Subscriber.Convert.using(propagator == null ? extractor : new TracedMessageExtractor<>(extractor)));
                 }
             }
 
@@ -253,16 +347,47 @@ class CoherenceTopicListenerProcessor
 
             NamedTopic<?> topic = session.getTopic(topicName);
 
+            ListenerExecutor listenerExecutor = method.enumValue(CoherenceTopicListener.class, "executor", ListenerExecutor.class)
+                    .orElse(ListenerExecutor.DEFAULT);
+            Executor virtualExecutor = listenerExecutors.isVirtual(listenerExecutor)
+                    ? listenerExecutors.getVirtualExecutor()
+                    : null;
+
+            Publisher<?> deadLetterPublisher = method.stringValue(CoherenceTopicListener.class, "deadLetterTopic")
+                    .filter(name -> !name.isEmpty())
+                    .map(name -> session.getTopic(name).createPublisher())
+                    .orElse(null);
+
             Subscriber<?> subscriber = topic.createSubscriber(options.toArray(options.toArray(new Subscriber.Option[0])));
+            CoherenceMetrics.SubscriberMetrics subscriberMetrics = metrics.subscriber(topicName, group,
+                    () -> subscriber.isActive() ? subscriber.getRemainingMessages() : 0);
             TopicSubscriber<?, ?, ?> topicSubscriber =
-                new TopicSubscriber(topicName, subscriber, sendToPublishers, bean, method,
-                    registry, conversionService, scheduler);
+                new TopicSubscriber(topicName, subscriber, sendToPublishers, deadLetterPublisher, bean, method,
+                    registry, conversionService, scheduler, executorService, virtualExecutor, subscriberMetrics, propagator);
             subscribers.add(topicSubscriber);
-            topicSubscriber.nextMessage();
+            topicSubscriber.start();
         }
         subscribed = true;
     }
 
+    /**
+     * Log the failure to commit a position with an auto-commit strategy.
+     * <p>With auto-commit strategies the developer has chosen to ignore commit failures,
+     * so the failure is only logged.</p>
+     *
+     * @param channel   the channel that was committed
+     * @param position  the position that was committed
+     * @param result    the unsuccessful commit result, or {@code null} if the commit failed with an error
+     * @param error     the error that occurred committing, or {@code null}
+     */
+    static void logCommitFailure(int channel, Position position, Subscriber.CommitResult result, Throwable error) {
+        if (error != null) {
+            LOG.error("Error committing channel={} position={}", channel, position, error);
+        } else {
+            LOG.error("Failed to commit channel={} position={} status {}", channel, position, result);
+        }
+    }
+
     /**
      * A simple holder for discovered subscriber methods.
      */
@@ -308,6 +433,12 @@ class CoherenceTopicListenerProcessor
          */
         private final Publisher<?>[] publishers;
 
+        /**
+         * The publisher to the dead-letter topic, or {@code null} if elements that fail
+         * processing are not dead-lettered.
+         */
+        private final Publisher<Object> deadLetterPublisher;
+
         /**
          * The bean declaring the {@link ExecutableMethod}.
          */
@@ -338,30 +469,131 @@ class CoherenceTopicListenerProcessor
          */
         private final CommitStrategy commitStrategy;
 
+        /**
+         * The committer used with the {@link CommitStrategy#PIPELINED} strategy, otherwise {@code null}.
+         */
+        private final PipelinedCommitter committer;
+
         /**
          * The {@link ConversionService}.
          */
         private final ConversionService conversionService;
 
+        /**
+         * The executor service used to complete timed batch receives and to run concurrent listeners.
+         */
+        private final ExecutorService executorService;
+
+        /**
+         * The maximum number of elements in a batch, or zero if elements are received one at a time.
+         */
+        private final int batchSize;
+
+        /**
+         * The maximum time, in nanoseconds, to wait for a batch to fill.
+         */
+        private final long batchWaitNanos;
+
+        /**
+         * The functions that produce each method argument from a received batch of elements.
+         */
+        private final Function<List<Subscriber.Element<E>>, Object>[] batchArguments;
+
+        /**
+         * The functions that produce each method argument from a received element,
+         * resolved once so that invoking the method does not look up binders.
+         */
+        private final Function<Subscriber.Element<?>, Object>[] elementArguments;
+
+        /**
+         * The maximum number of elements in flight.
+         */
+        private final int concurrency;
+
+        /**
+         * The executor that runs the method on virtual threads, or {@code null} to use platform threads.
+         */
+        private final Executor virtualExecutor;
+
+        /**
+         * The executor that dispatches elements to the method in channel order when the
+         * concurrency is greater than one or virtual threads are used, otherwise {@code null}.
+         */
+        private final OrderedExecutor channelExecutor;
+
+        /**
+         * The channels with an element waiting to be retried or dead-lettered, later elements
+         * from these channels are deferred until the element is resolved.
+         */
+        private final Map<Integer, ParkedChannel> parkedChannels = new ConcurrentHashMap<>();
+
+        /**
+         * The metrics recorded for this subscriber.
+         */
+        private final CoherenceMetrics.SubscriberMetrics metrics;
+
+        /**
+         * The propagator that restores the trace context of received messages, or {@code null}.
+         */
+        private final MessageContextPropagator propagator;
+
+        /**
+         * The maximum number of times a failed element or batch is retried.
+         */
+        private final int retries;
+
+        /**
+         * The delay, in nanoseconds, before the first retry.
+         */
+        private final long retryDelayNanos;
+
+        /**
+         * The factor the retry delay is multiplied by after each retry.
+         */
+        private final double retryMultiplier;
+
+        /**
+         * The maximum delay, in nanoseconds, between retries.
+         */
+        private final long retryMaxDelayNanos;
+
+        /**
+         * A receive request that was still outstanding when the previous batch timed out.
+         * <p>Only accessed from the single receive chain of this subscriber.</p>
+         */
+        private CompletableFuture<List<Subscriber.Element<E>>> pendingReceive;
+
         /**
          * Create a {@link TopicSubscriber}.
          *
          * @param topicName         the name of the subscribed topic.
          * @param subscriber        the actual topic {@link com.tangosol.net.topic.Subscriber}
          * @param publishers        the optional {@link Publisher Publishers} to send any method return type to
+         * @param deadLetterPublisher the publisher to send elements that fail processing to, or {@code null}
          * @param bean              the bean declaring the {@link ExecutableMethod}
          * @param method            the {@link ExecutableMethod} to forward topic elements to
          * @param registry          the {@link ElementArgumentBinderRegistry} to use to bind method arguments
          * @param scheduler         the scheduler service
          * @param conversionService the {@link ConversionService}
+         * @param executorService   the executor service used to complete timed batch receives
+         *                          and to run the method when the concurrency is greater than one
+         * @param virtualExecutor   the executor that runs the method on virtual threads, or {@code null}
+         *                          to use platform threads
+         * @param metrics           the metrics recorded for this subscriber
+         * @param propagator        the propagator that restores the trace context of received messages,
+         *                          or {@code null}
          */
-        @SuppressWarnings({"rawtypes"})
-        TopicSubscriber(String topicName, Subscriber<E> subscriber, Publisher<?>[] publishers, T bean,
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        TopicSubscriber(String topicName, Subscriber<E> subscriber, Publisher<?>[] publishers,
+                        Publisher<?> deadLetterPublisher, T bean,
                         ExecutableMethod<T, R> method, ElementArgumentBinderRegistry registry,
-                        ConversionService conversionService, Scheduler scheduler) {
+                        ConversionService conversionService, Scheduler scheduler, ExecutorService executorService,
+                        Executor virtualExecutor, CoherenceMetrics.SubscriberMetrics metrics,
+                        MessageContextPropagator propagator) {
             this.topicName = topicName;
             this.subscriber = subscriber;
             this.publishers = publishers;
+            this.deadLetterPublisher = (Publisher<Object>) deadLetterPublisher;
             this.bean = bean;
             this.method = method;
             this.registry = registry;
@@ -372,16 +604,166 @@ class CoherenceTopicListenerProcessor
                     .findFirst();
             this.commitStrategy = method.getValue(CoherenceTopicListener.class, "commitStrategy", CommitStrategy.class)
                                         .orElse(CommitStrategy.SYNC);
+            this.metrics = metrics;
+            this.propagator = propagator;
+            this.committer = commitStrategy == CommitStrategy.PIPELINED ? new PipelinedCommitter(subscriber, metrics, virtualExecutor == null ? executorService : virtualExecutor) : null;
             this.conversionService = conversionService;
+            this.executorService = executorService;
+            this.batchSize = Math.max(0, method.intValue(CoherenceTopicListener.class, "batchSize").orElse(0));
+            this.batchWaitNanos = method.getValue(CoherenceTopicListener.class, "batchWait", Duration.class)
+                                        .map(Duration::toNanos)
+                                        .orElse(0L);
+            int maxInFlight = method.intValue(CoherenceTopicListener.class, "concurrency").orElse(1);
+            if (batchSize > 0 && maxInFlight > 1) {
+                LOG.warn("Ignoring concurrency {} for batch mode @CoherenceTopicListener method {}", maxInFlight, method);
+                maxInFlight = 1;
+            }
+            this.concurrency = Math.max(1, maxInFlight);
+            this.retries = Math.max(0, method.intValue(CoherenceTopicListener.class, "retries").orElse(0));
+            this.retryDelayNanos = method.getValue(CoherenceTopicListener.class, "retryDelay", Duration.class)
+                                         .map(Duration::toNanos)
+                                         .orElse(0L);
+            this.retryMultiplier = Math.max(1.0d, method.doubleValue(CoherenceTopicListener.class, "retryMultiplier").orElse(1.0d));
+            this.retryMaxDelayNanos = method.getValue(CoherenceTopicListener.class, "retryMaxDelay", Duration.class)
+                                            .map(Duration::toNanos)
+                                            .orElse(Long.MAX_VALUE);
+            this.virtualExecutor = virtualExecutor;
+            if (virtualExecutor != null) {
+                this.channelExecutor = new OrderedExecutor(virtualExecutor, concurrency);
+            } else if (concurrency > 1) {
+                this.channelExecutor = new OrderedExecutor(executorService, concurrency);
+            } else {
+                this.channelExecutor = null;
+            }
+
+            Argument<?>[] arguments = method.getArguments();
+            this.batchArguments = new Function[arguments.length];
+            this.elementArguments = new Function[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                if (batchSize > 0) {
+                    batchArguments[i] = batchArgument(arguments[i]);
+                } else {
+                    elementArguments[i] = elementArgument(arguments[i]);
+                }
+            }
+        }
+
+        /**
+         * Create the function that produces an argument value from a single element.
+         *
+         * @param argument  the method argument
+         *
+         * @return the function that produces an argument value from a single element
+         */
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private Function<Subscriber.Element<?>, Object> elementArgument(Argument<?> argument) {
+            if (subscriberArg.isPresent() && subscriberArg.get().equals(argument)) {
+                return element -> subscriber;
+            }
+            Optional<? extends ArgumentBinder<?, Subscriber.Element<?>>> binder = registry.findArgumentBinder(argument);
+            if (binder.isPresent() && binder.get() instanceof ElementBinder elementBinder) {
+                return elementBinder.bindingFunction(argument);
+            }
+            return element -> {
+                throw new UnsatisfiedArgumentException(argument);
+            };
+        }
+
+        /**
+         * Returns {@code true} if the specified argument can be bound to a batch of elements.
+         *
+         * @param argument  the argument to check
+         *
+         * @return {@code true} if the specified argument can be bound to a batch of elements
+         */
+        static boolean isBatchArgument(Argument<?> argument) {
+            Class<?> type = argument.getType();
+            return Iterable.class.isAssignableFrom(type) && type.isAssignableFrom(List.class);
+        }
+
+        /**
+         * Create the function that produces an argument value from a batch of elements.
+         *
+         * @param argument  the method argument
+         *
+         * @return the function that produces an argument value from a batch of elements
+         */
+        @SuppressWarnings("unchecked")
+        private Function<List<Subscriber.Element<E>>, Object> batchArgument(Argument<?> argument) {
+            if (!isBatchArgument(argument)) {
+                // batch methods are validated on discovery, so the only other argument is the subscriber
+                return elements -> subscriber;
+            }
+            Class<?> elementType = argument.getFirstTypeVariable()
+                                           .map(Argument::getType)
+                                           .orElse(Object.class);
+            if (Subscriber.Element.class.isAssignableFrom(elementType)) {
+                return elements -> {
+                    List<Subscriber.Element<E>> list = new ArrayList<>(elements.size());
+                    for (Subscriber.Element<E> element : elements) {
+                        list.add(ElementBinder.unwrap(element));
+                    }
+                    return list;
+                };
+            }
+            if (Binary.class.equals(elementType)) {
+                return elements -> {
+                    List<Binary> list = new ArrayList<>(elements.size());
+                    for (Subscriber.Element<E> element : elements) {
+                        list.add(element.getBinaryValue());
+                    }
+                    return list;
+                };
+            }
+            return elements -> {
+                List<E> list = new ArrayList<>(elements.size());
+                for (Subscriber.Element<E> element : elements) {
+                    list.add((E) TracedMessage.unwrap(element.getValue()));
+                }
+                return list;
+            };
+        }
+
+        /**
+         * Start receiving elements from the topic.
+         */
+        void start() {
+            if (batchSize > 0) {
+                nextBatch();
+            } else {
+                for (int i = 0; i < concurrency; i++) {
+                    nextMessage();
+                }
+            }
+        }
+
+        /**
+         * Returns the number of processed elements that have not yet been committed.
+         *
+         * @return the number of processed elements that have not yet been committed
+         */
+        long getCommitLag() {
+            return committer == null ? 0L : committer.getCommitLag();
         }
 
         @Override
         public void close() {
+            if (committer != null) {
+                committer.close();
+            }
             try {
                 subscriber.close();
             } catch (Exception e) {
                 LOG.error("Error closing subscriber for topic {}", topicName, e);
             }
+            if (deadLetterPublisher != null) {
+                try {
+                    deadLetterPublisher.close();
+                } catch (Exception e) {
+                    LOG.error("Error closing dead-letter publisher for topic {}", topicName, e);
+                }
+            }
+            metrics.close();
         }
 
         /**
@@ -391,7 +773,13 @@ class CoherenceTopicListenerProcessor
          */
         private void nextMessage() {
             if (subscriber.isActive()) {
-                subscriber.receive().handle(this::handleMessage)
+                long start = System.nanoTime();
+                subscriber.receive().handle((element, err) -> {
+                            if (err == null) {
+                                metrics.received(1, System.nanoTime() - start);
+                            }
+                            return dispatchMessage(element, err);
+                        })
                         .handle((v, err) -> {
                             if (err != null) {
                                 LOG.error("Error requesting message from topic {} for method {} - subscriber will be closed", topicName, method, err);
@@ -402,6 +790,26 @@ class CoherenceTopicListenerProcessor
             }
         }
 
+        /**
+         * <p>Dispatch the next async response from the subscriber to the listener method.</p>
+         * <p>If the concurrency is one and virtual threads are not used the response is handled
+         * on the calling thread, otherwise it is handled on the executor after any previously
+         * received elements from the same channel.</p>
+         *
+         * @param element    the {@link com.tangosol.net.topic.Subscriber.Element} received
+         * @param throwable  any error from the subscriber
+         *
+         * @return always returns {@link java.lang.Void} (i.e. {@code null})
+         */
+        private Void dispatchMessage(Subscriber.Element<E> element, Throwable throwable) {
+            if (channelExecutor == null || throwable != null) {
+                return handleMessage(element, throwable);
+            }
+            int channel = element.getChannel();
+            channelExecutor.execute(channel, () -> runInChannel(channel, () -> handleMessage(element, null)));
+            return VOID;
+        }
+
         /**
          * <p>Handle the next async response from the subscriber.</p>
          * <p>After the {@link io.micronaut.inject.ExecutableMethod} handles the message
@@ -417,76 +825,570 @@ class CoherenceTopicListenerProcessor
          *
          * @return always returns {@link java.lang.Void} (i.e. {@code null})
          */
-        @SuppressWarnings({"rawtypes", "unchecked"})
         private Void handleMessage(Subscriber.Element<E> element, Throwable throwable) {
+            return handleMessage(element, throwable, 0);
+        }
+
+        /**
+         * <p>Handle an element received from the subscriber.</p>
+         * <p>If the {@link io.micronaut.inject.ExecutableMethod} throws an exception and the
+         * element has been retried fewer than the configured number of times, the element is
+         * retried after a delay without blocking the calling thread. Once the retries are
+         * exhausted the element is sent to the dead-letter topic, if there is one, and committed,
+         * otherwise the {@link SubscriberExceptionHandler} decides whether to continue.</p>
+         * <p>While an element is waiting to be retried or dead-lettered its channel is parked,
+         * later elements from the channel are not processed, or committed, until it is resolved.</p>
+         *
+         * @param element    the {@link com.tangosol.net.topic.Subscriber.Element} received
+         * @param throwable  any error from the subscriber
+         * @param attempt    the number of times the method has already been called with the element
+         *
+         * @return always returns {@link java.lang.Void} (i.e. {@code null})
+         */
+        private Void handleMessage(Subscriber.Element<E> element, Throwable throwable, int attempt) {
             SubscriberExceptionHandler.Action action = SubscriberExceptionHandler.Action.Continue;
             Throwable error = null;
 
             if (throwable == null) {
+                long start = System.nanoTime();
+                MessageContextPropagator.Scope scope = propagator == null
+                        ? MessageContextPropagator.Scope.NONE
+                        : propagator.restore(topicName, TracedMessage.headers(element.getValue()));
                 try {
-                    Map<Argument<?>, Object> mapBindings = new HashMap<>();
-                    subscriberArg.ifPresent(arg -> mapBindings.put(arg, subscriber));
-
-                    ExecutableBinder batchBinder = new DefaultExecutableBinder<>(mapBindings);
-                    BoundExecutable boundExecutable = batchBinder.bind(method, registry, element);
-
-                    Object result = boundExecutable.invoke(bean);
+                    Object[] args = new Object[elementArguments.length];
+                    for (int i = 0; i < args.length; i++) {
+                        args[i] = elementArguments[i].apply(element);
+                    }
+                    Object result = method.invoke(bean, args);
                     handleResult(result);
                 } catch (Throwable thrown) {
                     error = thrown;
+                } finally {
+                    scope.close(error);
                 }
+                metrics.processed(1, System.nanoTime() - start, error == null);
             } else {
                 error = throwable;
             }
 
             if (error == null) {
                 // message processed successfully, do any commit action
-                try {
-                    if (commitStrategy != CommitStrategy.MANUAL) {
-                        CompletableFuture<Subscriber.CommitResult> future = element.commitAsync();
-                        if (commitStrategy == CommitStrategy.ASYNC) {
-                            // async commit, so log any failure in a future handler
-                            future.handle((result, commitError) -> {
-                                if (commitError != null) {
-                                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                                    LOG.error("Error committing element channel={} position={}", element.getChannel(), element.getPosition(), commitError);
-                                } else if (!result.isSuccess()) {
-                                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                                    LOG.error("Failed to commit element channel={} position={} status {}", element.getChannel(), element.getPosition(), result);
-                                }
-                                return VOID;
-                            });
-                        } else {
-                            // sync commit so wait for it to complete
-                            Subscriber.CommitResult result = future.join();
-                            if (!result.isSuccess()) {
-                                // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                                LOG.error("Failed to commit element channel={} position={} status {}", element.getChannel(), element.getPosition(), result);
-                            }
-                        }
-                    }
-                } catch (Exception thrown) {
-                    // With auto-commit strategies the developer has chosen to ignore commit failures, just log the error
-                    LOG.error("Error committing element channel={} position={}", element.getChannel(), element.getPosition(), thrown);
-                }
+                commit(element);
             } else if (error instanceof CancellationException) {
                 // cancellation probably due to subscriber closing, so we ignore the error
                 action = SubscriberExceptionHandler.Action.Continue;
+            } else if (throwable == null && attempt < retries) {
+                LOG.debug("Retrying element channel={} position={} for method {} after attempt {} failed",
+                        element.getChannel(), element.getPosition(), method, attempt + 1, error);
+                park(element.getChannel());
+                scheduleRetry(attempt, element.getChannel(), () -> handleMessage(element, null, attempt + 1));
+                return VOID;
+            } else if (throwable == null && deadLetterPublisher != null) {
+                Throwable cause = error;
+                park(element.getChannel());
+                deadLetter(element, attempt + 1, error).whenComplete((v, sendError) ->
+                        resumeInChannel(element.getChannel(), () -> {
+                            SubscriberExceptionHandler.Action next = SubscriberExceptionHandler.Action.Continue;
+                            if (sendError == null) {
+                                commit(element);
+                            } else {
+                                next = handleException(subscriber, method, element, cause);
+                            }
+                            proceed(element.getChannel(), next, true);
+                        }));
+                return VOID;
             } else {
                 // an error occurred
                 action = handleException(subscriber, method, element, error);
             }
 
-        switch (action) {
-            case Continue -> nextMessage();
-            case Stop -> subscriber.close();
-            default -> {
-                LOG.error("Unknown SubscriberExceptionHandler.Action {} closing subscriber", action);
+            // a retried element was parked, so resume its channel
+            proceed(element.getChannel(), action, attempt > 0);
+            return VOID;
+        }
+
+        /**
+         * Request the next element, or close the subscriber, depending on the action.
+         *
+         * @param channel  the channel of the element that has been handled
+         * @param action   the action to take
+         * @param resume   {@code true} if the channel was parked and should be resumed
+         */
+        private void proceed(int channel, SubscriberExceptionHandler.Action action, boolean resume) {
+            switch (action) {
+                case Continue -> {
+                    if (resume) {
+                        resume(channel);
+                    }
+                    nextMessage();
+                }
+                case Stop -> subscriber.close();
+                default -> {
+                    LOG.error("Unknown SubscriberExceptionHandler.Action {} closing subscriber", action);
+                    subscriber.close();
+                }
+            }
+        }
+
+        /**
+         * Run a task for a received element, or defer it if the element's channel is parked.
+         * <p>Only called on the {@link #channelExecutor}, so tasks for the same channel never
+         * run concurrently.</p>
+         *
+         * @param channel  the channel of the element
+         * @param task     the task that handles the element
+         */
+        private void runInChannel(int channel, Runnable task) {
+            ParkedChannel parked = parkedChannels.get(channel);
+            if (parked == null) {
+                task.run();
+            } else {
+                parked.deferred.add(task);
+            }
+        }
+
+        /**
+         * Park a channel while an element from it is waiting to be retried or dead-lettered.
+         *
+         * @param channel  the channel to park
+         */
+        private void park(int channel) {
+            if (channelExecutor != null) {
+                parkedChannels.computeIfAbsent(channel, c -> new ParkedChannel()).resolving = true;
+            }
+        }
+
+        /**
+         * Resume a parked channel, handling the elements deferred while it was parked in the
+         * order they were received, until either none remain or one of them parks the channel again.
+         *
+         * @param channel  the channel to resume
+         */
+        private void resume(int channel) {
+            ParkedChannel parked = channelExecutor == null ? null : parkedChannels.get(channel);
+            if (parked == null) {
+                return;
+            }
+            parked.resolving = false;
+            Runnable task;
+            while (!parked.resolving && (task = parked.deferred.poll()) != null) {
+                task.run();
+            }
+            if (!parked.resolving) {
+                parkedChannels.remove(channel);
+            }
+        }
+
+        /**
+         * Run a task that resolves a parked element, after any tasks already queued for its channel.
+         *
+         * @param channel  the channel of the parked element
+         * @param task     the task that resolves the element
+         */
+        private void resumeInChannel(int channel, Runnable task) {
+            try {
+                if (channelExecutor == null) {
+                    executorService.execute(task);
+                } else {
+                    channelExecutor.execute(channel, task);
+                }
+            } catch (RejectedExecutionException e) {
+                LOG.error("Unable to resume channel {} for topic {} method {} - subscriber will be closed",
+                        channel, topicName, method, e);
                 subscriber.close();
+            }
+        }
+
+        /**
+         * Commit a processed element using the configured commit strategy.
+         *
+         * @param element  the element to commit
+         */
+        private void commit(Subscriber.Element<E> element) {
+            try {
+                if (commitStrategy == CommitStrategy.PIPELINED) {
+                    committer.processed(element.getChannel(), element.getPosition(), 1);
+                } else if (commitStrategy != CommitStrategy.MANUAL) {
+                    long start = System.nanoTime();
+                    CompletableFuture<Subscriber.CommitResult> future = element.commitAsync();
+                    if (commitStrategy == CommitStrategy.ASYNC) {
+                        // async commit, so log any failure in a future handler
+                        future.handle((result, commitError) -> {
+                            metrics.committed(System.nanoTime() - start, commitError == null && result.isSuccess());
+                            if (commitError != null || !result.isSuccess()) {
+                                logCommitFailure(element.getChannel(), element.getPosition(), result, commitError);
+                            }
+                            return VOID;
+                        });
+                    } else {
+                        // sync commit so wait for it to complete
+                        Subscriber.CommitResult result = future.join();
+                        metrics.committed(System.nanoTime() - start, result.isSuccess());
+                        if (!result.isSuccess()) {
+                            logCommitFailure(element.getChannel(), element.getPosition(), result, null);
+                        }
+                    }
                 }
+            } catch (Exception thrown) {
+                logCommitFailure(element.getChannel(), element.getPosition(), null, thrown);
             }
+        }
 
-            return VOID;
+        /**
+         * <p>Schedule a retry after the backoff delay for the given attempt.</p>
+         * <p>The delay is {@code retryDelay * retryMultiplier^attempt}, limited to the maximum
+         * retry delay. The retry runs on the executor that runs the method and, when the concurrency
+         * is greater than one, on the element's parked channel ahead of any deferred elements.</p>
+         *
+         * @param attempt  the number of failed attempts before this retry, less one
+         * @param channel  the channel of the element being retried
+         * @param retry    the task that retries the element or batch
+         */
+        private void scheduleRetry(int attempt, int channel, Runnable retry) {
+            double delay = retryDelayNanos * Math.pow(retryMultiplier, attempt);
+            long delayNanos = (long) Math.min(delay, (double) retryMaxDelayNanos);
+            Executor executor = virtualExecutor == null ? executorService : virtualExecutor;
+            Runnable task = () -> {
+                if (!subscriber.isActive()) {
+                    return;
+                }
+                if (channelExecutor == null) {
+                    retry.run();
+                } else {
+                    channelExecutor.execute(channel, retry);
+                }
+            };
+            try {
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor).execute(task);
+            } catch (RejectedExecutionException e) {
+                LOG.error("Unable to schedule retry for topic {} method {} - subscriber will be closed", topicName, method, e);
+                subscriber.close();
+            }
+        }
+
+        /**
+         * Publish an element that failed processing to the dead-letter topic.
+         *
+         * @param element   the element that failed processing
+         * @param attempts  the number of times the method was called with the element
+         * @param error     the exception thrown by the method
+         *
+         * @return a future that completes when the element has been published to the dead-letter topic
+         */
+        private CompletableFuture<Void> deadLetter(Subscriber.Element<E> element, int attempts, Throwable error) {
+            Object value;
+            try {
+                value = ElementBinder.value(element);
+            } catch (Throwable t) {
+                value = element.getBinaryValue();
+            }
+            CompletableFuture<Publisher.Status> future;
+            try {
+                future = deadLetterPublisher.publish(new DeadLetter(value, topicName, element.getChannel(),
+                        element.getPosition(), attempts, error));
+            } catch (Throwable t) {
+                future = CompletableFuture.failedFuture(t);
+            }
+            return future.handle((status, t) -> {
+                if (t != null) {
+                    LOG.error("Error sending element channel={} position={} from topic {} to dead-letter topic",
+                            element.getChannel(), element.getPosition(), topicName, t);
+                    throw t instanceof CompletionException ce ? ce : new CompletionException(t);
+                }
+                LOG.warn("Sent element channel={} position={} from topic {} to dead-letter topic after {} attempts",
+                        element.getChannel(), element.getPosition(), topicName, attempts, error);
+                return VOID;
+            });
+        }
+
+        /**
+         * <p>Request the next batch of messages from the {@link com.tangosol.net.topic.Subscriber}.</p>
+         * <p>If requesting the next batch throws an exception the subscription will
+         * end and the {@link com.tangosol.net.topic.Subscriber} will be closed.</p>
+         */
+        private void nextBatch() {
+            if (subscriber.isActive()) {
+                CompletableFuture<List<Subscriber.Element<E>>> future = pendingReceive;
+                pendingReceive = null;
+                if (future == null) {
+                    future = subscriber.receive(batchSize);
+                }
+                long start = System.nanoTime();
+                future.handle((elements, err) -> {
+                            if (err == null && elements != null) {
+                                metrics.received(elements.size(), System.nanoTime() - start);
+                            }
+                            if (virtualExecutor == null) {
+                                onBatchReceived(elements, err);
+                            } else {
+                                virtualExecutor.execute(() -> onBatchReceived(elements, err));
+                            }
+                            return VOID;
+                        })
+                        .handle((v, err) -> {
+                            if (err != null) {
+                                LOG.error("Error requesting messages from topic {} for method {} - subscriber will be closed", topicName, method, err);
+                                subscriber.close();
+                            }
+                            return VOID;
+                        });
+            }
+        }
+
+        /**
+         * Handle the response to a request for a new batch of elements.
+         *
+         * @param elements   the elements received
+         * @param throwable  any error from the subscriber
+         */
+        private void onBatchReceived(List<Subscriber.Element<E>> elements, Throwable throwable) {
+            try {
+                if (throwable == null && batchWaitNanos > 0 && elements.size() < batchSize) {
+                    fillBatch(new ArrayList<>(elements), System.nanoTime() + batchWaitNanos);
+                } else {
+                    handleBatch(elements, throwable);
+                }
+            } catch (Throwable t) {
+                LOG.error("Error handling messages from topic {} for method {} - subscriber will be closed", topicName, method, t);
+                subscriber.close();
+            }
+        }
+
+        /**
+         * Continue to receive elements into a partial batch until either the batch is full
+         * or the batch wait time has elapsed.
+         * <p>If the wait time elapses before an outstanding receive request completes the
+         * request is not cancelled, its elements will start the next batch.</p>
+         *
+         * @param batch     the partial batch
+         * @param deadline  the {@link System#nanoTime()} that the batch must be handled by
+         */
+        private void fillBatch(List<Subscriber.Element<E>> batch, long deadline) {
+            int remaining = batchSize - batch.size();
+            long wait = deadline - System.nanoTime();
+            if (remaining <= 0 || wait <= 0 || !subscriber.isActive()) {
+                handleBatch(batch, null);
+                return;
+            }
+
+            long start = System.nanoTime();
+            CompletableFuture<List<Subscriber.Element<E>>> future = subscriber.receive(remaining);
+            future.copy()
+                    .completeOnTimeout(null, wait, TimeUnit.NANOSECONDS)
+                    .handleAsync((elements, err) -> {
+                        if (err != null) {
+                            handleBatch(batch, err);
+                        } else if (elements == null) {
+                            // timed out, handle the partial batch and carry the receive over to the next batch
+                            pendingReceive = future;
+                            handleBatch(batch, null);
+                        } else {
+                            metrics.received(elements.size(), System.nanoTime() - start);
+                            batch.addAll(elements);
+                            fillBatch(batch, deadline);
+                        }
+                        return VOID;
+                    }, virtualExecutor == null ? executorService : virtualExecutor)
+                    .handle((v, err) -> {
+                        if (err != null) {
+                            LOG.error("Error requesting messages from topic {} for method {} - subscriber will be closed", topicName, method, err);
+                            subscriber.close();
+                        }
+                        return VOID;
+                    });
+        }
+
+        /**
+         * <p>Handle a batch of elements received from the subscriber.</p>
+         * <p>After the {@link io.micronaut.inject.ExecutableMethod} handles the batch
+         * the next batch will be requested from the subscriber.</p>
+         *
+         * @param elements   the batch of {@link com.tangosol.net.topic.Subscriber.Element elements} received
+         * @param throwable  any error from the subscriber
+         */
+        private void handleBatch(List<Subscriber.Element<E>> elements, Throwable throwable) {
+            handleBatch(elements, throwable, 0);
+        }
+
+        /**
+         * <p>Handle a batch of elements received from the subscriber.</p>
+         * <p>If the {@link io.micronaut.inject.ExecutableMethod} throws an exception the whole
+         * batch is retried, and once the retries are exhausted every element of the batch is
+         * sent to the dead-letter topic, if there is one.</p>
+         *
+         * @param elements   the batch of {@link com.tangosol.net.topic.Subscriber.Element elements} received
+         * @param throwable  any error from the subscriber
+         * @param attempt    the number of times the method has already been called with the batch
+         */
+        @SuppressWarnings("unchecked")
+        private void handleBatch(List<Subscriber.Element<E>> elements, Throwable throwable, int attempt) {
+            SubscriberExceptionHandler.Action action = SubscriberExceptionHandler.Action.Continue;
+            Throwable error = throwable;
+
+            if (error == null && elements != null && !elements.isEmpty()) {
+                long start = System.nanoTime();
+                MessageContextPropagator.Scope scope = restore(elements);
+                try {
+                    Object[] args = new Object[batchArguments.length];
+                    for (int i = 0; i < args.length; i++) {
+                        args[i] = batchArguments[i].apply(elements);
+                    }
+                    Object result = ((ExecutableMethod<T, R>) method).invoke(bean, args);
+                    handleResult(result);
+                } catch (Throwable thrown) {
+                    error = thrown;
+                } finally {
+                    scope.close(error);
+                }
+                metrics.processed(elements.size(), System.nanoTime() - start, error == null);
+
+                if (error == null && commitStrategy != CommitStrategy.MANUAL) {
+                    commitBatch(elements);
+                }
+            }
+
+            if (error instanceof CancellationException) {
+                // cancellation probably due to subscriber closing, so we ignore the error
+                action = SubscriberExceptionHandler.Action.Continue;
+            } else if (error != null && throwable == null && attempt < retries) {
+                LOG.debug("Retrying batch of {} elements for method {} after attempt {} failed",
+                        elements.size(), method, attempt + 1, error);
+                scheduleRetry(attempt, 0, () -> handleBatch(elements, null, attempt + 1));
+                return;
+            } else if (error != null && throwable == null && deadLetterPublisher != null) {
+                Throwable cause = error;
+                deadLetterBatch(elements, attempt + 1, error).whenCompleteAsync((v, sendError) -> {
+                    SubscriberExceptionHandler.Action next = SubscriberExceptionHandler.Action.Continue;
+                    if (sendError == null) {
+                        if (commitStrategy != CommitStrategy.MANUAL) {
+                            commitBatch(elements);
+                        }
+                    } else {
+                        next = handleException(bean, new CoherenceSubscriberException(cause, bean, subscriber, elements));
+                    }
+                    proceedBatch(next);
+                }, virtualExecutor == null ? executorService : virtualExecutor);
+                return;
+            } else if (error != null) {
+                action = handleException(bean, new CoherenceSubscriberException(error, bean, subscriber, elements));
+            }
+
+            proceedBatch(action);
+        }
+
+        /**
+         * Request the next batch, or close the subscriber, depending on the action.
+         *
+         * @param action  the action to take
+         */
+        private void proceedBatch(SubscriberExceptionHandler.Action action) {
+            switch (action) {
+                case Continue -> nextBatch();
+                case Stop -> subscriber.close();
+                default -> {
+                    LOG.error("Unknown SubscriberExceptionHandler.Action {} closing subscriber", action);
+                    subscriber.close();
+                }
+            }
+        }
+
+        /**
+         * Publish every element of a batch that failed processing to the dead-letter topic.
+         *
+         * @param elements  the batch of elements that failed processing
+         * @param attempts  the number of times the method was called with the batch
+         * @param error     the exception thrown by the method
+         *
+         * @return a future that completes when all the elements have been published to the dead-letter topic
+         */
+        private CompletableFuture<Void> deadLetterBatch(List<Subscriber.Element<E>> elements, int attempts, Throwable error) {
+            CompletableFuture<?>[] futures = new CompletableFuture[elements.size()];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = deadLetter(elements.get(i), attempts, error);
+            }
+            return CompletableFuture.allOf(futures);
+        }
+
+        /**
+         * Restore the trace context of a batch of elements.
+         *
+         * @param elements  the batch of elements
+         *
+         * @return the scope of the restored trace context
+         */
+        private MessageContextPropagator.Scope restore(List<Subscriber.Element<E>> elements) {
+            if (propagator == null) {
+                return MessageContextPropagator.Scope.NONE;
+            }
+            List<Map<String, String>> headers = new ArrayList<>(elements.size());
+            for (Subscriber.Element<E> element : elements) {
+                headers.add(TracedMessage.headers(element.getValue()));
+            }
+            return propagator.restore(topicName, headers);
+        }
+
+        /**
+         * Commit a processed batch of elements at the highest position received in each channel.
+         *
+         * @param elements  the batch of elements to commit
+         */
+        private void commitBatch(List<Subscriber.Element<E>> elements) {
+            if (commitStrategy == CommitStrategy.PIPELINED) {
+                Map<Integer, Integer> counts = new HashMap<>();
+                Map<Integer, Position> positions = new HashMap<>();
+                for (Subscriber.Element<E> element : elements) {
+                    counts.merge(element.getChannel(), 1, Integer::sum);
+                    positions.put(element.getChannel(), element.getPosition());
+                }
+                positions.forEach((channel, position) -> committer.processed(channel, position, counts.get(channel)));
+                return;
+            }
+
+            // elements within a channel are received in position order, so the last one wins
+            Map<Integer, Position> positions = new HashMap<>();
+            for (Subscriber.Element<E> element : elements) {
+                positions.put(element.getChannel(), element.getPosition());
+            }
+
+            long start = System.nanoTime();
+            try {
+                CompletableFuture<Map<Integer, Subscriber.CommitResult>> future = subscriber.commitAsync(positions);
+                if (commitStrategy == CommitStrategy.ASYNC) {
+                    future.handle((results, commitError) -> {
+                        logBatchCommitResult(positions, results, commitError, start);
+                        return VOID;
+                    });
+                } else {
+                    logBatchCommitResult(positions, future.join(), null, start);
+                }
+            } catch (Exception thrown) {
+                logBatchCommitResult(positions, null, thrown, start);
+            }
+        }
+
+        /**
+         * Record the commit of a batch and log any failure, see {@link #logCommitFailure}.
+         *
+         * @param positions  the positions that were committed
+         * @param results    the commit results
+         * @param error      any error that occurred committing
+         * @param start      the {@link System#nanoTime()} the commit started
+         */
+        private void logBatchCommitResult(Map<Integer, Position> positions,
+                                          Map<Integer, Subscriber.CommitResult> results, Throwable error, long start) {
+            boolean success = error == null;
+            if (error != null) {
+                LOG.error("Error committing batch positions={}", positions, error);
+            } else if (results != null) {
+                for (Map.Entry<Integer, Subscriber.CommitResult> entry : results.entrySet()) {
+                    Subscriber.CommitResult result = entry.getValue();
+                    if (!result.isSuccess()) {
+                        success = false;
+                        logCommitFailure(entry.getKey(), positions.get(entry.getKey()), result, null);
+                    }
+                }
+            }
+            metrics.committed(System.nanoTime() - start, success);
         }
 
         /**
@@ -601,4 +1503,19 @@ class CoherenceTopicListenerProcessor
             }
         }
     }
+
+    /**
+     * A channel with an element waiting to be retried or dead-lettered.
+     */
+    private static final class ParkedChannel {
+        /**
+         * The tasks for elements received from the channel while it was parked, in the order received.
+         */
+        private final Deque<Runnable> deferred = new ArrayDeque<>();
+
+        /**
+         * {@code true} while an element from the channel is waiting to be retried or dead-lettered.
+         */
+        private boolean resolving;
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.net.topic.Position;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>An element that a {@link io.micronaut.coherence.annotation.CoherenceTopicListener}
+ * method failed to process, published to the listener's
+ * {@link io.micronaut.coherence.annotation.CoherenceTopicListener#deadLetterTopic() dead-letter topic}.</p>
+ * <p>Applications that use POF serialization must register this class in their POF configuration.</p>
+ *
+ * @since 5.0.3
+ */
+public final class DeadLetter implements ExternalizableLite, PortableObject {
+
+    /**
+     * The value of the element, or its serialized {@link com.tangosol.util.Binary} value
+     * if the value could not be deserialized.
+     */
+    private Object value;
+
+    /**
+     * The name of the topic the element was received from.
+     */
+    private String topicName;
+
+    /**
+     * The channel the element was received from.
+     */
+    private int channel;
+
+    /**
+     * The position of the element in its channel.
+     */
+    private Position position;
+
+    /**
+     * The number of times the listener method was called with the element.
+     */
+    private int attempts;
+
+    /**
+     * The class name of the exception thrown by the listener method.
+     */
+    private String errorType;
+
+    /**
+     * The message of the exception thrown by the listener method.
+     */
+    private String errorMessage;
+
+    /**
+     * The time the element was published to the dead-letter topic, in milliseconds since the epoch.
+     */
+    private long timestamp;
+
+    /**
+     * Default constructor for serialization.
+     */
+    public DeadLetter() {
+    }
+
+    /**
+     * Create a {@link DeadLetter}.
+     *
+     * @param value      the value of the element
+     * @param topicName  the name of the topic the element was received from
+     * @param channel    the channel the element was received from
+     * @param position   the position of the element in its channel
+     * @param attempts   the number of times the listener method was called with the element
+     * @param error      the exception thrown by the listener method
+     */
+    public DeadLetter(Object value, String topicName, int channel, Position position, int attempts, Throwable error) {
+        this.value = value;
+        this.topicName = topicName;
+        this.channel = channel;
+        this.position = position;
+        this.attempts = attempts;
+        this.errorType = error.getClass().getName();
+        this.errorMessage = error.getMessage();
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the value of the element.
+     *
+     * @return the value of the element, or its serialized {@link com.tangosol.util.Binary}
+     *         value if the value could not be deserialized
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the name of the topic the element was received from.
+     *
+     * @return the name of the topic the element was received from
+     */
+    public String getTopicName() {
+        return topicName;
+    }
+
+    /**
+     * Returns the channel the element was received from.
+     *
+     * @return the channel the element was received from
+     */
+    public int getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the position of the element in its channel.
+     *
+     * @return the position of the element in its channel
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of times the listener method was called with the element.
+     *
+     * @return the number of times the listener method was called with the element
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Returns the class name of the exception thrown by the listener method.
+     *
+     * @return the class name of the exception thrown by the listener method
+     */
+    public String getErrorType() {
+        return errorType;
+    }
+
+    /**
+     * Returns the message of the exception thrown by the listener method.
+     *
+     * @return the message of the exception thrown by the listener method
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Returns the time the element was published to the dead-letter topic.
+     *
+     * @return the time the element was published to the dead-letter topic, in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        value = ExternalizableHelper.readObject(in);
+        topicName = ExternalizableHelper.readSafeUTF(in);
+        channel = ExternalizableHelper.readInt(in);
+        position = ExternalizableHelper.readObject(in);
+        attempts = ExternalizableHelper.readInt(in);
+        errorType = ExternalizableHelper.readSafeUTF(in);
+        errorMessage = ExternalizableHelper.readSafeUTF(in);
+        timestamp = ExternalizableHelper.readLong(in);
+    }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeObject(out, value);
+        ExternalizableHelper.writeSafeUTF(out, topicName);
+        ExternalizableHelper.writeInt(out, channel);
+        ExternalizableHelper.writeObject(out, position);
+        ExternalizableHelper.writeInt(out, attempts);
+        ExternalizableHelper.writeSafeUTF(out, errorType);
+        ExternalizableHelper.writeSafeUTF(out, errorMessage);
+        ExternalizableHelper.writeLong(out, timestamp);
+    }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException {
+        value = in.readObject(0);
+        topicName = in.readString(1);
+        channel = in.readInt(2);
+        position = in.readObject(3);
+        attempts = in.readInt(4);
+        errorType = in.readString(5);
+        errorMessage = in.readString(6);
+        timestamp = in.readLong(7);
+    }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException {
+        out.writeObject(0, value);
+        out.writeString(1, topicName);
+        out.writeInt(2, channel);
+        out.writeObject(3, position);
+        out.writeInt(4, attempts);
+        out.writeString(5, errorType);
+        out.writeString(6, errorMessage);
+        out.writeLong(7, timestamp);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DeadLetter that = (DeadLetter) o;
+        return channel == that.channel
+                && attempts == that.attempts
+                && timestamp == that.timestamp
+                && Objects.equals(value, that.value)
+                && Objects.equals(topicName, that.topicName)
+                && Objects.equals(position, that.position)
+                && Objects.equals(errorType, that.errorType)
+                && Objects.equals(errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, topicName, channel, position, attempts, errorType, errorMessage, timestamp);
+    }
+
+    @Override
+    public String toString() {
+        return "DeadLetter{"
+                + "topicName='" + topicName + '\''
+                + ", channel=" + channel
+                + ", position=" + position
+                + ", attempts=" + attempts
+                + ", errorType='" + errorType + '\''
+                + ", errorMessage='" + errorMessage + '\''
+                + ", value=" + value
+                + '}';
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Commits the positions of processed elements for a
+ * {@link io.micronaut.coherence.annotation.CommitStrategy#PIPELINED} subscriber.</p>
+ * <p>Processed positions are coalesced per channel and at most one commit request is
+ * in flight at a time, the next commit sends the latest processed position in each channel.
+ * A position is only committed after the element, and all earlier elements in the channel,
+ * have been processed, so delivery remains at-least-once.</p>
+ * <p>Commit completions are always handled on the executor, and a failed commit is retried
+ * after a bounded exponential backoff, so a failing subscriber never commits in a tight loop.</p>
+ *
+ * @since 5.0.3
+ */
+final class PipelinedCommitter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedCommitter.class);
+
+    /**
+     * The maximum time to wait for outstanding commits when closing.
+     */
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    /**
+     * The delay before retrying the first failed commit.
+     */
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 10;
+
+    /**
+     * The maximum delay before retrying a failed commit.
+     */
+    private static final long MAX_RETRY_DELAY_MILLIS = 5000;
+
+    /**
+     * The subscriber to commit positions for.
+     */
+    private final Subscriber<?> subscriber;
+
+    /**
+     * The metrics recorded for the subscriber.
+     */
+    private final CoherenceMetrics.SubscriberMetrics metrics;
+
+    /**
+     * The executor that handles commit completions and retries.
+     */
+    private final Executor executor;
+
+    /**
+     * The processed positions waiting to be committed, keyed by channel.
+     */
+    private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+
+    /**
+     * A flag indicating whether a commit request is in flight.
+     */
+    private final AtomicBoolean committing = new AtomicBoolean();
+
+    /**
+     * The number of processed elements that have not been committed.
+     */
+    private final AtomicLong commitLag = new AtomicLong();
+
+    /**
+     * The commit request currently in flight.
+     */
+    private volatile CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+
+    /**
+     * The number of consecutive failed commit requests, only accessed while a commit is in flight.
+     */
+    private int failures;
+
+    /**
+     * Create a {@link PipelinedCommitter}.
+     *
+     * @param subscriber  the subscriber to commit positions for
+     * @param metrics     the metrics recorded for the subscriber
+     * @param executor    the executor that handles commit completions and retries
+     */
+    PipelinedCommitter(Subscriber<?> subscriber, CoherenceMetrics.SubscriberMetrics metrics, Executor executor) {
+        this.subscriber = subscriber;
+        this.metrics = metrics;
+        this.executor = executor;
+        metrics.commitLag(this::getCommitLag);
+    }
+
+    /**
+     * Record that elements in a channel have been processed up to and including a position.
+     *
+     * @param channel   the channel
+     * @param position  the position of the last processed element in the channel
+     * @param count     the number of elements processed
+     */
+    void processed(int channel, Position position, int count) {
+        commitLag.addAndGet(count);
+        pending.merge(channel, new Pending(position, count), Pending::merge);
+        flush();
+    }
+
+    /**
+     * Returns the number of processed elements that have not yet been committed.
+     *
+     * @return the number of processed elements that have not yet been committed
+     */
+    long getCommitLag() {
+        return commitLag.get();
+    }
+
+    /**
+     * Commit any outstanding positions, waiting for the commits to complete.
+     */
+    void close() {
+        try {
+            inFlight.get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            flush();
+            inFlight.get(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.error("Error committing outstanding positions {}", pending, e);
+        }
+    }
+
+    /**
+     * Send a commit request for the pending positions, unless a commit request is already in flight.
+     */
+    private void flush() {
+        if (pending.isEmpty() || !committing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Map<Integer, Pending> batch = new HashMap<>();
+        Map<Integer, Position> positions = new HashMap<>();
+        for (Integer channel : pending.keySet()) {
+            Pending p = pending.remove(channel);
+            if (p != null) {
+                batch.put(channel, p);
+                positions.put(channel, p.position);
+            }
+        }
+
+        if (positions.isEmpty()) {
+            committing.set(false);
+            return;
+        }
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight = done;
+        long start = System.nanoTime();
+        CompletableFuture<Map<Integer, Subscriber.CommitResult>> future;
+        try {
+            future = subscriber.commitAsync(positions);
+        } catch (Throwable t) {
+            future = CompletableFuture.failedFuture(t);
+        }
+        // never handle the completion inline, a synchronously completed future would re-enter flush()
+        future.handleAsync((results, error) -> {
+            try {
+                onCommitted(batch, results, error, start);
+            } finally {
+                done.complete(null);
+            }
+            return null;
+        }, executor).exceptionally(t -> {
+            LOG.error("Unable to handle commit of positions {}", batch, t);
+            committing.set(false);
+            done.complete(null);
+            return null;
+        });
+    }
+
+    /**
+     * Handle the completion of a commit request.
+     * <p>If the request failed the positions are returned to the pending positions
+     * and are committed with the next request, which is sent after a backoff delay. Positions that were rejected, for example
+     * because the channel is no longer owned by this subscriber, are not retried as
+     * their elements will be redelivered.</p>
+     *
+     * @param batch    the positions that were committed
+     * @param results  the commit results
+     * @param error    any error that occurred committing
+     * @param start    the {@link System#nanoTime()} the commit request was sent
+     */
+    private void onCommitted(Map<Integer, Pending> batch, Map<Integer, Subscriber.CommitResult> results,
+                             Throwable error, long start) {
+        try {
+            metrics.committed(System.nanoTime() - start, error == null
+                    && (results == null || results.values().stream().allMatch(Subscriber.CommitResult::isSuccess)));
+            if (error != null) {
+                if (subscriber.isActive()) {
+                    LOG.error("Error committing positions {}, positions will be retried", batch, error);
+                    batch.forEach((channel, p) -> pending.merge(channel, p, Pending::merge));
+                    if (scheduleRetry()) {
+                        // the commit flag is released when the retry runs
+                        return;
+                    }
+                } else {
+                    LOG.error("Error committing positions {}", batch, error);
+                    batch.values().forEach(p -> commitLag.addAndGet(-p.count));
+                }
+                committing.set(false);
+                return;
+            }
+            failures = 0;
+            batch.forEach((channel, p) -> {
+                Subscriber.CommitResult result = results == null ? null : results.get(channel);
+                if (result != null && !result.isSuccess()) {
+                    CoherenceTopicListenerProcessor.logCommitFailure(channel, p.position, result, null);
+                }
+                commitLag.addAndGet(-p.count);
+            });
+            committing.set(false);
+        } catch (Throwable t) {
+            committing.set(false);
+            throw t;
+        }
+        flush();
+    }
+
+    /**
+     * Schedule the next commit request after a failed request, with a delay that doubles for each
+     * consecutive failure up to {@link #MAX_RETRY_DELAY_MILLIS}.
+     *
+     * @return {@code true} if the retry was scheduled
+     */
+    private boolean scheduleRetry() {
+        long delay = Math.min(MAX_RETRY_DELAY_MILLIS, INITIAL_RETRY_DELAY_MILLIS << Math.min(failures++, 16));
+        CompletableFuture<Void> retry = new CompletableFuture<>();
+        inFlight = retry;
+        try {
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                committing.set(false);
+                try {
+                    flush();
+                } finally {
+                    retry.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.error("Unable to schedule retry of pending positions {}", pending, e);
+            retry.complete(null);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The latest processed position in a channel and the number of elements it covers.
+     *
+     * @param position  the latest processed position
+     * @param count     the number of processed elements
+     */
+    private record Pending(Position position, int count) {
+        /**
+         * Merge two pending commits for the same channel.
+         *
+         * @param a  the first pending commit
+         * @param b  the second pending commit
+         *
+         * @return the pending commit with the latest position covering the elements of both
+         */
+        static Pending merge(Pending a, Pending b) {
+            Position position = a.position.compareTo(b.position) >= 0 ? a.position : b.position;
+            return new Pending(position, a.count + b.count);
+        }
+    }
+}
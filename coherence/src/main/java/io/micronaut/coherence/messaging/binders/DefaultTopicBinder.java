@@ -88,7 +88,7 @@ public class DefaultTopicBinder<T> implements ElementBinder<T> {
             Optional<Object> opt = Optional.of(f.apply(element));
             return () -> (Optional<T>) opt;
         } else if (argument.getType() == Subscriber.Element.class) {
-            Optional<? extends Subscriber.Element<?>> opt = Optional.of(element);
+            Optional<? extends Subscriber.Element<?>> opt = Optional.of(ElementBinder.unwrap(element));
             //noinspection unchecked
             return () -> (Optional<T>) opt;
         } else if (argument.getType() == Binary.class) {
@@ -96,12 +96,26 @@ public class DefaultTopicBinder<T> implements ElementBinder<T> {
             //noinspection unchecked
             return () -> (Optional<T>) opt;
         } else {
-            Object value = element.getValue();
+            Object value = ElementBinder.value(element);
             Optional<T> converted = ConversionService.SHARED.convert(value, context);
             return () -> converted;
         }
     }
 
+    @Override
+    public Function<Subscriber.Element<?>, Object> bindingFunction(Argument<T> argument) {
+        Function<Subscriber.Element<?>, Object> f = defaultResolver.get(argument);
+        if (f != null) {
+            return f;
+        } else if (argument.getType() == Subscriber.Element.class) {
+            return ElementBinder::unwrap;
+        } else if (argument.getType() == Binary.class) {
+            return Subscriber.Element::getBinaryValue;
+        } else {
+            return ElementBinder.valueFunction(argument, ElementBinder::value);
+        }
+    }
+
     /**
      * Returns the singleton {@link DefaultTopicBinder} instance.
      * @param <T> the argument type
@@ -16,7 +16,18 @@
 package io.micronaut.coherence.messaging.binders;
 
 import com.tangosol.net.topic.Subscriber;
+import io.micronaut.coherence.tracing.TracedMessage;
 import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.bind.exceptions.UnsatisfiedArgumentException;
+import io.micronaut.core.convert.ArgumentConversionContext;
+import io.micronaut.core.convert.ConversionContext;
+import io.micronaut.core.convert.ConversionError;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.exceptions.ConversionErrorException;
+import io.micronaut.core.type.Argument;
+
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Interface for binders that bind method arguments from a {@link Subscriber.Element}.
@@ -27,4 +38,106 @@ import io.micronaut.core.bind.ArgumentBinder;
  */
 @SuppressWarnings("WeakerAccess")
 public interface ElementBinder<T> extends ArgumentBinder<T, Subscriber.Element<?>> {
+    /**
+     * <p>Create a function that binds the specified argument from a {@link Subscriber.Element}.</p>
+     * <p>The function is created once, when the listener method is discovered, and is applied
+     * to every element received, so binders should override this method to avoid allocating
+     * a conversion context and binding result for each element.</p>
+     *
+     * @param argument  the argument to bind
+     *
+     * @return a function that binds the specified argument from a {@link Subscriber.Element}
+     *
+     * @since 5.0.3
+     */
+    default Function<Subscriber.Element<?>, Object> bindingFunction(Argument<T> argument) {
+        return element -> {
+            ArgumentConversionContext<T> context = ConversionContext.of(argument);
+            BindingResult<T> result = bind(context, element);
+            if (result.isPresentAndSatisfied()) {
+                return result.get();
+            }
+            return unsatisfied(argument, context);
+        };
+    }
+
+    /**
+     * Returns the value of an element, unwrapping any {@link TracedMessage}.
+     *
+     * @param element  the element
+     *
+     * @return the value of the element
+     *
+     * @since 5.0.3
+     */
+    static Object value(Subscriber.Element<?> element) {
+        return TracedMessage.unwrap(element.getValue());
+    }
+
+    /**
+     * Returns an element whose value is unwrapped from any {@link TracedMessage}.
+     *
+     * @param element  the element
+     * @param <V>      the value type
+     *
+     * @return the element if its value is not a {@link TracedMessage}, otherwise an element
+     *         that delegates to it and returns the unwrapped value
+     *
+     * @since 5.0.3
+     */
+    static <V> Subscriber.Element<V> unwrap(Subscriber.Element<V> element) {
+        return element.getValue() instanceof TracedMessage ? new UnwrappedElement<>(element) : element;
+    }
+
+    /**
+     * Returns the value to use for an argument that could not be bound.
+     *
+     * @param argument  the argument that could not be bound
+     * @param context   the conversion context used to bind the argument
+     * @param <T>       the argument type
+     *
+     * @return {@code null} if the argument is nullable
+     *
+     * @throws ConversionErrorException if the argument could not be converted
+     * @throws UnsatisfiedArgumentException if the argument is not nullable
+     *
+     * @since 5.0.3
+     */
+    static <T> Object unsatisfied(Argument<T> argument, ArgumentConversionContext<T> context) {
+        Optional<ConversionError> error = context.getLastError();
+        if (error.isPresent()) {
+            throw new ConversionErrorException(argument, error.get());
+        }
+        if (argument.isNullable()) {
+            return null;
+        }
+        throw new UnsatisfiedArgumentException(argument);
+    }
+
+    /**
+     * <p>Create a function that returns a value as the specified argument.</p>
+     * <p>Values that are already an instance of the argument type are returned as they are,
+     * other values are converted using the shared conversion service.</p>
+     *
+     * @param argument   the argument to bind
+     * @param extractor  the function that extracts the value from a {@link Subscriber.Element}
+     * @param <T>        the argument type
+     *
+     * @return a function that returns a value as the specified argument
+     *
+     * @since 5.0.3
+     */
+    static <T> Function<Subscriber.Element<?>, Object> valueFunction(Argument<T> argument,
+                                                                      Function<Subscriber.Element<?>, Object> extractor) {
+        Class<T> type = argument.getWrapperType();
+        return element -> {
+            Object value = extractor.apply(element);
+            if (value != null && type.isInstance(value)) {
+                return value;
+            }
+            ArgumentConversionContext<T> context = ConversionContext.of(argument);
+            Optional<T> converted = ConversionService.SHARED.convert(value, context);
+            return converted.isPresent() ? converted.get() : unsatisfied(argument, context);
+        };
+    }
 }
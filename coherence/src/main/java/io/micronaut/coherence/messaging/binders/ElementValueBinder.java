@@ -19,10 +19,12 @@ import com.tangosol.net.topic.Subscriber;
 import com.tangosol.util.Binary;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
 import io.micronaut.messaging.annotation.MessageBody;
 import jakarta.inject.Singleton;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * The default binder that binds the value of an {@link Subscriber.Element element}.
@@ -43,9 +45,17 @@ public class ElementValueBinder<T> implements AnnotatedElementBinder<MessageBody
     public BindingResult<T> bind(ArgumentConversionContext<T> context, Subscriber.Element<?> element) {
         Object value = Binary.class.equals(context.getArgument().getType())
                 ? element.getBinaryValue()
-                : element.getValue();
+                : ElementBinder.value(element);
 
         Optional<T> converted = ConversionService.SHARED.convert(value, context);
         return () -> converted;
     }
+
+    @Override
+    public Function<Subscriber.Element<?>, Object> bindingFunction(Argument<T> argument) {
+        if (Binary.class.equals(argument.getType())) {
+            return Subscriber.Element::getBinaryValue;
+        }
+        return ElementBinder.valueFunction(argument, ElementBinder::value);
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging.binders;
+
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+import com.tangosol.util.Binary;
+import io.micronaut.coherence.tracing.TracedMessage;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link Subscriber.Element} whose value is unwrapped from the {@link TracedMessage}
+ * of the element it delegates to.
+ *
+ * @param <V> the value type
+ * @since 5.0.3
+ */
+final class UnwrappedElement<V> implements Subscriber.Element<V> {
+
+    /**
+     * The element received from the subscriber.
+     */
+    private final Subscriber.Element<V> element;
+
+    /**
+     * Create an {@link UnwrappedElement}.
+     *
+     * @param element  the element received from the subscriber
+     */
+    UnwrappedElement(Subscriber.Element<V> element) {
+        this.element = element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getValue() {
+        return (V) TracedMessage.unwrap(element.getValue());
+    }
+
+    /**
+     * Returns the serialized value of the element, which is the serialized {@link TracedMessage}.
+     *
+     * @return the serialized value of the element
+     */
+    @Override
+    public Binary getBinaryValue() {
+        return element.getBinaryValue();
+    }
+
+    @Override
+    public int getChannel() {
+        return element.getChannel();
+    }
+
+    @Override
+    public Position getPosition() {
+        return element.getPosition();
+    }
+
+    @Override
+    public Instant getTimestamp() {
+        return element.getTimestamp();
+    }
+
+    @Override
+    public Subscriber.CommitResult commit() {
+        return element.commit();
+    }
+
+    @Override
+    public CompletableFuture<Subscriber.CommitResult> commitAsync() {
+        return element.commitAsync();
+    }
+
+    @Override
+    public String toString() {
+        return "UnwrappedElement{element=" + element + '}';
+    }
+}
@@ -18,6 +18,8 @@ package io.micronaut.coherence.messaging.exceptions;
 import com.tangosol.net.topic.Subscriber;
 import io.micronaut.messaging.exceptions.MessageListenerException;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -41,6 +43,11 @@ public class CoherenceSubscriberException extends MessageListenerException {
      */
     private final Subscriber.Element<?> element;
 
+    /**
+     * The batch of elements being processed.
+     */
+    private final List<? extends Subscriber.Element<?>> elements;
+
     /**
      * Creates a new exception.
      *
@@ -54,6 +61,7 @@ public class CoherenceSubscriberException extends MessageListenerException {
         this.listener = listener;
         this.kafkaConsumer = kafkaConsumer;
         this.element = element;
+        this.elements = element == null ? Collections.emptyList() : Collections.singletonList(element);
     }
 
     /**
@@ -70,6 +78,7 @@ public class CoherenceSubscriberException extends MessageListenerException {
         this.listener = listener;
         this.kafkaConsumer = kafkaConsumer;
         this.element = element;
+        this.elements = element == null ? Collections.emptyList() : Collections.singletonList(element);
     }
 
     /**
@@ -85,6 +94,23 @@ public class CoherenceSubscriberException extends MessageListenerException {
         this.listener = listener;
         this.kafkaConsumer = kafkaConsumer;
         this.element = element;
+        this.elements = element == null ? Collections.emptyList() : Collections.singletonList(element);
+    }
+
+    /**
+     * Creates a new exception for an error processing a batch of elements.
+     *
+     * @param cause The cause
+     * @param listener The listener
+     * @param kafkaConsumer The consumer
+     * @param elements The batch of elements being processed
+     */
+    public CoherenceSubscriberException(Throwable cause, Object listener, Subscriber<?> kafkaConsumer, List<? extends Subscriber.Element<?>> elements) {
+        super(cause.getMessage(), cause);
+        this.listener = listener;
+        this.kafkaConsumer = kafkaConsumer;
+        this.elements = elements == null ? Collections.emptyList() : Collections.unmodifiableList(elements);
+        this.element = this.elements.isEmpty() ? null : this.elements.get(0);
     }
 
     /**
@@ -107,4 +133,12 @@ public class CoherenceSubscriberException extends MessageListenerException {
     public Optional<Subscriber.Element<?>> getElement() {
         return Optional.ofNullable(element);
     }
+
+    /**
+     * @return The elements that were being processed that caused the error, which will be
+     *         a single element unless the listener is receiving batches of elements
+     */
+    public List<? extends Subscriber.Element<?>> getElements() {
+        return elements;
+    }
 }
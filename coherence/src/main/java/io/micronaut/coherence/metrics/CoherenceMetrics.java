@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * <p>Records metrics for topic subscribers, topic publishers and event listeners.</p>
+ * <p>Each subscriber, publisher and listener obtains a handle once and records its
+ * measurements through the handle, so implementations can resolve their meters up front
+ * rather than for every message or event. Handles are only ever tagged with topic names,
+ * subscriber groups and listener method names, never with keys, channels or values.</p>
+ *
+ * @since 5.0.3
+ */
+public interface CoherenceMetrics {
+
+    /**
+     * A {@link CoherenceMetrics} that records nothing.
+     */
+    CoherenceMetrics NONE = new CoherenceMetrics() {
+    };
+
+    /**
+     * Returns the handle to record metrics for a topic subscriber.
+     *
+     * @param topicName  the name of the topic
+     * @param group      the subscriber group, or {@code null} for an anonymous subscriber
+     * @param backlog    supplies the number of messages remaining to be received by the subscriber
+     *
+     * @return the handle to record metrics for the subscriber
+     */
+    default SubscriberMetrics subscriber(String topicName, String group, LongSupplier backlog) {
+        return SubscriberMetrics.NONE;
+    }
+
+    /**
+     * Returns the handle to record metrics for publishing to a topic.
+     *
+     * @param topicName  the name of the topic
+     *
+     * @return the handle to record metrics for publishing to the topic
+     */
+    default PublisherMetrics publisher(String topicName) {
+        return PublisherMetrics.NONE;
+    }
+
+    /**
+     * Returns the handle to record metrics for an event listener method.
+     *
+     * @param listenerName  the name of the listener, for example {@code PersonListener.onInsert}
+     *
+     * @return the handle to record metrics for the listener
+     */
+    default ListenerMetrics listener(String listenerName) {
+        return ListenerMetrics.NONE;
+    }
+
+    /**
+     * Records metrics for a topic subscriber.
+     */
+    interface SubscriberMetrics {
+        /**
+         * A {@link SubscriberMetrics} that records nothing.
+         */
+        SubscriberMetrics NONE = new SubscriberMetrics() {
+        };
+
+        /**
+         * Record that messages were received.
+         *
+         * @param count         the number of messages received
+         * @param latencyNanos  the time in nanoseconds from requesting the messages to receiving them
+         */
+        default void received(int count, long latencyNanos) {
+        }
+
+        /**
+         * Record that the listener method processed messages.
+         *
+         * @param count     the number of messages processed
+         * @param nanos     the time in nanoseconds taken to process the messages
+         * @param success   {@code true} if the messages were processed without an error
+         */
+        default void processed(int count, long nanos, boolean success) {
+        }
+
+        /**
+         * Record that positions were committed.
+         *
+         * @param nanos    the time in nanoseconds taken to commit
+         * @param success  {@code true} if the commit succeeded
+         */
+        default void committed(long nanos, boolean success) {
+        }
+
+        /**
+         * Register the commit lag of a subscriber that commits asynchronously.
+         *
+         * @param commitLag  supplies the number of processed messages that have not yet been committed
+         */
+        default void commitLag(LongSupplier commitLag) {
+        }
+
+        /**
+         * Remove any meters registered for the subscriber.
+         */
+        default void close() {
+        }
+    }
+
+    /**
+     * Records metrics for publishing to a topic.
+     */
+    interface PublisherMetrics {
+        /**
+         * A {@link PublisherMetrics} that records nothing.
+         */
+        PublisherMetrics NONE = new PublisherMetrics() {
+        };
+
+        /**
+         * Record that a message was published.
+         *
+         * @param nanos    the time in nanoseconds from publishing the message to the publish completing
+         * @param success  {@code true} if the message was published without an error
+         */
+        default void published(long nanos, boolean success) {
+        }
+    }
+
+    /**
+     * Records metrics for an event listener method.
+     */
+    interface ListenerMetrics {
+        /**
+         * A {@link ListenerMetrics} that records nothing.
+         */
+        ListenerMetrics NONE = new ListenerMetrics() {
+        };
+
+        /**
+         * Record that events were dispatched to the listener method.
+         *
+         * @param count    the number of events passed to the method
+         * @param nanos    the time in nanoseconds taken by the method
+         * @param success  {@code true} if the method completed without an error
+         */
+        default void dispatched(int count, long nanos, boolean success) {
+        }
+    }
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micronaut.coherence.event.AsyncEventDispatcher;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * <p>A {@link CoherenceMetrics} implementation that records metrics with Micrometer.</p>
+ * <p>Enabled when a Micrometer {@link MeterRegistry} bean is available, unless the
+ * {@value #ENABLED} property is {@code false}.</p>
+ * <p>Meters are tagged with the topic name and subscriber group, or the listener name,
+ * and an {@code outcome} of either {@code success} or {@code error}. Topics that publishers
+ * resolve at runtime, for example from a {@link io.micronaut.coherence.annotation.Topic}
+ * method argument, are limited to {@value #PREFIX}{@code .max-topics} distinct tags, further
+ * topics are tagged as {@value #OTHER_TOPIC}.</p>
+ *
+ * @since 5.0.3
+ */
+@Singleton
+@Requires(classes = MeterRegistry.class)
+@Requires(beans = MeterRegistry.class)
+@Requires(property = MicrometerCoherenceMetrics.ENABLED, notEquals = StringUtils.FALSE)
+public class MicrometerCoherenceMetrics implements CoherenceMetrics {
+
+    /**
+     * The prefix of the metrics configuration properties.
+     */
+    public static final String PREFIX = "coherence.metrics";
+
+    /**
+     * The property used to disable Coherence metrics.
+     */
+    public static final String ENABLED = PREFIX + ".enabled";
+
+    /**
+     * The topic tag used once the maximum number of distinct published topics is reached.
+     */
+    public static final String OTHER_TOPIC = "other";
+
+    /**
+     * The default maximum number of distinct published topic tags.
+     */
+    private static final int DEFAULT_MAX_TOPICS = 100;
+
+    /**
+     * The registry to register meters with.
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * The maximum number of distinct published topic tags.
+     */
+    private final int maxTopics;
+
+    /**
+     * The handles for each published topic tag.
+     */
+    private final Map<String, PublisherMetrics> publishers = new ConcurrentHashMap<>();
+
+    /**
+     * The published topic names that have their own tag.
+     */
+    private final Set<String> publishedTopics = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The subscriber meters, each shared by the subscribers with the same tags.
+     */
+    private final Map<Tags, SubscriberMeters> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Create a {@link MicrometerCoherenceMetrics}.
+     *
+     * @param registry    the registry to register meters with
+     * @param maxTopics   the maximum number of distinct published topic tags
+     * @param dispatcher  the dispatcher of asynchronous event observers, or {@code null}
+     */
+    @Inject
+    MicrometerCoherenceMetrics(MeterRegistry registry,
+                               @Nullable @Property(name = PREFIX + ".max-topics") Integer maxTopics,
+                               @Nullable AsyncEventDispatcher dispatcher) {
+        this.registry = registry;
+        this.maxTopics = maxTopics == null || maxTopics < 0 ? DEFAULT_MAX_TOPICS : maxTopics;
+        if (dispatcher != null) {
+            bindDispatcher(dispatcher);
+        }
+    }
+
+    /**
+     * Create a {@link MicrometerCoherenceMetrics}.
+     *
+     * @param registry   the registry to register meters with
+     * @param maxTopics  the maximum number of distinct published topic tags
+     */
+    MicrometerCoherenceMetrics(MeterRegistry registry, int maxTopics) {
+        this(registry, maxTopics, null);
+    }
+
+    @Override
+    public SubscriberMetrics subscriber(String topicName, String group, LongSupplier backlog) {
+        Tags tags = Tags.of("topic", topicName, "group", group == null ? "anonymous" : group);
+        SubscriberMeters meters = subscribers.compute(tags, (key, shared) -> {
+            SubscriberMeters m = shared == null ? new SubscriberMeters(key) : shared;
+            m.references++;
+            m.backlog.add(backlog);
+            return m;
+        });
+        return new MicrometerSubscriberMetrics(meters, backlog);
+    }
+
+    @Override
+    public PublisherMetrics publisher(String topicName) {
+        PublisherMetrics metrics = publishers.get(topicName);
+        if (metrics == null) {
+            String tag = topicTag(topicName);
+            metrics = publishers.computeIfAbsent(tag, MicrometerPublisherMetrics::new);
+        }
+        return metrics;
+    }
+
+    @Override
+    public ListenerMetrics listener(String listenerName) {
+        return new MicrometerListenerMetrics(listenerName);
+    }
+
+    /**
+     * Returns the tag to use for a published topic.
+     *
+     * @param topicName  the name of the topic
+     *
+     * @return the topic name, or {@link #OTHER_TOPIC} if the maximum number of topic tags has been reached
+     */
+    private String topicTag(String topicName) {
+        if (publishedTopics.contains(topicName)) {
+            return topicName;
+        }
+        if (publishedTopics.size() >= maxTopics) {
+            return OTHER_TOPIC;
+        }
+        synchronized (publishedTopics) {
+            if (publishedTopics.size() < maxTopics) {
+                publishedTopics.add(topicName);
+                return topicName;
+            }
+        }
+        return OTHER_TOPIC;
+    }
+
+    /**
+     * Register meters for the dispatcher of asynchronous event observers.
+     *
+     * @param dispatcher  the dispatcher
+     */
+    private void bindDispatcher(AsyncEventDispatcher dispatcher) {
+        Gauge.builder("coherence.event.dispatcher.queue.depth", dispatcher, AsyncEventDispatcher::getQueueDepth)
+                .description("The number of events waiting to be dispatched to asynchronous observers")
+                .strongReference(true)
+                .register(registry);
+        FunctionCounter.builder("coherence.event.dispatcher.errors", dispatcher, AsyncEventDispatcher::getErrorCount)
+                .description("The number of events whose asynchronous observer threw an exception")
+                .register(registry);
+        FunctionCounter.builder("coherence.event.dispatcher.rejected", dispatcher, AsyncEventDispatcher::getRejectedCount)
+                .description("The number of events discarded by the dispatcher")
+                .register(registry);
+        FunctionTimer.builder("coherence.event.dispatcher.latency", dispatcher,
+                        AsyncEventDispatcher::getDispatchedCount,
+                        AsyncEventDispatcher::getTotalLatencyNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("The time from events being submitted to their asynchronous observer completing")
+                .register(registry);
+    }
+
+    /**
+     * Returns the {@code outcome} tag value.
+     *
+     * @param success  {@code true} if the operation succeeded
+     *
+     * @return the {@code outcome} tag value
+     */
+    private static String outcome(boolean success) {
+        return success ? "success" : "error";
+    }
+
+    /**
+     * The handle of a topic subscriber, which records to the meters it shares with the
+     * other subscribers of the same topic and group.
+     */
+    private final class MicrometerSubscriberMetrics implements SubscriberMetrics {
+        private final SubscriberMeters meters;
+        private final LongSupplier backlog;
+        private volatile LongSupplier commitLag;
+        // only accessed while holding the entry of the shared meters
+        private boolean closed;
+
+        MicrometerSubscriberMetrics(SubscriberMeters meters, LongSupplier backlog) {
+            this.meters = meters;
+            this.backlog = backlog;
+        }
+
+        @Override
+        public void received(int count, long latencyNanos) {
+            meters.receive.record(latencyNanos, TimeUnit.NANOSECONDS);
+            meters.received.increment(count);
+        }
+
+        @Override
+        public void processed(int count, long nanos, boolean success) {
+            (success ? meters.processSuccess : meters.processError).record(nanos, TimeUnit.NANOSECONDS);
+            (success ? meters.processedSuccess : meters.processedError).increment(count);
+        }
+
+        @Override
+        public void committed(long nanos, boolean success) {
+            (success ? meters.commitSuccess : meters.commitError).record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public void commitLag(LongSupplier commitLag) {
+            this.commitLag = commitLag;
+            subscribers.computeIfPresent(meters.tags, (tags, shared) -> {
+                if (shared == meters && !closed) {
+                    shared.commitLag.add(commitLag);
+                }
+                return shared;
+            });
+        }
+
+        @Override
+        public void close() {
+            subscribers.computeIfPresent(meters.tags, (tags, shared) -> {
+                if (shared != meters || closed) {
+                    return shared;
+                }
+                closed = true;
+                shared.backlog.remove(backlog);
+                LongSupplier lag = commitLag;
+                if (lag != null) {
+                    shared.commitLag.remove(lag);
+                }
+                return --shared.references == 0 ? shared.remove() : shared;
+            });
+        }
+    }
+
+    /**
+     * The meters shared by the subscribers with the same tags, for example several
+     * subscribers in the same group, which are removed when the last of them closes.
+     * Only accessed while holding the entry for the tags in {@link #subscribers}.
+     */
+    private final class SubscriberMeters {
+        private final Tags tags;
+        private final Timer receive;
+        private final Counter received;
+        private final Timer processSuccess;
+        private final Timer processError;
+        private final Counter processedSuccess;
+        private final Counter processedError;
+        private final Timer commitSuccess;
+        private final Timer commitError;
+        private final SubscriberGauge backlog;
+        private final SubscriberGauge commitLag;
+        private int references;
+
+        SubscriberMeters(Tags tags) {
+            this.tags = tags;
+            this.receive = Timer.builder("coherence.topic.subscriber.receive")
+                    .description("The time from requesting messages to receiving them")
+                    .tags(tags)
+                    .register(registry);
+            this.received = Counter.builder("coherence.topic.subscriber.received")
+                    .description("The number of messages received")
+                    .tags(tags)
+                    .register(registry);
+            this.processSuccess = processTimer(true);
+            this.processError = processTimer(false);
+            this.processedSuccess = processedCounter(true);
+            this.processedError = processedCounter(false);
+            this.commitSuccess = commitTimer(true);
+            this.commitError = commitTimer(false);
+            this.backlog = new SubscriberGauge("coherence.topic.subscriber.backlog",
+                    "The number of messages remaining to be received", tags);
+            this.commitLag = new SubscriberGauge("coherence.topic.subscriber.commit.lag",
+                    "The number of processed messages not yet committed", tags);
+        }
+
+        private Timer processTimer(boolean success) {
+            return Timer.builder("coherence.topic.subscriber.process")
+                    .description("The time taken by the listener method to process messages")
+                    .tags(tags)
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+        }
+
+        private Counter processedCounter(boolean success) {
+            return Counter.builder("coherence.topic.subscriber.processed")
+                    .description("The number of messages processed by the listener method")
+                    .tags(tags)
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+        }
+
+        private Timer commitTimer(boolean success) {
+            return Timer.builder("coherence.topic.subscriber.commit")
+                    .description("The time taken to commit processed messages")
+                    .tags(tags)
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+        }
+
+        /**
+         * Remove the meters from the registry.
+         *
+         * @return always {@code null}, so the meters are removed from {@link #subscribers}
+         */
+        private SubscriberMeters remove() {
+            for (Meter meter : List.of(receive, received, processSuccess, processError, processedSuccess,
+                    processedError, commitSuccess, commitError)) {
+                registry.remove(meter);
+            }
+            backlog.remove();
+            commitLag.remove();
+            return null;
+        }
+    }
+
+    /**
+     * A gauge that reports the sum of the values of the subscribers with the same tags.
+     * The gauge is registered while at least one subscriber supplies a value.
+     */
+    private final class SubscriberGauge {
+        private final List<LongSupplier> suppliers = new CopyOnWriteArrayList<>();
+        private final String name;
+        private final String description;
+        private final Tags tags;
+        private Gauge gauge;
+
+        SubscriberGauge(String name, String description, Tags tags) {
+            this.name = name;
+            this.description = description;
+            this.tags = tags;
+        }
+
+        private void add(LongSupplier supplier) {
+            suppliers.add(supplier);
+            if (gauge == null) {
+                gauge = Gauge.builder(name, this, SubscriberGauge::sum)
+                        .description(description)
+                        .tags(tags)
+                        .strongReference(true)
+                        .register(registry);
+            }
+        }
+
+        private void remove(LongSupplier supplier) {
+            suppliers.remove(supplier);
+            if (suppliers.isEmpty()) {
+                remove();
+            }
+        }
+
+        private void remove() {
+            if (gauge != null) {
+                registry.remove(gauge);
+                gauge = null;
+            }
+        }
+
+        private double sum() {
+            long total = 0;
+            for (LongSupplier supplier : suppliers) {
+                total += supplier.getAsLong();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * The Micrometer meters of a published topic.
+     */
+    private final class MicrometerPublisherMetrics implements PublisherMetrics {
+        private final Timer publishSuccess;
+        private final Timer publishError;
+
+        MicrometerPublisherMetrics(String topicTag) {
+            this.publishSuccess = publishTimer(topicTag, true);
+            this.publishError = publishTimer(topicTag, false);
+        }
+
+        private Timer publishTimer(String topicTag, boolean success) {
+            return Timer.builder("coherence.topic.publisher.publish")
+                    .description("The time from publishing a message to the publish completing")
+                    .tag("topic", topicTag)
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+        }
+
+        @Override
+        public void published(long nanos, boolean success) {
+            (success ? publishSuccess : publishError).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The Micrometer meters of an event listener method.
+     */
+    private final class MicrometerListenerMetrics implements ListenerMetrics {
+        private final Counter events;
+        private final Timer dispatchSuccess;
+        private final Timer dispatchError;
+
+        MicrometerListenerMetrics(String listenerName) {
+            this.events = Counter.builder("coherence.listener.events")
+                    .description("The number of events passed to the listener method")
+                    .tag("listener", listenerName)
+                    .register(registry);
+            this.dispatchSuccess = dispatchTimer(listenerName, true);
+            this.dispatchError = dispatchTimer(listenerName, false);
+        }
+
+        private Timer dispatchTimer(String listenerName, boolean success) {
+            return Timer.builder("coherence.listener.dispatch")
+                    .description("The time taken by the listener method to handle events")
+                    .tag("listener", listenerName)
+                    .tag("outcome", outcome(success))
+                    .register(registry);
+        }
+
+        @Override
+        public void dispatched(int count, long nanos, boolean success) {
+            events.increment(count);
+            (success ? dispatchSuccess : dispatchError).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
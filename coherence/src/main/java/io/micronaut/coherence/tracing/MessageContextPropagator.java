@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.tracing;
+
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Propagates trace context from {@link io.micronaut.coherence.annotation.CoherencePublisher}
+ * methods to {@link io.micronaut.coherence.annotation.CoherenceTopicListener} methods.</p>
+ * <p>When a propagator bean is present, messages published while there is an active trace
+ * context are wrapped in a {@link TracedMessage} that carries the context as headers, and the
+ * context is restored while the listener method processes the message.</p>
+ *
+ * @since 5.0.3
+ */
+public interface MessageContextPropagator {
+
+    /**
+     * Returns the headers that carry the current trace context.
+     *
+     * @return the headers that carry the current trace context, or {@code null} if there is
+     *         no active trace context
+     */
+    @Nullable
+    Map<String, String> currentHeaders();
+
+    /**
+     * Restore the trace context of a message while it is processed.
+     *
+     * @param topicName  the name of the topic the message was received from
+     * @param headers    the headers of the message, or {@code null} if the message has no headers
+     *
+     * @return the scope of the restored context, which must be closed when processing completes
+     */
+    default Scope restore(String topicName, @Nullable Map<String, String> headers) {
+        return headers == null ? Scope.NONE : restore(topicName, Collections.singletonList(headers));
+    }
+
+    /**
+     * Restore the trace context of a batch of messages while they are processed.
+     *
+     * @param topicName  the name of the topic the messages were received from
+     * @param headers    the headers of each message, entries are {@code null} for messages without headers
+     *
+     * @return the scope of the restored context, which must be closed when processing completes
+     */
+    Scope restore(String topicName, List<Map<String, String>> headers);
+
+    /**
+     * The scope of a restored trace context.
+     */
+    @FunctionalInterface
+    interface Scope {
+        /**
+         * A {@link Scope} that does nothing.
+         */
+        Scope NONE = error -> {
+        };
+
+        /**
+         * Close the scope when processing completes.
+         *
+         * @param error  the error that occurred processing, or {@code null} if processing succeeded
+         */
+        void close(@Nullable Throwable error);
+    }
+}
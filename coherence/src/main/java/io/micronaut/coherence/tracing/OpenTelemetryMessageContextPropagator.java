@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.tracing;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+import jakarta.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A {@link MessageContextPropagator} that propagates OpenTelemetry trace context.</p>
+ * <p>Enabled when an {@link OpenTelemetry} bean is present and the {@value #ENABLED}
+ * property is {@code true}. Propagation is not enabled by default because published messages
+ * are wrapped in a {@link TracedMessage}, which subscribers that are not Micronaut
+ * {@link io.micronaut.coherence.annotation.CoherenceTopicListener} methods must unwrap.</p>
+ * <p>A consumer span is started for each message, or batch of messages, processed by a
+ * listener method. The span's parent is the context of the first message and the contexts of
+ * any other messages in a batch are added as links.</p>
+ *
+ * @since 5.0.3
+ */
+@Singleton
+@Requires(classes = OpenTelemetry.class)
+@Requires(beans = OpenTelemetry.class)
+@Requires(property = OpenTelemetryMessageContextPropagator.ENABLED, value = StringUtils.TRUE)
+public class OpenTelemetryMessageContextPropagator implements MessageContextPropagator {
+
+    /**
+     * The property used to enable trace context propagation.
+     */
+    public static final String ENABLED = "coherence.tracing.enabled";
+
+    /**
+     * The instrumentation scope name of the spans created by this propagator.
+     */
+    private static final String INSTRUMENTATION_NAME = "io.micronaut.coherence";
+
+    /**
+     * The setter that injects headers into a map.
+     */
+    private static final TextMapSetter<Map<String, String>> SETTER = (carrier, key, value) -> {
+        if (carrier != null) {
+            carrier.put(key, value);
+        }
+    };
+
+    /**
+     * The getter that extracts headers from a map.
+     */
+    private static final TextMapGetter<Map<String, String>> GETTER = new TextMapGetter<>() {
+        @Override
+        public Iterable<String> keys(Map<String, String> carrier) {
+            return carrier.keySet();
+        }
+
+        @Override
+        public String get(@Nullable Map<String, String> carrier, String key) {
+            return carrier == null ? null : carrier.get(key);
+        }
+    };
+
+    /**
+     * The propagator that injects and extracts trace context.
+     */
+    private final TextMapPropagator propagator;
+
+    /**
+     * The tracer used to create consumer spans.
+     */
+    private final Tracer tracer;
+
+    /**
+     * Create an {@link OpenTelemetryMessageContextPropagator}.
+     *
+     * @param openTelemetry  the {@link OpenTelemetry} instance
+     */
+    public OpenTelemetryMessageContextPropagator(OpenTelemetry openTelemetry) {
+        this.propagator = openTelemetry.getPropagators().getTextMapPropagator();
+        this.tracer = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+    @Override
+    public Map<String, String> currentHeaders() {
+        Context context = Context.current();
+        if (!Span.fromContext(context).getSpanContext().isValid()) {
+            return null;
+        }
+        Map<String, String> headers = new HashMap<>(4);
+        propagator.inject(context, headers, SETTER);
+        return headers.isEmpty() ? null : headers;
+    }
+
+    @Override
+    public Scope restore(String topicName, List<Map<String, String>> headers) {
+        SpanBuilder builder = null;
+        for (Map<String, String> messageHeaders : headers) {
+            if (messageHeaders == null) {
+                continue;
+            }
+            Context extracted = propagator.extract(Context.root(), messageHeaders, GETTER);
+            SpanContext spanContext = Span.fromContext(extracted).getSpanContext();
+            if (!spanContext.isValid()) {
+                continue;
+            }
+            if (builder == null) {
+                builder = tracer.spanBuilder(topicName + " process")
+                        .setSpanKind(SpanKind.CONSUMER)
+                        .setParent(extracted)
+                        .setAttribute("messaging.system", "coherence")
+                        .setAttribute("messaging.destination.name", topicName)
+                        .setAttribute("messaging.operation", "process");
+            } else {
+                builder.addLink(spanContext);
+            }
+        }
+        if (builder == null) {
+            return Scope.NONE;
+        }
+        if (headers.size() > 1) {
+            builder.setAttribute("messaging.batch.message_count", (long) headers.size());
+        }
+
+        Span span = builder.startSpan();
+        io.opentelemetry.context.Scope scope = span.makeCurrent();
+        return error -> {
+            try {
+                if (error != null) {
+                    span.recordException(error);
+                    span.setStatus(StatusCode.ERROR);
+                }
+                scope.close();
+            } finally {
+                span.end();
+            }
+        };
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.tracing;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <p>A message published to a topic together with the headers that carry its trace context.</p>
+ * <p>Messages are only wrapped when a {@link MessageContextPropagator} is enabled, and
+ * {@link io.micronaut.coherence.annotation.CoherenceTopicListener} methods receive the unwrapped
+ * message. Their filter and extractor bindings see through the wrapper when propagation is also
+ * enabled on the subscribing application, see {@link TracedMessageFilter}. Applications that use POF serialization must register this class in
+ * their POF configuration.</p>
+ *
+ * @since 5.0.3
+ */
+public final class TracedMessage implements ExternalizableLite, PortableObject {
+
+    /**
+     * The headers that carry the trace context.
+     */
+    private Map<String, String> headers;
+
+    /**
+     * The message.
+     */
+    private Object value;
+
+    /**
+     * Default constructor for serialization.
+     */
+    public TracedMessage() {
+    }
+
+    /**
+     * Create a {@link TracedMessage}.
+     *
+     * @param value    the message
+     * @param headers  the headers that carry the trace context
+     */
+    public TracedMessage(Object value, Map<String, String> headers) {
+        this.value = value;
+        this.headers = headers;
+    }
+
+    /**
+     * Returns the message.
+     *
+     * @return the message
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the headers that carry the trace context.
+     *
+     * @return the headers that carry the trace context
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Returns the message wrapped by a {@link TracedMessage}.
+     *
+     * @param value  a received message
+     *
+     * @return the wrapped message if the message is a {@link TracedMessage}, otherwise the message
+     */
+    public static Object unwrap(Object value) {
+        return value instanceof TracedMessage message ? message.value : value;
+    }
+
+    /**
+     * Returns the headers of a received message.
+     *
+     * @param value  a received message
+     *
+     * @return the headers if the message is a {@link TracedMessage}, otherwise {@code null}
+     */
+    public static Map<String, String> headers(Object value) {
+        return value instanceof TracedMessage message ? message.headers : null;
+    }
+
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        int size = ExternalizableHelper.readInt(in);
+        Map<String, String> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            map.put(ExternalizableHelper.readSafeUTF(in), ExternalizableHelper.readSafeUTF(in));
+        }
+        headers = map;
+        value = ExternalizableHelper.readObject(in);
+    }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeInt(out, headers.size());
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
+            ExternalizableHelper.writeSafeUTF(out, entry.getKey());
+            ExternalizableHelper.writeSafeUTF(out, entry.getValue());
+        }
+        ExternalizableHelper.writeObject(out, value);
+    }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException {
+        headers = in.readMap(0, new HashMap<>());
+        value = in.readObject(1);
+    }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException {
+        out.writeMap(0, headers, String.class, String.class);
+        out.writeObject(1, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TracedMessage that = (TracedMessage) o;
+        return Objects.equals(headers, that.headers) && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(headers, value);
+    }
+
+    @Override
+    public String toString() {
+        return "TracedMessage{headers=" + headers + ", value=" + value + '}';
+    }
+}
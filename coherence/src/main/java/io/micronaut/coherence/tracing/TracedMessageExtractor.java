@@ -0,0 +1,124 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.tracing;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.ValueExtractor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>A {@link ValueExtractor} that converts the message wrapped by a {@link TracedMessage}.</p>
+ * <p>Subscriber converters are applied on the server, so when trace propagation is enabled the
+ * extractor of a {@link io.micronaut.coherence.annotation.CoherenceTopicListener} method is
+ * wrapped in a {@link TracedMessageExtractor}. The extractor is applied to the published message
+ * and the result is wrapped in a new {@link TracedMessage} with the original headers, so the
+ * trace context still reaches the listener. Messages that are not wrapped are converted as they
+ * are. Applications that use POF serialization must register this class in their POF
+ * configuration.</p>
+ *
+ * @param <T> the type of the message
+ * @param <E> the type of the converted message
+ * @since 5.0.3
+ */
+public final class TracedMessageExtractor<T, E> implements ValueExtractor<Object, Object>, ExternalizableLite, PortableObject {
+
+    /**
+     * The extractor that converts the message.
+     */
+    private ValueExtractor<T, E> extractor;
+
+    /**
+     * Default constructor for serialization.
+     */
+    public TracedMessageExtractor() {
+    }
+
+    /**
+     * Create a {@link TracedMessageExtractor}.
+     *
+     * @param extractor  the extractor that converts the message
+     */
+    public TracedMessageExtractor(ValueExtractor<T, E> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * Returns the extractor that converts the message.
+     *
+     * @return the extractor that converts the message
+     */
+    public ValueExtractor<T, E> getExtractor() {
+        return extractor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object extract(Object value) {
+        if (value instanceof TracedMessage message) {
+            return new TracedMessage(extractor.extract((T) message.getValue()), message.getHeaders());
+        }
+        return extractor.extract((T) value);
+    }
+
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        extractor = ExternalizableHelper.readObject(in);
+    }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeObject(out, extractor);
+    }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException {
+        extractor = in.readObject(0);
+    }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException {
+        out.writeObject(0, extractor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(extractor, ((TracedMessageExtractor<?, ?>) o).extractor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(extractor);
+    }
+
+    @Override
+    public String toString() {
+        return "TracedMessageExtractor{extractor=" + extractor + '}';
+    }
+}
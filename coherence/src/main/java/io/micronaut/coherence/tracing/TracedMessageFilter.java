@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.tracing;
+
+import com.tangosol.io.ExternalizableLite;
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Filter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * <p>A {@link Filter} that evaluates the message wrapped by a {@link TracedMessage}.</p>
+ * <p>Subscriber filters are evaluated on the server, so when trace propagation is enabled the
+ * filter of a {@link io.micronaut.coherence.annotation.CoherenceTopicListener} method is wrapped
+ * in a {@link TracedMessageFilter} to evaluate the published message rather than the wrapper.
+ * Messages that are not wrapped are evaluated as they are. Applications that use POF
+ * serialization must register this class in their POF configuration.</p>
+ *
+ * @param <T> the type of the message
+ * @since 5.0.3
+ */
+public final class TracedMessageFilter<T> implements Filter<Object>, ExternalizableLite, PortableObject {
+
+    /**
+     * The filter that evaluates the message.
+     */
+    private Filter<T> filter;
+
+    /**
+     * Default constructor for serialization.
+     */
+    public TracedMessageFilter() {
+    }
+
+    /**
+     * Create a {@link TracedMessageFilter}.
+     *
+     * @param filter  the filter that evaluates the message
+     */
+    public TracedMessageFilter(Filter<T> filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the filter that evaluates the message.
+     *
+     * @return the filter that evaluates the message
+     */
+    public Filter<T> getFilter() {
+        return filter;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean evaluate(Object value) {
+        return filter.evaluate((T) TracedMessage.unwrap(value));
+    }
+
+    @Override
+    public void readExternal(DataInput in) throws IOException {
+        filter = ExternalizableHelper.readObject(in);
+    }
+
+    @Override
+    public void writeExternal(DataOutput out) throws IOException {
+        ExternalizableHelper.writeObject(out, filter);
+    }
+
+    @Override
+    public void readExternal(PofReader in) throws IOException {
+        filter = in.readObject(0);
+    }
+
+    @Override
+    public void writeExternal(PofWriter out) throws IOException {
+        out.writeObject(0, filter);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(filter, ((TracedMessageFilter<?>) o).filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(filter);
+    }
+
+    @Override
+    public String toString() {
+        return "TracedMessageFilter{filter=" + filter + '}';
+    }
+}
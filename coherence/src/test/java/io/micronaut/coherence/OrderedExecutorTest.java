@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OrderedExecutorTest {
+
+    @Test
+    void shouldRunQueuedTasksWhenRescheduleIsRejected() {
+        ManualExecutor executor = new ManualExecutor();
+        OrderedExecutor ordered = new OrderedExecutor(executor, 1);
+        List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            ordered.execute("key", () -> ran.add(value));
+        }
+        assertThat(executor.stripes.size(), is(1));
+
+        // the stripe yields after a run of tasks, and the executor then rejects it
+        executor.reject = true;
+        executor.stripes.remove(0).run();
+
+        assertThat(ran, is(IntStream.range(0, 100).boxed().toList()));
+        assertThat(executor.stripes.isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldNotRunRejectedTask() {
+        ManualExecutor executor = new ManualExecutor();
+        OrderedExecutor ordered = new OrderedExecutor(executor, 1);
+        List<String> ran = new ArrayList<>();
+
+        executor.reject = true;
+        assertThrows(RejectedExecutionException.class, () -> ordered.execute("key", () -> ran.add("rejected")));
+
+        executor.reject = false;
+        ordered.execute("key", () -> ran.add("accepted"));
+        executor.stripes.remove(0).run();
+
+        assertThat(ran, is(List.of("accepted")));
+    }
+
+    /**
+     * An {@link Executor} that holds submitted tasks until the test runs them.
+     */
+    private static class ManualExecutor implements Executor {
+        private final List<Runnable> stripes = new ArrayList<>();
+
+        private boolean reject;
+
+        @Override
+        public void execute(Runnable command) {
+            if (reject) {
+                throw new RejectedExecutionException("Expected");
+            }
+            stripes.add(command);
+        }
+    }
+}
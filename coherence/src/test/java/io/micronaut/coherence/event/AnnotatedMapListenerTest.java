@@ -16,21 +16,31 @@
 package io.micronaut.coherence.event;
 
 
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
 import io.micronaut.coherence.annotation.*;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class AnnotatedMapListenerTest {
 
+    private final ObservableHashMap map = new ObservableHashMap();
+
     @Test
     void testEquals() {
         ExecutableMethodMapListener observer = mock(ExecutableMethodMapListener.class);
@@ -170,6 +180,77 @@ public class AnnotatedMapListenerTest {
         assertThat(listener.isWildCardCacheName(), is(true));
     }
 
+    @Test
+    public void testCoalescedInsertAndDeleteNotDeliveredToInsertObserver() {
+        @Inserted final class c { }
+        ExecutableMethodMapListener observer = coalescingObserver(c.class.getAnnotation(Inserted.class));
+        AnnotatedMapListener listener = new AnnotatedMapListener(observer, observer.getObservedQualifiers());
+
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, null, "one"));
+        listener.entryDeleted(event(MapEvent.ENTRY_DELETED, "one", null));
+
+        verify(observer, never()).notify(any());
+    }
+
+    @Test
+    public void testCoalescedInsertAndUpdateNotDeliveredToUpdateObserver() {
+        @Updated final class c { }
+        ExecutableMethodMapListener observer = coalescingObserver(c.class.getAnnotation(Updated.class));
+        AnnotatedMapListener listener = new AnnotatedMapListener(observer, observer.getObservedQualifiers());
+
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, null, "one"));
+        listener.entryUpdated(event(MapEvent.ENTRY_UPDATED, "one", "two"));
+
+        verify(observer, never()).notify(any());
+    }
+
+    @Test
+    public void testCoalescedInsertAndDeleteNotDeliveredToDeleteObserver() {
+        @Deleted final class c { }
+        ExecutableMethodMapListener observer = coalescingObserver(c.class.getAnnotation(Deleted.class));
+        AnnotatedMapListener listener = new AnnotatedMapListener(observer, observer.getObservedQualifiers());
+
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, null, "one"));
+        listener.entryDeleted(event(MapEvent.ENTRY_DELETED, "one", null));
+
+        verify(observer, never()).notify(any());
+    }
+
+    @Test
+    public void testCoalescedInsertAndUpdateDeliveredToInsertObserver() {
+        @Inserted final class c { }
+        ExecutableMethodMapListener observer = coalescingObserver(c.class.getAnnotation(Inserted.class));
+        AnnotatedMapListener listener = new AnnotatedMapListener(observer, observer.getObservedQualifiers());
+
+        listener.entryInserted(event(MapEvent.ENTRY_INSERTED, null, "one"));
+        listener.entryUpdated(event(MapEvent.ENTRY_UPDATED, "one", "two"));
+
+        ArgumentCaptor<MapEvent> captor = ArgumentCaptor.forClass(MapEvent.class);
+        verify(observer).notify(captor.capture());
+        assertThat(captor.getValue().getId(), is(MapEvent.ENTRY_INSERTED));
+        assertThat(captor.getValue().getNewValue(), is("two"));
+    }
+
+    /**
+     * Create a synchronous observer that coalesces every two events.
+     *
+     * @param eventType the event type annotation of the observer
+     * @return the observer
+     */
+    private ExecutableMethodMapListener coalescingObserver(Annotation eventType) {
+        ExecutableMethodMapListener observer = mock(ExecutableMethodMapListener.class);
+        when(observer.getObservedQualifiers()).thenReturn(Set.of(eventType));
+        when(observer.isCoalesced()).thenReturn(true);
+        when(observer.getCoalesceWindow()).thenReturn(Duration.ofHours(1));
+        when(observer.getCoalesceCount()).thenReturn(2);
+        when(observer.getExecutor()).thenReturn((Executor) Runnable::run);
+        return observer;
+    }
+
+    private MapEvent event(int id, String oldValue, String newValue) {
+        return new MapEvent(map, id, "A", oldValue, newValue);
+    }
+
     @Created
     @Destroyed
     @Truncated
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsyncEventDispatcherTest {
+
+    @Test
+    void shouldDispatchEventsForSameKeyInOrder() {
+        try (AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(4, 1000, "block")) {
+            Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+            int count = 1000;
+            for (int i = 0; i < count; i++) {
+                int key = i % 10;
+                int value = i;
+                dispatcher.execute(key, () -> received.computeIfAbsent(key, k -> new ArrayList<>()).add(value));
+            }
+
+            Eventually.assertDeferred(dispatcher::getDispatchedCount, is((long) count));
+            received.forEach((key, values) -> {
+                for (int i = 1; i < values.size(); i++) {
+                    assertThat(values.get(i) > values.get(i - 1), is(true));
+                }
+            });
+            assertThat(dispatcher.getErrorCount(), is(0L));
+            assertThat(dispatcher.getQueueDepth(), is(0));
+        }
+    }
+
+    @Test
+    void shouldCountErrors() {
+        try (AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(2, 10, null)) {
+            dispatcher.execute(() -> {
+                throw new RuntimeException("Expected");
+            });
+            Eventually.assertDeferred(dispatcher::getErrorCount, is(1L));
+            assertThat(dispatcher.getDispatchedCount(), is(1L));
+        }
+    }
+
+    @Test
+    void shouldDiscardWhenQueueIsFull() throws Exception {
+        try (AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 1, "discard")) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            dispatcher.execute("key", () -> {
+                started.countDown();
+                try {
+                    release.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(started.await(1, TimeUnit.MINUTES), is(true));
+
+            dispatcher.execute("key", () -> { });
+            dispatcher.execute("key", () -> { });
+            assertThat(dispatcher.getRejectedCount(), is(1L));
+
+            release.countDown();
+            Eventually.assertDeferred(dispatcher::getDispatchedCount, is(2L));
+        }
+    }
+
+    @Test
+    void shouldRunOnCallerByDefault() throws Exception {
+        try (AsyncEventDispatcher dispatcher = new AsyncEventDispatcher(1, 1, null)) {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            dispatcher.execute("key", () -> {
+                started.countDown();
+                try {
+                    release.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThat(started.await(1, TimeUnit.MINUTES), is(true));
+
+            dispatcher.execute("key", () -> { });
+            // the queue is full so the caller notifies the observer
+            List<Thread> threads = new ArrayList<>();
+            dispatcher.execute("key", () -> threads.add(Thread.currentThread()));
+            assertThat(threads, is(List.of(Thread.currentThread())));
+            assertThat(dispatcher.getRejectedCount(), is(0L));
+
+            release.countDown();
+            Eventually.assertDeferred(dispatcher::getDispatchedCount, is(3L));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidPolicy() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new AsyncEventDispatcher(1, 1, "blocking"));
+        assertThat(e.getMessage(), containsString("coherence.event.dispatcher.rejection-policy"));
+        assertThat(e.getMessage(), containsString("block, caller-runs, discard"));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.tangosol.io.pof.ConfigurablePofContext;
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.cache.BackingMapBinaryEntry;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.extractor.PofExtractor;
+import data.Person;
+import data.PhoneNumber;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntryArgumentBinderTest {
+
+    private final ConfigurablePofContext pofContext = new ConfigurablePofContext("pof-config.xml");
+
+    private final BackingMapManagerContext context = mock(BackingMapManagerContext.class);
+
+    private final Binary key = ExternalizableHelper.toBinary("homer", pofContext);
+
+    private final Binary homer = person("Simpson");
+
+    private final Binary flanders = person("Flanders");
+
+    EntryArgumentBinderTest() {
+        CacheService service = mock(CacheService.class);
+        when(service.getSerializer()).thenReturn(pofContext);
+        when(context.getCacheService()).thenReturn(service);
+    }
+
+    @Test
+    void shouldExtractFromPofValueWithoutDeserializing() {
+        EntryArgumentBinder<String, ?> binder = new EntryArgumentBinder<>(EntryArgumentBinder.Source.EXTRACTOR,
+                new PofExtractor<>(String.class, 1));
+
+        BackingMapBinaryEntry entry = new BackingMapBinaryEntry(key, flanders, homer, context);
+
+        assertThat(binder.extract(entry, false), is("Flanders"));
+        verify(context, never()).getValueFromInternalConverter();
+    }
+
+    @Test
+    void shouldExtractFromOriginalPofValueOfRemovedEntry() {
+        EntryArgumentBinder<String, ?> binder = new EntryArgumentBinder<>(EntryArgumentBinder.Source.EXTRACTOR,
+                new PofExtractor<>(String.class, 1));
+
+        BackingMapBinaryEntry entry = new BackingMapBinaryEntry(key, null, homer, context);
+
+        assertThat(binder.extract(entry, true), is("Simpson"));
+        verify(context, never()).getValueFromInternalConverter();
+    }
+
+    @Test
+    void shouldBindOriginalBinaryValueOfRemovedEntry() {
+        EntryArgumentBinder<Binary, ?> binder = new EntryArgumentBinder<>(EntryArgumentBinder.Source.BINARY_VALUE, null);
+
+        assertThat(binder.extract(new BackingMapBinaryEntry(key, flanders, homer, context), false), is(flanders));
+        assertThat(binder.extract(new BackingMapBinaryEntry(key, null, homer, context), true), is(homer));
+    }
+
+    @Test
+    void shouldBindBinaryKey() {
+        EntryArgumentBinder<Binary, ?> binder = new EntryArgumentBinder<>(EntryArgumentBinder.Source.BINARY_KEY, null);
+
+        assertThat(binder.extract(new BackingMapBinaryEntry(key, homer, null, context), false), is(key));
+        verify(context, never()).getKeyFromInternalConverter();
+    }
+
+    private Binary person(String lastName) {
+        Person person = new Person("Homer", lastName, LocalDate.of(1956, 5, 12), new PhoneNumber(1, "555-123-9999"));
+        return ExternalizableHelper.toBinary(person, pofContext);
+    }
+}
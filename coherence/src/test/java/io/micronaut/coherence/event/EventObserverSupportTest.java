@@ -27,7 +27,10 @@ import com.tangosol.net.events.partition.UnsolicitedCommitEvent;
 import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
 import com.tangosol.net.events.partition.cache.EntryEvent;
 import com.tangosol.net.events.partition.cache.EntryProcessorEvent;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.Filters;
 import com.tangosol.util.processor.ConditionalPut;
+import io.micronaut.coherence.FilterFactories;
 import io.micronaut.coherence.annotation.Activated;
 import io.micronaut.coherence.annotation.Activating;
 import io.micronaut.coherence.annotation.Arrived;
@@ -67,6 +70,7 @@ import io.micronaut.coherence.annotation.Syncing;
 import io.micronaut.coherence.annotation.Truncated;
 import io.micronaut.coherence.annotation.Updated;
 import io.micronaut.coherence.annotation.Updating;
+import io.micronaut.coherence.annotation.WhereFilter;
 import org.junit.jupiter.api.Test;
 
 import java.util.EnumSet;
@@ -76,6 +80,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -424,6 +429,103 @@ class EventObserverSupportTest {
         assertThat(actual, is(expected));
     }
 
+    @Test
+    void testEntryEventFilter() {
+        ExecutableMethodEventObserver observer = mock(ExecutableMethodEventObserver.class);
+
+        @WhereFilter("name = 'Homer'") final class c { }
+        WhereFilter whereFilter = c.class.getAnnotation(WhereFilter.class);
+
+        Set<java.lang.annotation.Annotation> value = Set.of(whereFilter);
+        when(observer.getObservedQualifiers()).thenReturn(value);
+
+        FilterFactories matching = mock(FilterFactories.class);
+        when(matching.resolve(value)).thenReturn(Filters.always());
+        FilterFactories notMatching = mock(FilterFactories.class);
+        when(notMatching.resolve(value)).thenReturn(Filters.never());
+
+        EntryEvent event = mock(EntryEvent.class);
+        when(event.getType()).thenReturn(EntryEvent.Type.INSERTED);
+        when(event.getEntrySet()).thenReturn(Set.of(mock(BinaryEntry.class)));
+
+        EventObserverSupport.EventHandler handler = EventObserverSupport.createObserver(EntryEvent.class, observer, matching);
+        assertThat(handler.shouldFire(event), is(true));
+
+        handler = EventObserverSupport.createObserver(EntryEvent.class, observer, notMatching);
+        assertThat(handler.shouldFire(event), is(false));
+
+        handler = EventObserverSupport.createObserver(EntryEvent.class, observer);
+        assertThat(handler.shouldFire(event), is(true));
+    }
+
+    @Test
+    void testEntryBoundObserverNotifiedOfMatchingEntries() {
+        ExecutableMethodEventObserver observer = mock(ExecutableMethodEventObserver.class);
+
+        @WhereFilter("name = 'Homer'") final class c { }
+        WhereFilter whereFilter = c.class.getAnnotation(WhereFilter.class);
+
+        Set<java.lang.annotation.Annotation> value = Set.of(whereFilter);
+        when(observer.getObservedQualifiers()).thenReturn(value);
+        when(observer.isEntryBound()).thenReturn(true);
+
+        FilterFactories factories = mock(FilterFactories.class);
+        when(factories.resolve(value)).thenReturn(v -> "Homer".equals(v));
+
+        BinaryEntry homer = mock(BinaryEntry.class);
+        when(homer.getValue()).thenReturn("Homer");
+        BinaryEntry marge = mock(BinaryEntry.class);
+        when(marge.getValue()).thenReturn("Marge");
+
+        EntryEvent event = mock(EntryEvent.class);
+        when(event.getType()).thenReturn(EntryEvent.Type.INSERTED);
+        when(event.getEntrySet()).thenReturn(new java.util.LinkedHashSet<>(java.util.List.of(homer, marge)));
+
+        EventObserverSupport.EventHandler handler = EventObserverSupport.createObserver(EntryEvent.class, observer, factories);
+        handler.onEvent(event);
+
+        verify(observer).notify(event, Set.of(homer));
+    }
+
+    @Test
+    void testEntryProcessorEventFilter() {
+        ExecutableMethodEventObserver observer = mock(ExecutableMethodEventObserver.class);
+
+        @WhereFilter("name = 'Homer'") final class c { }
+        WhereFilter whereFilter = c.class.getAnnotation(WhereFilter.class);
+
+        Set<java.lang.annotation.Annotation> value = Set.of(whereFilter);
+        when(observer.getObservedQualifiers()).thenReturn(value);
+
+        FilterFactories matching = mock(FilterFactories.class);
+        when(matching.resolve(value)).thenReturn(Filters.always());
+
+        EntryProcessorEvent event = mock(EntryProcessorEvent.class);
+        when(event.getType()).thenReturn(EntryProcessorEvent.Type.EXECUTING);
+        when(event.getEntrySet()).thenReturn(Set.of(mock(BinaryEntry.class)));
+
+        EventObserverSupport.EventHandler handler = EventObserverSupport.createObserver(EntryProcessorEvent.class,
+                observer, matching);
+
+        assertThat(handler.eventTypes(), is(EnumSet.of(EntryProcessorEvent.Type.EXECUTING)));
+        assertThat(handler.shouldFire(event), is(true));
+    }
+
+    @Test
+    void testEntryProcessorEventFilterOnExecuted() {
+        ExecutableMethodEventObserver observer = mock(ExecutableMethodEventObserver.class);
+
+        @Executed @WhereFilter("name = 'Homer'") final class c { }
+        Executed executed = c.class.getAnnotation(Executed.class);
+        WhereFilter whereFilter = c.class.getAnnotation(WhereFilter.class);
+
+        when(observer.getObservedQualifiers()).thenReturn(Set.of(executed, whereFilter));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> EventObserverSupport.createObserver(EntryProcessorEvent.class, observer,
+                        mock(FilterFactories.class)));
+    }
+
     @Test
     void testCreateObserverWithNullType() {
         ExecutableMethodEventObserver observer = mock(ExecutableMethodEventObserver.class);
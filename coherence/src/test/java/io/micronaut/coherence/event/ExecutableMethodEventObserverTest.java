@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.tangosol.net.events.application.LifecycleEvent;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.ExecutableMethod;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExecutableMethodEventObserverTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBindArgumentsOnceForAllEvents() {
+        ExecutableMethod<Object, Object> method = mock(ExecutableMethod.class);
+        when(method.getArguments()).thenReturn(new Argument<?>[] {
+                Argument.of(LifecycleEvent.class, "event"),
+                Argument.of(String.class, "name")});
+
+        AtomicInteger lookups = new AtomicInteger();
+        EventArgumentBinderRegistry<LifecycleEvent> registry = new EventArgumentBinderRegistry<>() {
+            @Override
+            public <T> Optional<ArgumentBinder<T, LifecycleEvent>> findArgumentBinder(Argument<T> argument) {
+                lookups.incrementAndGet();
+                return Optional.of((context, event) -> () -> (Optional<T>) (Optional<?>) Optional.of("bound"));
+            }
+        };
+
+        Object bean = new Object();
+        ExecutableMethodEventObserver<LifecycleEvent, Object, Object> observer =
+                new ExecutableMethodEventObserver<>(() -> bean, method, registry);
+
+        LifecycleEvent event = mock(LifecycleEvent.class);
+        for (int i = 0; i < 3; i++) {
+            observer.notify(event);
+        }
+
+        verify(method, times(3)).invoke(bean, event, "bound");
+        verify(method, times(1)).getArguments();
+        assertThat(lookups.get(), is(1));
+    }
+}
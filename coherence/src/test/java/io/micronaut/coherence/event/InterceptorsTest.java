@@ -28,6 +28,7 @@ import com.tangosol.net.events.partition.TransferEvent;
 import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
 import com.tangosol.net.events.partition.cache.EntryEvent;
 import com.tangosol.net.events.partition.cache.EntryProcessorEvent;
+import com.tangosol.util.Binary;
 import com.tangosol.util.InvocableMap;
 import data.Person;
 import data.PhoneNumber;
@@ -40,6 +41,7 @@ import io.micronaut.coherence.annotation.Committing;
 import io.micronaut.coherence.annotation.Created;
 import io.micronaut.coherence.annotation.Destroyed;
 import io.micronaut.coherence.annotation.Disposing;
+import io.micronaut.coherence.annotation.EntryKey;
 import io.micronaut.coherence.annotation.Executed;
 import io.micronaut.coherence.annotation.Executing;
 import io.micronaut.coherence.annotation.Inserted;
@@ -47,6 +49,7 @@ import io.micronaut.coherence.annotation.Inserting;
 import io.micronaut.coherence.annotation.MapName;
 import io.micronaut.coherence.annotation.Name;
 import io.micronaut.coherence.annotation.Processor;
+import io.micronaut.coherence.annotation.PropertyExtractor;
 import io.micronaut.coherence.annotation.Removed;
 import io.micronaut.coherence.annotation.Removing;
 import io.micronaut.coherence.annotation.ScopeName;
@@ -55,6 +58,7 @@ import io.micronaut.coherence.annotation.Started;
 import io.micronaut.coherence.annotation.Starting;
 import io.micronaut.coherence.annotation.Stopped;
 import io.micronaut.coherence.annotation.Stopping;
+import io.micronaut.coherence.annotation.Synchronous;
 import io.micronaut.coherence.annotation.Truncated;
 import io.micronaut.coherence.annotation.Updated;
 import io.micronaut.coherence.annotation.Updating;
@@ -142,6 +146,10 @@ class InterceptorsTest {
         Eventually.assertDeferred(() -> observers.events, hasEntry(EntryEvent.Type.REMOVING, 10));
         Eventually.assertDeferred(() -> observers.events, hasEntry(EntryEvent.Type.REMOVED, 15));
 
+        Eventually.assertDeferred(() -> observers.boundLastNames.size(), is(5));
+        assertThat(observers.boundLastNames, hasEntry("homer", "Simpson"));
+        assertThat(observers.boundLastNames, hasEntry("maggie", "Simpson"));
+
         Eventually.assertDeferred(() -> observers.events, hasEntry(CoherenceLifecycleEvent.Type.STARTING, 2));
         Eventually.assertDeferred(() -> observers.events, hasEntry(CoherenceLifecycleEvent.Type.STARTED, 2));
         Eventually.assertDeferred(() -> observers.events, hasEntry(CoherenceLifecycleEvent.Type.STOPPING, 2));
@@ -172,6 +180,8 @@ class InterceptorsTest {
     public static class TestObservers {
         final Map<Enum<?>, Integer> events = new ConcurrentHashMap<>();
 
+        final Map<String, String> boundLastNames = new ConcurrentHashMap<>();
+
         // cache lifecycle events
         @CoherenceEventListener
         void onCacheLifecycleEvent(@ServiceName("StorageService") CacheLifecycleEvent event) {
@@ -336,6 +346,18 @@ class InterceptorsTest {
             assertThat(event.getValue().getLastName(), is("Simpson"));
         }
 
+        @Synchronous
+        @CoherenceEventListener
+        void onPersonInsertedWithEntryArguments(@Inserted @CacheName("people") EntryEvent<String, Person> event,
+                                                @EntryKey String key,
+                                                @EntryKey Binary binaryKey,
+                                                Binary binaryValue,
+                                                @PropertyExtractor("lastName") String lastName) {
+            assertThat(binaryKey, is(instanceOf(Binary.class)));
+            assertThat(binaryValue, is(instanceOf(Binary.class)));
+            boundLastNames.put(key, lastName);
+        }
+
         @CoherenceEventListener
         void onPersonRemoved(@Removed @CacheName("people") EntryEvent<String, Person> event) {
             record(event);
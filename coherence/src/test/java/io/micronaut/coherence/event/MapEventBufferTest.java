@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.tangosol.net.cache.CacheEvent;
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.ObservableHashMap;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MapEventBufferTest {
+
+    private final ObservableHashMap<String, String> map = new ObservableHashMap<>();
+
+    private final List<MapEvent<String, String>> received = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldCoalesceInsertAndUpdatesToInsert() {
+        MapEventBuffer<String, String> coalescer = new MapEventBuffer<>(Duration.ofHours(1), 3, true, Runnable::run, received::addAll);
+        coalescer.add(event(MapEvent.ENTRY_INSERTED, "A", null, "one"));
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "one", "two"));
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "two", "three"));
+
+        assertThat(received.size(), is(1));
+        MapEvent<String, String> event = received.get(0);
+        assertThat(event.getId(), is(MapEvent.ENTRY_INSERTED));
+        assertThat(event.getKey(), is("A"));
+        assertThat(event.getOldValue(), is(nullValue()));
+        assertThat(event.getNewValue(), is("three"));
+    }
+
+    @Test
+    void shouldDiscardInsertFollowedByDelete() {
+        MapEventBuffer<String, String> coalescer = new MapEventBuffer<>(Duration.ofHours(1), 3, true, Runnable::run, received::addAll);
+        coalescer.add(event(MapEvent.ENTRY_INSERTED, "A", null, "one"));
+        coalescer.add(event(MapEvent.ENTRY_INSERTED, "B", null, "two"));
+        coalescer.add(event(MapEvent.ENTRY_DELETED, "A", "one", null));
+
+        assertThat(received.size(), is(1));
+        assertThat(received.get(0).getId(), is(MapEvent.ENTRY_INSERTED));
+        assertThat(received.get(0).getKey(), is("B"));
+    }
+
+    @Test
+    void shouldCoalesceUpdatesAndDeleteToDelete() {
+        MapEventBuffer<String, String> coalescer = new MapEventBuffer<>(Duration.ofHours(1), 3, true, Runnable::run, received::addAll);
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "one", "two"));
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "two", "three"));
+        coalescer.add(event(MapEvent.ENTRY_DELETED, "A", "three", null));
+
+        assertThat(received.size(), is(1));
+        MapEvent<String, String> event = received.get(0);
+        assertThat(event.getId(), is(MapEvent.ENTRY_DELETED));
+        assertThat(event.getOldValue(), is("one"));
+        assertThat(event.getNewValue(), is(nullValue()));
+    }
+
+    @Test
+    void shouldDeliverWhenWindowElapses() {
+        MapEventBuffer<String, String> coalescer = new MapEventBuffer<>(Duration.ofMillis(50), 0, true, Runnable::run, received::addAll);
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "one", "two"));
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "two", "three"));
+
+        Eventually.assertDeferred(received::size, is(1));
+        MapEvent<String, String> event = received.get(0);
+        assertThat(event.getId(), is(MapEvent.ENTRY_UPDATED));
+        assertThat(event.getOldValue(), is("one"));
+        assertThat(event.getNewValue(), is("three"));
+    }
+
+    @Test
+    void shouldDeliverEveryEventInBatch() {
+        MapEventBuffer<String, String> buffer = new MapEventBuffer<>(Duration.ofHours(1), 3, false, Runnable::run, received::addAll);
+        buffer.add(event(MapEvent.ENTRY_INSERTED, "A", null, "one"));
+        buffer.add(event(MapEvent.ENTRY_UPDATED, "A", "one", "two"));
+        assertThat(received.size(), is(0));
+        buffer.add(event(MapEvent.ENTRY_DELETED, "A", "two", null));
+
+        assertThat(received.size(), is(3));
+        assertThat(received.get(0).getId(), is(MapEvent.ENTRY_INSERTED));
+        assertThat(received.get(1).getId(), is(MapEvent.ENTRY_UPDATED));
+        assertThat(received.get(2).getId(), is(MapEvent.ENTRY_DELETED));
+    }
+
+    @Test
+    void shouldKeepCacheEventFlags() {
+        MapEventBuffer<String, String> coalescer = new MapEventBuffer<>(Duration.ofHours(1), 2, true, Runnable::run, received::addAll);
+        coalescer.add(event(MapEvent.ENTRY_UPDATED, "A", "one", "two"));
+        coalescer.add(new CacheEvent<>(map, MapEvent.ENTRY_DELETED, "A", "two", null, true,
+                CacheEvent.TransformationState.TRANSFORMABLE, false, true));
+
+        assertThat(received.size(), is(1));
+        CacheEvent<String, String> event = (CacheEvent<String, String>) received.get(0);
+        assertThat(event.getId(), is(MapEvent.ENTRY_DELETED));
+        assertThat(event.getOldValue(), is("one"));
+        assertThat(event.isSynthetic(), is(true));
+        assertThat(event.isExpired(), is(true));
+    }
+
+    @Test
+    void shouldNotDeliverOnAddingThread() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            List<Thread> threads = new CopyOnWriteArrayList<>();
+            MapEventBuffer<String, String> buffer = new MapEventBuffer<>(Duration.ofHours(1), 1, false, executor, events -> {
+                threads.add(Thread.currentThread());
+                try {
+                    release.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                received.addAll(events);
+            });
+
+            // the adding thread is not held up by a slow consumer
+            buffer.add(event(MapEvent.ENTRY_INSERTED, "A", null, "one"));
+            buffer.add(event(MapEvent.ENTRY_INSERTED, "B", null, "two"));
+            release.countDown();
+
+            Eventually.assertDeferred(received::size, is(2));
+            assertThat(threads.contains(Thread.currentThread()), is(false));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MapEvent<String, String> event(int id, String key, String oldValue, String newValue) {
+        return new MapEvent<>(map, id, key, oldValue, newValue);
+    }
+}
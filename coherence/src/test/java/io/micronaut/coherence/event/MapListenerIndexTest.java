@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.event;
+
+import io.micronaut.coherence.annotation.CacheName;
+import io.micronaut.coherence.annotation.ServiceName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+class MapListenerIndexTest {
+
+    private final Map<String, Map<String, Set<AnnotatedMapListener<?, ?>>>> listeners = new HashMap<>();
+
+    @Test
+    void shouldMergeWildCardListeners() {
+        AnnotatedMapListener all = add(AnyServiceAnyCache.class);
+        AnnotatedMapListener anyServiceFoo = add(AnyServiceFoo.class);
+        AnnotatedMapListener storageAnyCache = add(StorageAnyCache.class);
+        AnnotatedMapListener storageFoo = add(StorageFoo.class);
+        AnnotatedMapListener otherBar = add(OtherBar.class);
+
+        MapListenerIndex index = new MapListenerIndex(listeners);
+
+        assertThat(index.get("Storage", "foo"), arrayContainingInAnyOrder(all, anyServiceFoo, storageAnyCache, storageFoo));
+        assertThat(index.get("Storage", "bar"), arrayContainingInAnyOrder(all, storageAnyCache));
+        assertThat(index.get("Unknown", "foo"), arrayContainingInAnyOrder(all, anyServiceFoo));
+        assertThat(index.get("Unknown", "bar"), arrayContainingInAnyOrder(all));
+        assertThat(index.get("Other", "bar"), arrayContainingInAnyOrder(all, otherBar));
+        assertThat(index.get("Other", "foo"), arrayContainingInAnyOrder(all, anyServiceFoo));
+    }
+
+    @Test
+    void shouldReturnEmptyArrayWhenNoListeners() {
+        add(StorageFoo.class);
+
+        MapListenerIndex index = new MapListenerIndex(listeners);
+
+        assertThat(index.get("Storage", "bar"), emptyArray());
+        assertThat(index.get("Unknown", "foo"), emptyArray());
+    }
+
+    @Test
+    void shouldMatchCacheNamePatterns() {
+        AnnotatedMapListener all = add(AnyServiceAnyCache.class);
+        AnnotatedMapListener orders = add(AnyServiceOrders.class);
+        AnnotatedMapListener storageTenants = add(StorageTenants.class);
+        AnnotatedMapListener glob = add(AnyServiceGlob.class);
+
+        MapListenerIndex index = new MapListenerIndex(listeners);
+
+        assertThat(index.get("Storage", "orders-1"), arrayContainingInAnyOrder(all, orders));
+        assertThat(index.get("Other", "orders-"), arrayContainingInAnyOrder(all, orders));
+        assertThat(index.get("Storage", "order"), arrayContainingInAnyOrder(all));
+        assertThat(index.get("Storage", "tenant-42"), arrayContainingInAnyOrder(all, storageTenants));
+        assertThat(index.get("Other", "tenant-42"), arrayContainingInAnyOrder(all));
+        assertThat(index.get("Storage", "tenant-x"), arrayContainingInAnyOrder(all));
+        assertThat(index.get("Storage", "abc.x"), arrayContainingInAnyOrder(all, glob));
+        assertThat(index.get("Storage", "abcx"), arrayContainingInAnyOrder(all, glob));
+        assertThat(index.get("Storage", "aXc-y"), arrayContainingInAnyOrder(all));
+    }
+
+    @Test
+    void shouldNotTreatPatternAsExactName() {
+        add(AnyServiceOrders.class);
+
+        MapListenerIndex index = new MapListenerIndex(listeners);
+
+        assertThat(index.get("Storage", "customers"), emptyArray());
+    }
+
+    private AnnotatedMapListener add(Class<?> annotated) {
+        ExecutableMethodMapListener observer = mock(ExecutableMethodMapListener.class);
+        Set<Annotation> qualifiers = new HashSet<>(Set.of(annotated.getAnnotations()));
+        when(observer.getObservedQualifiers()).thenReturn(qualifiers);
+
+        AnnotatedMapListener listener = new AnnotatedMapListener(observer, qualifiers);
+        listeners.computeIfAbsent(listener.getServiceName(), s -> new HashMap<>())
+                .computeIfAbsent(listener.getCacheName(), c -> new HashSet<>())
+                .add(listener);
+        return listener;
+    }
+
+    static final class AnyServiceAnyCache { }
+
+    @CacheName("foo")
+    static final class AnyServiceFoo { }
+
+    @ServiceName("Storage")
+    static final class StorageAnyCache { }
+
+    @ServiceName("Storage")
+    @CacheName("foo")
+    static final class StorageFoo { }
+
+    @ServiceName("Other")
+    @CacheName("bar")
+    static final class OtherBar { }
+
+    @CacheName("orders-*")
+    static final class AnyServiceOrders { }
+
+    @ServiceName("Storage")
+    @CacheName("regex:tenant-[0-9]+")
+    static final class StorageTenants { }
+
+    @CacheName("a?c*x")
+    static final class AnyServiceGlob { }
+}
@@ -117,6 +117,15 @@ class MapListenerTest {
         assertThat(transformedEvents.get(2).getNewValue(), is("BART"));
         assertThat(transformedEvents.get(3).getNewValue(), is("LISA"));
         assertThat(transformedEvents.get(4).getNewValue(), is("MAGGIE"));
+
+        // Batched events should contain every event in the order they occurred for each key
+        List<MapEvent<String, Person>> batchedEvents = listener.getBatchedEvents();
+        Eventually.assertDeferred(batchedEvents::size, is(11));
+        List<Integer> bartEvents = batchedEvents.stream()
+                .filter(e -> e.getKey().equals("bart"))
+                .map(MapEvent::getId)
+                .toList();
+        assertThat(bartEvents, is(List.of(MapEvent.ENTRY_INSERTED, MapEvent.ENTRY_UPDATED, MapEvent.ENTRY_DELETED)));
     }
 
     // ---- helper classes --------------------------------------------------
@@ -144,6 +153,8 @@ class MapListenerTest {
 
         private final List<MapEvent<String, String>> transformedWithExtractorEvents = Collections.synchronizedList(new ArrayList<>());
 
+        private final List<MapEvent<String, Person>> batchedEvents = Collections.synchronizedList(new ArrayList<>());
+
         Integer getEvents(int id) {
             return events.get(id);
         }
@@ -160,6 +171,16 @@ class MapListenerTest {
             return transformedWithExtractorEvents;
         }
 
+        public List<MapEvent<String, Person>> getBatchedEvents() {
+            return batchedEvents;
+        }
+
+        @CoherenceEventListener(batchSize = 5, linger = "50ms")
+        void onPeopleBatch(@MapName("people") List<MapEvent<String, Person>> events) {
+            assertThat(events.size() <= 5, is(true));
+            batchedEvents.addAll(events);
+        }
+
         @Synchronous
         @WhereFilter("firstName = 'Bart' and lastName = 'Simpson'")
         @CoherenceEventListener
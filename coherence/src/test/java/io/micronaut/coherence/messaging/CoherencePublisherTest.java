@@ -20,14 +20,23 @@ import jakarta.inject.Singleton;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import com.tangosol.net.Coherence;
 import com.tangosol.net.topic.NamedTopic;
 import com.tangosol.net.topic.Subscriber;
 
 import io.micronaut.coherence.annotation.CoherencePublisher;
+import io.micronaut.coherence.annotation.MessageKey;
 import io.micronaut.coherence.annotation.Topic;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.Requires;
@@ -37,6 +46,7 @@ import org.junit.jupiter.api.TestInstance;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 @MicronautTest(propertySources = "classpath:sessions.yaml", environments = "CoherencePublisherTest")
@@ -52,6 +62,9 @@ class CoherencePublisherTest {
     @Inject
     PublishersOne publishersOne;
 
+    @Inject
+    BatchPublishers batchPublishers;
+
     @Test
     void shouldSendMessage() throws Exception {
         Subscriber<String> subscriber = getSubscriber("One");
@@ -79,6 +92,34 @@ class CoherencePublisherTest {
         assertThat(element.getValue(), is(message));
     }
 
+    @Test
+    void shouldSendMessagesToTopicArgumentOfEachCall() throws Exception {
+        Subscriber<String> subscriberOne = getSubscriber("DynamicOne");
+        Subscriber<String> subscriberTwo = getSubscriber("DynamicTwo");
+        CompletableFuture<List<Subscriber.Element<String>>> futureOne = subscriberOne.receive(10);
+        CompletableFuture<List<Subscriber.Element<String>>> futureTwo = subscriberTwo.receive(10);
+
+        List<String> messagesOne = List.of("One-1", "One-2", "One-3");
+        List<String> messagesTwo = List.of("Two-1", "Two-2", "Two-3");
+        for (int i = 0; i < messagesOne.size(); i++) {
+            publishersOne.sendTo("DynamicOne", messagesOne.get(i));
+            publishersOne.sendTo("DynamicTwo", messagesTwo.get(i));
+        }
+
+        List<String> receivedOne = new ArrayList<>();
+        while (receivedOne.size() < messagesOne.size()) {
+            futureOne.get(1, TimeUnit.MINUTES).forEach(element -> receivedOne.add(element.getValue()));
+            futureOne = subscriberOne.receive(10);
+        }
+        List<String> receivedTwo = new ArrayList<>();
+        while (receivedTwo.size() < messagesTwo.size()) {
+            futureTwo.get(1, TimeUnit.MINUTES).forEach(element -> receivedTwo.add(element.getValue()));
+            futureTwo = subscriberTwo.receive(10);
+        }
+        assertThat(receivedOne, containsInAnyOrder(messagesOne.toArray()));
+        assertThat(receivedTwo, containsInAnyOrder(messagesTwo.toArray()));
+    }
+
     @Test
     void shouldSendMessageWithAsyncResponse() throws Exception {
         Subscriber<String> subscriber = getSubscriber("Two");
@@ -94,6 +135,35 @@ class CoherencePublisherTest {
         assertThat(element.getValue(), is(message));
     }
 
+    @Test
+    void shouldSendMessagesConcurrently() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("Concurrent");
+        CompletableFuture<List<Subscriber.Element<String>>> future = subscriber.receive(100);
+
+        // the threads share the publisher that is resolved for the method on first use
+        List<String> messages = new ArrayList<>();
+        List<CompletableFuture<Void>> sent = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 100; i++) {
+                String message = "Concurrent-" + i;
+                messages.add(message);
+                sent.add(CompletableFuture.supplyAsync(() -> publishersOne.sendConcurrent(message), executor)
+                        .thenCompose(Function.identity()));
+            }
+            CompletableFuture.allOf(sent.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdown();
+        }
+
+        List<String> received = new ArrayList<>();
+        while (received.size() < messages.size()) {
+            future.get(1, TimeUnit.MINUTES).forEach(element -> received.add(element.getValue()));
+            future = subscriber.receive(100);
+        }
+        assertThat(received, containsInAnyOrder(messages.toArray()));
+    }
+
     @Test
     void shouldSendMessageWithReactiveResponse() throws Exception {
         Subscriber<String> subscriber = getSubscriber("Three");
@@ -233,6 +303,75 @@ class CoherencePublisherTest {
         assertThat(element.getValue(), is("Three"));
     }
 
+    @Test
+    void shouldSendIterableInBatches() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("BatchOne");
+        CompletableFuture<List<Subscriber.Element<String>>> future = subscriber.receive(10);
+
+        List<String> messages = List.of("One", "Two", "Three", "Four", "Five");
+        batchPublishers.send(messages);
+
+        List<String> received = new ArrayList<>();
+        while (received.size() < messages.size()) {
+            future.get(1, TimeUnit.MINUTES).forEach(element -> received.add(element.getValue()));
+            future = subscriber.receive(10);
+        }
+        // groups may be published from different threads, so may be received from different channels
+        assertThat(received, containsInAnyOrder(messages.toArray()));
+    }
+
+    @Test
+    void shouldSendReactiveMessagesInBatches() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("BatchTwo");
+        CompletableFuture<List<Subscriber.Element<String>>> future = subscriber.receive(10);
+
+        List<String> messages = List.of("One", "Two", "Three", "Four", "Five");
+        List<String> sent = batchPublishers.sendReactive(Flux.fromIterable(messages))
+                .collectList()
+                .block(Duration.ofMinutes(1));
+        assertThat(sent, is(messages));
+
+        List<String> received = new ArrayList<>();
+        while (received.size() < messages.size()) {
+            future.get(1, TimeUnit.MINUTES).forEach(element -> received.add(element.getValue()));
+            future = subscriber.receive(10);
+        }
+        // groups may be published from different threads, so may be received from different channels
+        assertThat(received, containsInAnyOrder(messages.toArray()));
+    }
+
+    @Test
+    void shouldSendMessagesWithSameKeyToSameChannel() throws Exception {
+        Subscriber<String> subscriber = getSubscriber("Keyed");
+        CompletableFuture<List<Subscriber.Element<String>>> future = subscriber.receive(100);
+
+        int count = 10;
+        for (int i = 0; i < count; i++) {
+            publishersOne.sendKeyed("A", "A-" + i);
+            publishersOne.sendKeyed("B", "B-" + i);
+        }
+
+        Map<String, List<Subscriber.Element<String>>> received = new HashMap<>();
+        int total = 0;
+        while (total < count * 2) {
+            for (Subscriber.Element<String> element : future.get(1, TimeUnit.MINUTES)) {
+                received.computeIfAbsent(element.getValue().substring(0, 1), k -> new ArrayList<>()).add(element);
+                total++;
+            }
+            future = subscriber.receive(100);
+        }
+
+        for (String key : List.of("A", "B")) {
+            List<Subscriber.Element<String>> elements = received.get(key);
+            assertThat(elements.size(), is(count));
+            int channel = elements.get(0).getChannel();
+            for (int i = 0; i < count; i++) {
+                assertThat(elements.get(i).getChannel(), is(channel));
+                assertThat(elements.get(i).getValue(), is(key + "-" + i));
+            }
+        }
+    }
+
     private Subscriber<String> getSubscriber(String name) {
         NamedTopic<String> topic = coherence.getSession().getTopic(name);
         return topic.createSubscriber();
@@ -250,6 +389,9 @@ class CoherencePublisherTest {
         @Topic("Two")
         CompletableFuture<Void> sendAsync(String message);
 
+        @Topic("Concurrent")
+        CompletableFuture<Void> sendConcurrent(String message);
+
         @Topic("Three")
         Mono<Void> sendWithReactiveResponse(String message);
 
@@ -261,5 +403,19 @@ class CoherencePublisherTest {
 
         @Topic("Six")
         Mono<Void> sendReactiveWithReactiveResponse(Flux<String> observable);
+
+        @Topic("Keyed")
+        void sendKeyed(@MessageKey String key, String message);
+    }
+
+    @Singleton
+    @CoherencePublisher(batchSize = 2, linger = "10ms")
+    @Requires(env = "CoherencePublisherTest")
+    interface BatchPublishers {
+        @Topic("BatchOne")
+        void send(List<String> messages);
+
+        @Topic("BatchTwo")
+        Flux<String> sendReactive(Flux<String> messages);
     }
 }
@@ -16,6 +16,7 @@
 package io.micronaut.coherence.messaging;
 
 import com.tangosol.net.PagedTopicService;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -85,6 +86,18 @@ class CoherenceTopicListenerTest {
     @Inject
     ListenerSix listenerSix;
 
+    @Inject
+    ListenerSeven listenerSeven;
+
+    @Inject
+    ListenerEight listenerEight;
+
+    @Inject
+    ListenerNine listenerNine;
+
+    @Inject
+    ListenerTen listenerTen;
+
     @Inject
     CoherenceTopicListenerProcessor processor;
 
@@ -302,6 +315,13 @@ class CoherenceTopicListenerTest {
             assertThat(listenerFour.lastBinary, is(notNullValue()));
             Serializer serializer = publisher.getNamedTopic().getService().getSerializer();
             assertThat(ExternalizableHelper.fromBinary(listenerFour.lastBinary, serializer), is(message));
+            // every argument of a method mixing element bindings is bound from the same element
+            assertThat(listenerFour.lastChannelSeven, is(status.getChannel()));
+            assertThat(listenerFour.lastPositionSeven, is(status.getPosition()));
+            assertThat(listenerFour.lastElementSeven, is(notNullValue()));
+            assertThat(listenerFour.lastTimestampSeven, is(listenerFour.lastElementSeven.getTimestamp()));
+            assertThat(listenerFour.lastElementSeven.getPosition(), is(status.getPosition()));
+            assertThat(listenerFour.lastValueSeven, is(message));
         }
     }
 
@@ -338,6 +358,24 @@ class CoherenceTopicListenerTest {
         }
     }
 
+    @Test
+    public void shouldCommitWithPipelinedStrategy() throws Exception {
+        NamedTopic<String> topic = coherence.getSession().getTopic("TwentyPipelined");
+        PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (PagedTopicService) topic.getService());
+        SubscriberGroupId groupId = SubscriberGroupId.withName(ListenerSix.GROUP_ID);
+
+        try (Publisher<String> publisher = topic.createPublisher()) {
+            int count = publisher.getChannelCount() * 10;
+            for (int i = 0 ; i < count; i++) {
+                publisher.publish("test").get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerSix.countPipelined.get(), is(count));
+            Eventually.assertDeferred(() -> caches.isCommitted(groupId, listenerSix.element.getChannel(), listenerSix.element.getPosition()), is(true));
+            Eventually.assertDeferred(() -> processor.getCommitLag(), is(0L));
+        }
+    }
+
     @Test
     public void shouldCommitWithSyncStrategy() throws Exception {
         NamedTopic<String> topic = coherence.getSession().getTopic("TwentySync");
@@ -394,6 +432,74 @@ class CoherenceTopicListenerTest {
         }
     }
 
+    @Test
+    public void shouldReceiveBatches() throws Exception {
+        NamedTopic<String> topic = coherence.getSession().getTopic("TwentyOne");
+        PagedTopicCaches caches = new PagedTopicCaches(topic.getName(), (PagedTopicService) topic.getService());
+        SubscriberGroupId groupId = SubscriberGroupId.withName(ListenerSeven.GROUP_ID);
+
+        List<String> expected = new ArrayList<>();
+        try (Publisher<String> publisher = topic.createPublisher(Publisher.OrderBy.id(0))) {
+            for (int i = 0; i < 25; i++) {
+                String message = "message-" + i;
+                expected.add(message);
+                publisher.publish(message).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerSeven.elements.size(), is(expected.size()));
+            Eventually.assertDeferred(() -> listenerSeven.values.size(), is(expected.size()));
+            assertThat(listenerSeven.elements.stream().map(Subscriber.Element::getValue).toList(), is(expected));
+            assertThat(listenerSeven.values, is(expected));
+            assertThat(listenerSeven.maxBatch.get() <= ListenerSeven.BATCH_SIZE, is(true));
+
+            Subscriber.Element<String> last = listenerSeven.elements.get(expected.size() - 1);
+            Eventually.assertDeferred(() -> caches.isCommitted(groupId, last.getChannel(), last.getPosition()), is(true));
+        }
+    }
+
+    @Test
+    public void shouldReceiveConcurrentlyInChannelOrder() throws Exception {
+        try (Publisher<Integer> publisher = getPublisher("TwentyTwo", Publisher.OrderByValue.value(v -> ((Number) v).intValue()))) {
+            int channelCount = publisher.getChannelCount();
+            int expected = channelCount * 10;
+            for (int i = 0; i < expected; i++) {
+                publisher.publish(i).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerEight.received.get(), is(expected));
+            assertThat(listenerEight.outOfOrder.get(), is(0));
+        }
+    }
+
+    @Test
+    public void shouldReceiveOnExecutorInChannelOrder() throws Exception {
+        try (Publisher<Integer> publisher = getPublisher("TwentyThree", Publisher.OrderByValue.value(v -> ((Number) v).intValue()))) {
+            int channelCount = publisher.getChannelCount();
+            int expected = channelCount * 10;
+            for (int i = 0; i < expected; i++) {
+                publisher.publish(i).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerNine.received.get(), is(expected));
+            assertThat(listenerNine.outOfOrder.get(), is(0));
+        }
+    }
+
+    @Test
+    public void shouldParkChannelWhileRetrying() throws Exception {
+        try (Publisher<Integer> publisher = getPublisher("TwentyFour", Publisher.OrderByValue.value(v -> ((Number) v).intValue()))) {
+            int channelCount = publisher.getChannelCount();
+            int expected = channelCount * 10;
+            for (int i = 0; i < expected; i++) {
+                publisher.publish(i).get(1, TimeUnit.MINUTES);
+            }
+
+            Eventually.assertDeferred(() -> listenerTen.received.get(), is(expected));
+            assertThat(listenerTen.failed.isEmpty(), is(false));
+            assertThat(listenerTen.outOfOrder.get(), is(0));
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private <T> Publisher<T> getPublisher(String name, Publisher.Option... options) {
         NamedTopic<String> topic = coherence.getSession().getTopic(name);
@@ -541,7 +647,7 @@ class CoherenceTopicListenerTest {
     @Requires(env = "CoherenceTopicListenerTest")
     static class ListenerFour {
 
-        final CountDownLatch latch = new CountDownLatch(6);
+        final CountDownLatch latch = new CountDownLatch(7);
         Subscriber.Element<String> lastElementOne;
         Subscriber.Element<String> lastElementTwo;
         Subscriber<String> lastSubscriberTwo;
@@ -551,6 +657,11 @@ class CoherenceTopicListenerTest {
         String lastValueFive;
         Position lastPositionFive;
         Binary lastBinary;
+        int lastChannelSeven;
+        Position lastPositionSeven;
+        Instant lastTimestampSeven;
+        Subscriber.Element<String> lastElementSeven;
+        String lastValueSeven;
 
         @Topic("Eighteen")
         @SubscriberGroup("One")
@@ -595,6 +706,18 @@ class CoherenceTopicListenerTest {
             latch.countDown();
         }
 
+        @Topic("Eighteen")
+        @SubscriberGroup("Seven")
+        @CoherenceTopicListener
+        void mixed(int channel, Position position, Instant timestamp, Subscriber.Element<String> element, String value) {
+            lastChannelSeven = channel;
+            lastPositionSeven = position;
+            lastTimestampSeven = timestamp;
+            lastElementSeven = element;
+            lastValueSeven = value;
+            latch.countDown();
+        }
+
         @Topic("Eighteen")
         @SubscriberGroup("Six")
         @CoherenceTopicListener
@@ -641,6 +764,7 @@ class CoherenceTopicListenerTest {
         private final AtomicInteger countManual = new AtomicInteger();
         private final AtomicInteger countAsync = new AtomicInteger();
         private final AtomicInteger countSync = new AtomicInteger();
+        private final AtomicInteger countPipelined = new AtomicInteger();
         private final AtomicInteger countDefault = new AtomicInteger();
 
         private volatile Subscriber.Element<String> element;
@@ -665,6 +789,14 @@ class CoherenceTopicListenerTest {
             countAsync.incrementAndGet();
         }
 
+        @Topic("TwentyPipelined")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(commitStrategy = CommitStrategy.PIPELINED)
+        void pipelined(Subscriber.Element<String> e) {
+            element = e;
+            countPipelined.incrementAndGet();
+        }
+
         @Topic("TwentySync")
         @SubscriberGroup(GROUP_ID)
         @CoherenceTopicListener(commitStrategy = CommitStrategy.SYNC)
@@ -681,4 +813,102 @@ class CoherenceTopicListenerTest {
             countDefault.incrementAndGet();
         }
     }
+
+    @Singleton
+    @Requires(env = "CoherenceTopicListenerTest")
+    static class ListenerSeven {
+        public static final String GROUP_ID = "test";
+
+        public static final int BATCH_SIZE = 10;
+
+        private final List<Subscriber.Element<String>> elements = Collections.synchronizedList(new ArrayList<>());
+
+        private final List<String> values = Collections.synchronizedList(new ArrayList<>());
+
+        private final AtomicInteger maxBatch = new AtomicInteger();
+
+        @Topic("TwentyOne")
+        @SubscriberGroup(GROUP_ID)
+        @CoherenceTopicListener(batchSize = BATCH_SIZE, batchWait = "100ms")
+        void elements(List<Subscriber.Element<String>> batch) {
+            maxBatch.accumulateAndGet(batch.size(), Math::max);
+            elements.addAll(batch);
+        }
+
+        @Topic("TwentyOne")
+        @SubscriberGroup("values")
+        @CoherenceTopicListener(batchSize = BATCH_SIZE)
+        void values(List<String> batch) {
+            maxBatch.accumulateAndGet(batch.size(), Math::max);
+            values.addAll(batch);
+        }
+    }
+
+    @Singleton
+    @Requires(env = "CoherenceTopicListenerTest")
+    static class ListenerEight {
+        private final Map<Integer, Integer> lastValue = new java.util.concurrent.ConcurrentHashMap<>();
+
+        private final AtomicInteger received = new AtomicInteger();
+
+        private final AtomicInteger outOfOrder = new AtomicInteger();
+
+        @Topic("TwentyTwo")
+        @CoherenceTopicListener(concurrency = 4)
+        void receive(int channel, Integer value) throws InterruptedException {
+            Integer previous = lastValue.put(channel, value);
+            if (previous != null && previous > value) {
+                outOfOrder.incrementAndGet();
+            }
+            Thread.sleep(5);
+            received.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    @Requires(env = "CoherenceTopicListenerTest")
+    static class ListenerNine {
+        private final Map<Integer, Integer> lastValue = new java.util.concurrent.ConcurrentHashMap<>();
+
+        private final AtomicInteger received = new AtomicInteger();
+
+        private final AtomicInteger outOfOrder = new AtomicInteger();
+
+        @Topic("TwentyThree")
+        @CoherenceTopicListener(executor = ListenerExecutor.VIRTUAL, concurrency = 2)
+        void receive(int channel, Integer value) throws InterruptedException {
+            Integer previous = lastValue.put(channel, value);
+            if (previous != null && previous > value) {
+                outOfOrder.incrementAndGet();
+            }
+            Thread.sleep(5);
+            received.incrementAndGet();
+        }
+    }
+
+    @Singleton
+    @Requires(env = "CoherenceTopicListenerTest")
+    static class ListenerTen {
+        private final Map<Integer, Integer> lastValue = new java.util.concurrent.ConcurrentHashMap<>();
+
+        private final Set<Integer> failed = java.util.concurrent.ConcurrentHashMap.newKeySet();
+
+        private final AtomicInteger received = new AtomicInteger();
+
+        private final AtomicInteger outOfOrder = new AtomicInteger();
+
+        @Topic("TwentyFour")
+        @CoherenceTopicListener(concurrency = 4, retries = 2, retryDelay = "50ms")
+        void receive(int channel, Integer value) {
+            // a retried element must be attempted again before any later element from its channel
+            Integer previous = lastValue.put(channel, value);
+            if (previous != null && previous > value) {
+                outOfOrder.incrementAndGet();
+            }
+            if (value % 7 == 3 && failed.add(value)) {
+                throw new IllegalStateException("Failing first attempt for " + value);
+            }
+            received.incrementAndGet();
+        }
+    }
 }
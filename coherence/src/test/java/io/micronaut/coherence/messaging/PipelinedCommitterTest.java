@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.tangosol.net.topic.Position;
+import com.tangosol.net.topic.Subscriber;
+import io.micronaut.coherence.metrics.CoherenceMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+class PipelinedCommitterTest {
+
+    @Test
+    void shouldBackOffWhenCommitFailsSynchronously() {
+        Subscriber subscriber = mock(Subscriber.class);
+        AtomicInteger attempts = new AtomicInteger();
+        when(subscriber.isActive()).thenReturn(true);
+        when(subscriber.commitAsync(anyMap())).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() <= 3) {
+                throw new IllegalStateException("commit failed");
+            }
+            Map<Integer, Position> positions = invocation.getArgument(0);
+            Map<Integer, Subscriber.CommitResult> results = new java.util.HashMap<>();
+            positions.keySet().forEach(channel -> results.put(channel, mock(Subscriber.CommitResult.class)));
+            results.values().forEach(result -> when(result.isSuccess()).thenReturn(true));
+            return CompletableFuture.completedFuture(results);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PipelinedCommitter committer = new PipelinedCommitter(subscriber, CoherenceMetrics.SubscriberMetrics.NONE, executor);
+            committer.processed(0, mock(Position.class), 1);
+
+            Eventually.assertDeferred(committer::getCommitLag, is(0L));
+            assertThat(attempts.get(), is(4));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldBackOffWhenCommitFutureAlreadyFailed() {
+        Subscriber subscriber = mock(Subscriber.class);
+        AtomicInteger attempts = new AtomicInteger();
+        when(subscriber.isActive()).thenReturn(true);
+        when(subscriber.commitAsync(anyMap())).thenAnswer(invocation -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("commit failed"));
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            PipelinedCommitter committer = new PipelinedCommitter(subscriber, CoherenceMetrics.SubscriberMetrics.NONE, executor);
+            committer.processed(0, mock(Position.class), 1);
+
+            Eventually.assertDeferred(attempts::get, greaterThanOrEqualTo(3));
+            // retries are delayed by an increasing backoff rather than sent in a tight loop
+            assertThat(attempts.get() < 10, is(true));
+            assertThat(committer.getCommitLag(), is(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
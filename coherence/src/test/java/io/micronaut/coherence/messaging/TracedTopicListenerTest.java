@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.messaging;
+
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+import com.tangosol.net.Coherence;
+import com.tangosol.net.topic.NamedTopic;
+import com.tangosol.net.topic.Publisher;
+import com.tangosol.net.topic.Subscriber;
+import data.Person;
+import io.micronaut.coherence.annotation.CoherenceTopicListener;
+import io.micronaut.coherence.annotation.PropertyExtractor;
+import io.micronaut.coherence.annotation.Topic;
+import io.micronaut.coherence.annotation.WhereFilter;
+import io.micronaut.coherence.tracing.MessageContextPropagator;
+import io.micronaut.coherence.tracing.TracedMessage;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+/**
+ * Validates that filter and extractor bindings, and element parameters, of
+ * {@link CoherenceTopicListener} methods see through the {@link TracedMessage}
+ * wrapper when trace propagation is enabled.
+ */
+@MicronautTest(propertySources = "classpath:sessions.yaml", environments = "TracedTopicListenerTest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TracedTopicListenerTest {
+
+    static final Map<String, String> HEADERS = Map.of("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+
+    @Inject
+    Coherence coherence;
+
+    @Inject
+    TracedListener listener;
+
+    @Inject
+    RecordingPropagator propagator;
+
+    @Inject
+    CoherenceTopicListenerProcessor processor;
+
+    @BeforeEach
+    void setup() {
+        Eventually.assertDeferred(() -> processor.isSubscribed(), is(true));
+    }
+
+    @Test
+    void shouldFilterTracedMessages() throws Exception {
+        try (Publisher<Object> publisher = getPublisher("TracedFiltered")) {
+            Person homer = new Person("Homer", "Simpson", LocalDate.now(), null);
+            publisher.publish(new TracedMessage(new Person("Ned", "Flanders", LocalDate.now(), null), HEADERS)).get(1, TimeUnit.MINUTES);
+            publisher.publish(new TracedMessage(homer, HEADERS)).get(1, TimeUnit.MINUTES);
+
+            Eventually.assertDeferred(() -> listener.filtered, contains(homer));
+        }
+    }
+
+    @Test
+    void shouldConvertTracedMessagesAndKeepHeaders() throws Exception {
+        try (Publisher<Object> publisher = getPublisher("TracedConverted")) {
+            publisher.publish(new TracedMessage(new Person("Homer", "Simpson", LocalDate.now(), null), HEADERS)).get(1, TimeUnit.MINUTES);
+
+            Eventually.assertDeferred(() -> listener.converted, contains("Homer"));
+            assertThat(propagator.restored.get("TracedConverted"), is(HEADERS));
+        }
+    }
+
+    @Test
+    void shouldUnwrapElementValues() throws Exception {
+        try (Publisher<Object> publisher = getPublisher("TracedElements")) {
+            Person homer = new Person("Homer", "Simpson", LocalDate.now(), null);
+            publisher.publish(new TracedMessage(homer, HEADERS)).get(1, TimeUnit.MINUTES);
+
+            Eventually.assertDeferred(() -> listener.elements, contains(homer));
+            Eventually.assertDeferred(() -> listener.batchElements, contains(homer));
+        }
+    }
+
+    private Publisher<Object> getPublisher(String name) {
+        NamedTopic<Object> topic = coherence.getSession().getTopic(name);
+        return topic.createPublisher();
+    }
+
+    @Singleton
+    @Requires(env = "TracedTopicListenerTest")
+    static class RecordingPropagator implements MessageContextPropagator {
+        final Map<String, Map<String, String>> restored = new java.util.concurrent.ConcurrentHashMap<>();
+
+        @Override
+        public Map<String, String> currentHeaders() {
+            return null;
+        }
+
+        @Override
+        public Scope restore(String topicName, List<Map<String, String>> headers) {
+            if (!headers.isEmpty() && headers.get(0) != null) {
+                restored.put(topicName, headers.get(0));
+            }
+            return Scope.NONE;
+        }
+    }
+
+    @Singleton
+    @Requires(env = "TracedTopicListenerTest")
+    static class TracedListener {
+        final List<Person> filtered = new CopyOnWriteArrayList<>();
+
+        final List<String> converted = new CopyOnWriteArrayList<>();
+
+        final List<Object> elements = new CopyOnWriteArrayList<>();
+
+        final List<Object> batchElements = new CopyOnWriteArrayList<>();
+
+        @Topic("TracedFiltered")
+        @CoherenceTopicListener
+        @WhereFilter("lastName == 'Simpson'")
+        void receiveFiltered(Person person) {
+            filtered.add(person);
+        }
+
+        @Topic("TracedConverted")
+        @CoherenceTopicListener
+        @PropertyExtractor("firstName")
+        void receiveConverted(String firstName) {
+            converted.add(firstName);
+        }
+
+        @Topic("TracedElements")
+        @CoherenceTopicListener
+        void receiveElement(Subscriber.Element<Person> element) {
+            elements.add(element.getValue());
+        }
+
+        @Topic("TracedElements")
+        @CoherenceTopicListener(batchSize = 10)
+        void receiveElements(List<Subscriber.Element<Person>> batch) {
+            batch.forEach(element -> batchElements.add(element.getValue()));
+        }
+    }
+}
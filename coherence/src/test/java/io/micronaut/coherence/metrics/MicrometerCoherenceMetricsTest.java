@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MicrometerCoherenceMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRecordSubscriberMetrics() {
+        AtomicLong backlog = new AtomicLong(42);
+        MicrometerCoherenceMetrics metrics = new MicrometerCoherenceMetrics(registry, 10);
+        CoherenceMetrics.SubscriberMetrics subscriber = metrics.subscriber("orders", null, backlog::get);
+
+        subscriber.received(3, TimeUnit.MILLISECONDS.toNanos(5));
+        subscriber.processed(3, TimeUnit.MILLISECONDS.toNanos(2), true);
+        subscriber.processed(1, TimeUnit.MILLISECONDS.toNanos(2), false);
+        subscriber.committed(TimeUnit.MILLISECONDS.toNanos(1), true);
+
+        assertThat(registry.get("coherence.topic.subscriber.receive").tag("topic", "orders").tag("group", "anonymous")
+                .timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.subscriber.received").tag("topic", "orders").counter().count(), is(3.0));
+        assertThat(registry.get("coherence.topic.subscriber.process").tag("outcome", "success").timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.subscriber.process").tag("outcome", "error").timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.subscriber.processed").tag("outcome", "success").counter().count(), is(3.0));
+        assertThat(registry.get("coherence.topic.subscriber.processed").tag("outcome", "error").counter().count(), is(1.0));
+        assertThat(registry.get("coherence.topic.subscriber.commit").tag("outcome", "success").timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.subscriber.backlog").gauge().value(), is(42.0));
+
+        subscriber.close();
+        assertThat(registry.find("coherence.topic.subscriber.backlog").gauge(), is(nullValue()));
+        assertThat(registry.getMeters().isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldRemoveSubscriberMetersWhenLastSubscriberCloses() {
+        MicrometerCoherenceMetrics metrics = new MicrometerCoherenceMetrics(registry, 10);
+        CoherenceMetrics.SubscriberMetrics first = metrics.subscriber("orders", "audit", () -> 0);
+        CoherenceMetrics.SubscriberMetrics second = metrics.subscriber("orders", "audit", () -> 0);
+        first.received(1, 1L);
+        second.received(2, 1L);
+
+        first.close();
+        first.close();
+        assertThat(registry.get("coherence.topic.subscriber.received").counter().count(), is(3.0));
+        assertThat(registry.get("coherence.topic.subscriber.commit").tag("outcome", "success").timer(), is(notNullValue()));
+
+        second.close();
+        assertThat(registry.find("coherence.topic.subscriber.received").counter(), is(nullValue()));
+        assertThat(registry.getMeters().isEmpty(), is(true));
+    }
+
+    @Test
+    void shouldShareBacklogOfSubscribersInSameGroup() {
+        MicrometerCoherenceMetrics metrics = new MicrometerCoherenceMetrics(registry, 10);
+        CoherenceMetrics.SubscriberMetrics first = metrics.subscriber("orders", "audit", () -> 10);
+        CoherenceMetrics.SubscriberMetrics second = metrics.subscriber("orders", "audit", () -> 5);
+
+        assertThat(registry.get("coherence.topic.subscriber.backlog").gauge().value(), is(15.0));
+
+        first.close();
+        assertThat(registry.get("coherence.topic.subscriber.backlog").gauge().value(), is(5.0));
+
+        second.close();
+        assertThat(registry.find("coherence.topic.subscriber.backlog").gauge(), is(nullValue()));
+    }
+
+    @Test
+    void shouldRegisterCommitLag() {
+        MicrometerCoherenceMetrics metrics = new MicrometerCoherenceMetrics(registry, 10);
+        CoherenceMetrics.SubscriberMetrics first = metrics.subscriber("orders", "audit", () -> 0);
+        CoherenceMetrics.SubscriberMetrics second = metrics.subscriber("orders", "audit", () -> 0);
+        AtomicLong lag = new AtomicLong(3);
+        first.commitLag(lag::get);
+        second.commitLag(() -> 4);
+
+        assertThat(registry.get("coherence.topic.subscriber.commit.lag").tag("topic", "orders").tag("group", "audit")
+                .gauge().value(), is(7.0));
+        lag.set(1);
+        assertThat(registry.get("coherence.topic.subscriber.commit.lag").gauge().value(), is(5.0));
+
+        second.close();
+        assertThat(registry.get("coherence.topic.subscriber.commit.lag").gauge().value(), is(1.0));
+        first.close();
+        assertThat(registry.find("coherence.topic.subscriber.commit.lag").gauge(), is(nullValue()));
+    }
+
+    @Test
+    void shouldRecordListenerMetrics() {
+        MicrometerCoherenceMetrics metrics = new MicrometerCoherenceMetrics(registry, 10);
+        CoherenceMetrics.ListenerMetrics listener = metrics.listener("PersonListener.onInsert");
+
+        listener.dispatched(1, TimeUnit.MILLISECONDS.toNanos(1), true);
+        listener.dispatched(5, TimeUnit.MILLISECONDS.toNanos(1), false);
+
+        assertThat(registry.get("coherence.listener.events").tag("listener", "PersonListener.onInsert")
+                .counter().count(), is(6.0));
+        assertThat(registry.get("coherence.listener.dispatch").tag("outcome", "success").timer().count(), is(1L));
+        assertThat(registry.get("coherence.listener.dispatch").tag("outcome", "error").timer().count(), is(1L));
+    }
+
+    @Test
+    void shouldLimitPublishedTopicTags() {
+        MicrometerCoherenceMetrics metrics = new MicrometerCoherenceMetrics(registry, 2);
+
+        CoherenceMetrics.PublisherMetrics one = metrics.publisher("one");
+        metrics.publisher("two").published(1L, true);
+        metrics.publisher("three").published(1L, true);
+        metrics.publisher("four").published(1L, false);
+
+        assertThat(metrics.publisher("one"), is(sameInstance(one)));
+        assertThat(registry.get("coherence.topic.publisher.publish").tag("topic", "two").timer().count(), is(1L));
+        assertThat(registry.find("coherence.topic.publisher.publish").tag("topic", "three").timer(), is(nullValue()));
+        assertThat(registry.get("coherence.topic.publisher.publish").tag("topic", MicrometerCoherenceMetrics.OTHER_TOPIC)
+                .tag("outcome", "success").timer().count(), is(1L));
+        assertThat(registry.get("coherence.topic.publisher.publish").tag("topic", MicrometerCoherenceMetrics.OTHER_TOPIC)
+                .tag("outcome", "error").timer().count(), is(1L));
+    }
+}
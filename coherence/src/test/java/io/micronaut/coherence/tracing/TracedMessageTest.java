@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.coherence.tracing;
+
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.Extractors;
+import com.tangosol.util.Filters;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TracedMessageTest {
+
+    @Test
+    void shouldSerializeTracedMessage() {
+        Serializer serializer = new DefaultSerializer();
+        Map<String, String> headers = Map.of("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        TracedMessage message = new TracedMessage("value", headers);
+
+        Binary binary = ExternalizableHelper.toBinary(message, serializer);
+        TracedMessage result = ExternalizableHelper.fromBinary(binary, serializer);
+
+        assertThat(result, is(message));
+        assertThat(result.getHeaders(), is(headers));
+        assertThat(result.getValue(), is("value"));
+    }
+
+    @Test
+    void shouldUnwrapTracedMessage() {
+        TracedMessage message = new TracedMessage("value", Map.of("traceparent", "test"));
+
+        assertThat(TracedMessage.unwrap(message), is("value"));
+        assertThat(TracedMessage.headers(message), is(Map.of("traceparent", "test")));
+    }
+
+    @Test
+    void shouldNotUnwrapOtherMessages() {
+        assertThat(TracedMessage.unwrap("value"), is("value"));
+        assertThat(TracedMessage.headers("value"), is(nullValue()));
+    }
+
+    @Test
+    void shouldFilterWrappedMessage() {
+        TracedMessageFilter<String> filter = new TracedMessageFilter<>(Filters.equal(Extractors.identity(), "value"));
+
+        assertThat(filter.evaluate(new TracedMessage("value", Map.of("traceparent", "test"))), is(true));
+        assertThat(filter.evaluate(new TracedMessage("other", Map.of("traceparent", "test"))), is(false));
+        assertThat(filter.evaluate("value"), is(true));
+    }
+
+    @Test
+    void shouldConvertWrappedMessageAndKeepHeaders() {
+        TracedMessageExtractor<String, Integer> extractor = new TracedMessageExtractor<>(String::length);
+
+        assertThat(extractor.extract(new TracedMessage("value", Map.of("traceparent", "test"))),
+                is(new TracedMessage(5, Map.of("traceparent", "test"))));
+        assertThat(extractor.extract("value"), is(5));
+    }
+
+    @Test
+    void shouldSerializeFilterAndExtractor() {
+        Serializer serializer = new DefaultSerializer();
+        TracedMessageFilter<String> filter = new TracedMessageFilter<>(Filters.equal(Extractors.identity(), "value"));
+        TracedMessageExtractor<Object, Object> extractor = new TracedMessageExtractor<>(Extractors.identity());
+
+        TracedMessageFilter<String> filterResult = ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(filter, serializer), serializer);
+        TracedMessageExtractor<Object, Object> extractorResult = ExternalizableHelper.fromBinary(ExternalizableHelper.toBinary(extractor, serializer), serializer);
+
+        assertThat(filterResult, is(filter));
+        assertThat(extractorResult, is(extractor));
+    }
+}